@@ -25,15 +25,19 @@ import java.io.PrintWriter;
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Consumer;
 
 import javax.annotation.processing.AbstractProcessor;
 import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.element.AnnotationMirror;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
 import javax.tools.FileObject;
 import javax.tools.JavaFileObject;
@@ -50,7 +54,8 @@ import tendril.codegen.field.type.ClassType;
 /**
  * Abstract processor which takes care of all of the heavy lifting in terms of finding the annotated elements to process for the current round, loading their details and passing them to the
  * appropriate processing method ({@code processType()} or {@code processMethod()}. The core of this processing is performed by {@code defaultConsumer()}, which triggers the processing of the
- * annotated element as either a Type (class) or method.
+ * annotated element as either a Type (class) or method. Elements which refer to types that do not exist yet (i.e.: annotations which are generated by another processor) are
+ * deferred to the next round.
  */
 public abstract class AbstractTendrilProccessor extends AbstractProcessor {
     /** The type of class that is currently being processed */
@@ -63,6 +68,8 @@ public abstract class AbstractTendrilProccessor extends AbstractProcessor {
     protected RoundEnvironment roundEnv = null;
     /** Flag for whether the annotated element currently being processed is a method */
     private boolean isProcessingMethod = false;
+    /** Names of the elements whose processing was deferred to the next round, as they refer to types which do not yet exist */
+    private final Set<String> deferred = new LinkedHashSet<>();
     
     /**
      * CTOR
@@ -86,12 +93,31 @@ public abstract class AbstractTendrilProccessor extends AbstractProcessor {
             return false;
         }
 
+        // Retry whatever was deferred, as the types it was waiting on may have been generated in the previous round
+        List<Element> retry = new ArrayList<>();
+        deferred.forEach(name -> {
+            Element e = findElement(name);
+            if (e != null)
+                retry.add(e);
+        });
+        deferred.clear();
+        retry.forEach(defaultConsumer());
+        
         annotations.forEach(annotation -> {
             findAndProcessElements(annotation);
         });
+        roundComplete();
         return false;
     }
 
+    /**
+     * Called once all of the elements of the round have been processed, such that anything which spans multiple elements can be generated while it can still be
+     * processed in the next round
+     */
+    protected void roundComplete() {
+
+    }
+
     /**
      * Called when an error was raised in the {@link RoundEnvironment}
      */
@@ -114,7 +140,10 @@ public abstract class AbstractTendrilProccessor extends AbstractProcessor {
      */
     protected Consumer<? super Element> defaultConsumer() {
         return element -> {
-            if (element instanceof TypeElement) {
+            if (hasUnresolvedTypes(element)) {
+                // Processing must wait until the types are generated (by this or another processor), if they are never generated the compiler reports them as missing
+                deferred.add(getElementName(element));
+            } else if (element instanceof TypeElement) {
                 isProcessingMethod = false;
                 prepareAndProcessType((TypeElement) element);
             } else if (element instanceof ExecutableElement) {
@@ -125,6 +154,80 @@ public abstract class AbstractTendrilProccessor extends AbstractProcessor {
         };
     }
 
+    /**
+     * Check whether the element refers to any types which do not (yet) exist, either as its annotations or the annotations/types of its members. As the whole class is loaded
+     * when processing a method, the class containing a method is checked as well.
+     * 
+     * @param element {@link Element} to check
+     * @return boolean true if any type that the element refers to cannot be resolved
+     */
+    private boolean hasUnresolvedTypes(Element element) {
+        if (element instanceof ExecutableElement)
+            element = element.getEnclosingElement();
+        
+        if (isUnresolved(element))
+            return true;
+        for (Element member : element.getEnclosedElements()) {
+            if (isUnresolved(member))
+                return true;
+            if (member instanceof ExecutableElement method) {
+                for (VariableElement param : method.getParameters()) {
+                    if (isUnresolved(param))
+                        return true;
+                }
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Check whether any of the annotations of the element, or the type of the element if it is a variable, cannot be resolved
+     * 
+     * @param element {@link Element} to check
+     * @return boolean true if any type cannot be resolved
+     */
+    private boolean isUnresolved(Element element) {
+        if (element instanceof VariableElement && element.asType().getKind() == TypeKind.ERROR)
+            return true;
+        for (AnnotationMirror m : element.getAnnotationMirrors()) {
+            if (m.getAnnotationType().getKind() == TypeKind.ERROR)
+                return true;
+        }
+        return false;
+    }
+    
+    /**
+     * Get the name through which the element can be found in a subsequent round. Elements are looked up anew, rather than being retained, as the elements of a previous
+     * round may not reflect the types that have since been generated.
+     * 
+     * @param element {@link Element} whose name is to be determined
+     * @return {@link String} name of the element
+     */
+    private String getElementName(Element element) {
+        if (element instanceof TypeElement type)
+            return type.getQualifiedName().toString();
+        return ((TypeElement) element.getEnclosingElement()).getQualifiedName() + "::" + element;
+    }
+    
+    /**
+     * Find the element with the name (as determined by {@code getElementName()}) in the current round
+     * 
+     * @param name {@link String} name of the element
+     * @return {@link Element} with the name, or null if it cannot be found
+     */
+    private Element findElement(String name) {
+        String[] parts = name.split("::", 2);
+        TypeElement type = processingEnv.getElementUtils().getTypeElement(parts[0]);
+        if (type == null || parts.length == 1)
+            return type;
+        
+        for (Element e : type.getEnclosedElements()) {
+            if (e.toString().equals(parts[1]))
+                return e;
+        }
+        return null;
+    }
+
     /**
      * Finds and processing found elements through the {@code defaultConsumer()}.
      * 
@@ -22,16 +22,20 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 
 import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.ElementKind;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
 import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
 
 import org.apache.commons.lang3.StringUtils;
@@ -42,6 +46,7 @@ import tendril.codegen.JBase;
 import tendril.codegen.VisibilityType;
 import tendril.codegen.annotation.JAnnotation;
 import tendril.codegen.classes.ClassBuilder;
+import tendril.codegen.classes.EnumerationEntry;
 import tendril.codegen.classes.FieldBuilder;
 import tendril.codegen.classes.JClass;
 import tendril.codegen.classes.MethodBuilder;
@@ -54,6 +59,9 @@ import tendril.codegen.field.type.ClassType;
 import tendril.codegen.field.type.Type;
 import tendril.codegen.field.type.TypeFactory;
 import tendril.codegen.field.value.JValue;
+import tendril.codegen.field.value.JValueFactory;
+import tendril.codegen.generics.GenericFactory;
+import tendril.codegen.generics.GenericType;
 
 /**
  * Handles the loading of items from the Annotation Processing {@link Element}s into {@link JBase} representations
@@ -95,6 +103,7 @@ public abstract class ElementLoader {
                 // Load all fields that are present
                 Type t = TypeFactory.create(e.asType());
                 FieldBuilder<Type> fieldBuilder = builder.buildField(t, e.getSimpleName().toString());
+                loadGenerics(fieldBuilder, e.asType());
                 loadFieldDetails(fieldBuilder, (VariableElement) e);
             } else if (kind == ElementKind.METHOD) {
                 // Load all methods that are present
@@ -185,6 +194,7 @@ public abstract class ElementLoader {
         for (int i = 0; i < parameters.size(); i++) {
             VariableElement varElement = parameters.get(i);
             ParameterBuilder<?, ?> paramBuilder = new ParameterBuilder<>(TypeFactory.create(parameterTypes.get(i)), varElement.getSimpleName().toString());
+            loadGenerics(paramBuilder, parameterTypes.get(i));
             loadAnnotations(paramBuilder, varElement);
             builder.addParameter(paramBuilder.build());
         }
@@ -196,6 +206,43 @@ public abstract class ElementLoader {
         cache.put(element, builder.build());
     }
     
+    /**
+     * Load the generics which are applied to the type of a field or parameter into its builder. Only generics which explicitly resolve to a class are loaded, where any
+     * other generic is applied (i.e.: wildcards or type variables) none are loaded, with the type being treated as raw. The generics which are applied to the explicit
+     * classes are loaded in turn, such that the full parameterized type is retained (i.e.: {@code Map<String, List<Integer>>}).
+     * 
+     * @param builder {@link BaseBuilder} which is building the field or parameter
+     * @param mirror {@link TypeMirror} of the type of the field or parameter
+     */
+    private static void loadGenerics(BaseBuilder<?, ?> builder, TypeMirror mirror) {
+        List<GenericType> generics = createGenerics(mirror);
+        if (generics != null)
+            generics.forEach(builder::addGeneric);
+    }
+    
+    /**
+     * Create the generics which are applied to the type, with each explicit class carrying the generics which are applied to it.
+     * 
+     * @param mirror {@link TypeMirror} of the type whose generics are to be created
+     * @return {@link List} of {@link GenericType}s applied to the type, or null if any of them (at any depth) does not explicitly resolve to a class
+     */
+    private static List<GenericType> createGenerics(TypeMirror mirror) {
+        if (mirror.getKind() != TypeKind.DECLARED)
+            return null;
+        
+        List<GenericType> generics = new ArrayList<>();
+        for (TypeMirror arg: ((DeclaredType) mirror).getTypeArguments()) {
+            List<GenericType> nested = createGenerics(arg);
+            if (nested == null)
+                return null;
+            
+            ClassType argType = (ClassType) TypeFactory.create(arg);
+            nested.forEach(argType::addGeneric);
+            generics.add(GenericFactory.create(argType));
+        }
+        return generics;
+    }
+    
     /**
      * Load the details of the field into the builder
      * 
@@ -249,9 +296,40 @@ public abstract class ElementLoader {
                     builder.addAnnotation(annonData);
                 }
             } catch (ClassNotFoundException e) {
-                e.printStackTrace();
+                // The annotation is being compiled alongside the element (i.e.: it was generated), so it can only be loaded from the mirror
+                builder.addAnnotation(loadAnnotation(annonType, m));
+            }
+        }
+    }
+    
+    /**
+     * Load the annotation from its mirror. Only the values which are explicitly applied are loaded (the defaults are not known), and only constant and enum values are
+     * supported.
+     * 
+     * @param annonType {@link ClassType} of the annotation
+     * @param mirror    {@link AnnotationMirror} of the annotation that has been applied
+     * @return {@link JAnnotation} representing the annotation
+     */
+    private static JAnnotation loadAnnotation(ClassType annonType, AnnotationMirror mirror) {
+        JAnnotation annonData = new JAnnotation(annonType);
+        
+        for (Entry<? extends ExecutableElement, ? extends AnnotationValue> attribute : mirror.getElementValues().entrySet()) {
+            Object value = attribute.getValue().getValue();
+            JValue<?, ?> jValue;
+            if (value instanceof VariableElement enumValue && enumValue.getKind() == ElementKind.ENUM_CONSTANT)
+                jValue = JValueFactory.create(EnumerationEntry.from(deriveClassData((TypeElement) enumValue.getEnclosingElement()), enumValue.getSimpleName().toString()));
+            else if (value instanceof String || value instanceof Number || value instanceof Boolean || value instanceof Character)
+                jValue = JValueFactory.create(value);
+            else {
+                System.err.println("Unable to load the value of " + annonType.getFullyQualifiedName() + "::" + attribute.getKey().getSimpleName() + " - " + value);
+                continue;
             }
+            
+            Type attributeType = TypeFactory.create(attribute.getKey().getReturnType());
+            annonData.addAttribute(new AnonymousMethod<Type>(attributeType, attribute.getKey().getSimpleName().toString()), jValue);
         }
+        
+        return annonData;
     }
     
     /**
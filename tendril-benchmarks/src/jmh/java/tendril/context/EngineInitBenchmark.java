@@ -0,0 +1,185 @@
+/*
+ * Copyright 2025 Jaroslav Bosak
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/license/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tendril.context;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the initialization of the {@link Engine} for varying numbers of recipes. The beans of each size are compiled into a separate jar, which is loaded along with the
+ * tendril libraries in an isolated {@link ClassLoader} such that the engine only finds the recipes of the size being benchmarked.
+ * 
+ * Two variants are benchmarked:
+ * <ul>
+ *      <li>warm - repeated initialization within the same class loader, where all classes are already loaded</li>
+ *      <li>cold - a single initialization within a fresh class loader, including the loading of the classes</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class EngineInitBenchmark {
+
+    /** The number of recipes the engine is to be initialized with */
+    @Param({ "10", "1000", "10000" })
+    private int recipes;
+
+    /** Class loader from which the engine is loaded for the warm initialization */
+    private IsolatedEngine warm;
+
+    /**
+     * Engine loaded in an isolated class loader
+     */
+    private static class IsolatedEngine {
+        /** The isolated loader */
+        private final URLClassLoader loader;
+        /** Constructor of the engine */
+        private final Constructor<?> ctor;
+        /** The init method of the engine */
+        private final Method init;
+
+        /**
+         * CTOR
+         * 
+         * @param recipes int the number of recipes the engine is to find
+         * @throws Exception if the engine cannot be loaded
+         */
+        private IsolatedEngine(int recipes) throws Exception {
+            List<URL> urls = new ArrayList<>();
+            for (String path : System.getProperty("tendril.benchmark.classpath").split(File.pathSeparator))
+                urls.add(Path.of(path).toUri().toURL());
+            urls.add(Path.of(System.getProperty("tendril.benchmark.beans." + recipes)).toUri().toURL());
+
+            loader = new URLClassLoader(urls.toArray(new URL[urls.size()]), ClassLoader.getPlatformClassLoader());
+            Class<?> engine = loader.loadClass(Engine.class.getName());
+            ctor = engine.getConstructor();
+            init = engine.getDeclaredMethod("init");
+            init.setAccessible(true);
+        }
+
+        /**
+         * Create and initialize an engine
+         * 
+         * @return {@link Object} the initialized engine
+         * @throws Exception if the engine cannot be initialized
+         */
+        private Object init() throws Exception {
+            Object engine = ctor.newInstance();
+            init.invoke(engine);
+            return engine;
+        }
+    }
+
+    /**
+     * State providing a fresh class loader for every invocation
+     */
+    @State(Scope.Thread)
+    public static class ColdState {
+        /** The engine to initialize */
+        private IsolatedEngine cold;
+
+        /**
+         * Load the engine in a fresh class loader
+         * 
+         * @param benchmark {@link EngineInitBenchmark} indicating the number of recipes
+         * @throws Exception if the engine cannot be loaded
+         */
+        @Setup(Level.Invocation)
+        public void load(EngineInitBenchmark benchmark) throws Exception {
+            cold = new IsolatedEngine(benchmark.recipes);
+        }
+
+        /**
+         * Close the class loader
+         * 
+         * @throws IOException if the loader cannot be closed
+         */
+        @TearDown(Level.Invocation)
+        public void close() throws IOException {
+            cold.loader.close();
+        }
+    }
+
+    /**
+     * Load the engine for the warm initialization
+     * 
+     * @throws Exception if the engine cannot be loaded
+     */
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        warm = new IsolatedEngine(recipes);
+    }
+
+    /**
+     * Close the class loader of the warm initialization
+     * 
+     * @throws IOException if the loader cannot be closed
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        warm.loader.close();
+    }
+
+    /**
+     * Initialize an engine where all classes are already loaded
+     * 
+     * @return {@link Object} the initialized engine
+     * @throws Exception if the engine cannot be initialized
+     */
+    @Benchmark
+    public Object warmInit() throws Exception {
+        return warm.init();
+    }
+
+    /**
+     * Initialize an engine in a fresh class loader
+     * 
+     * @param state {@link ColdState} providing the fresh class loader
+     * @return {@link Object} the initialized engine
+     * @throws Exception if the engine cannot be initialized
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Measurement(iterations = 20)
+    public Object coldInit(ColdState state) throws Exception {
+        return state.cold.init();
+    }
+}
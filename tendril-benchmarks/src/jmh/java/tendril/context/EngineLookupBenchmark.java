@@ -0,0 +1,97 @@
+/*
+ * Copyright 2025 Jaroslav Bosak
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/license/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tendril.context;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tendril.bean.recipe.Descriptor;
+import tendril.benchmark.beans.FactoryBean;
+import tendril.benchmark.beans.NamedBean5;
+import tendril.benchmark.beans.SingletonBean;
+
+/**
+ * Benchmarks the retrieval of beans from the {@link Engine}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class EngineLookupBenchmark {
+
+    /** The engine from which beans are retrieved */
+    private Engine engine;
+    /** Description of a singleton bean */
+    private final Descriptor<SingletonBean> singleton = new Descriptor<>(SingletonBean.class);
+    /** Description of a factory bean */
+    private final Descriptor<FactoryBean> factory = new Descriptor<>(FactoryBean.class);
+    /** Description of a named bean, retrieved via its super class (of which there are multiple beans) */
+    private final Descriptor<Object> named = new Descriptor<>(Object.class).withName("named5");
+
+    /**
+     * Initialize the engine
+     */
+    @Setup
+    public void setup() {
+        engine = new Engine();
+        engine.init();
+        // Sanity check that the named lookup finds the expected bean
+        if (!(engine.getBean(named) instanceof NamedBean5))
+            throw new IllegalStateException("Named lookup did not retrieve the expected bean");
+    }
+
+    /**
+     * Retrieve a singleton bean
+     * 
+     * @return {@link SingletonBean}
+     */
+    @Benchmark
+    public SingletonBean singleton() {
+        return engine.getBean(singleton);
+    }
+
+    /**
+     * Retrieve a factory bean
+     * 
+     * @return {@link FactoryBean}
+     */
+    @Benchmark
+    public FactoryBean factory() {
+        return engine.getBean(factory);
+    }
+
+    /**
+     * Retrieve a bean by name
+     * 
+     * @return {@link Object} the named bean
+     */
+    @Benchmark
+    public Object named() {
+        return engine.getBean(named);
+    }
+}
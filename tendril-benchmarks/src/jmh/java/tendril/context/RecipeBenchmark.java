@@ -0,0 +1,94 @@
+/*
+ * Copyright 2025 Jaroslav Bosak
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/license/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tendril.context;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tendril.bean.recipe.AbstractRecipe;
+import tendril.bean.recipe.Descriptor;
+import tendril.benchmark.beans.ChainHead;
+import tendril.benchmark.beans.SingletonBean;
+
+/**
+ * Benchmarks the retrieval of beans directly from their recipes, bypassing the lookup within the {@link Engine}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class RecipeBenchmark {
+
+    /** Recipe of a singleton bean */
+    private AbstractRecipe<SingletonBean> singleton;
+    /** Recipe of the factory bean at the head of a chain of factory beans (each of which must be created for every instance of the head) */
+    private AbstractRecipe<ChainHead> chain;
+
+    /**
+     * Retrieve the recipes from the engine
+     */
+    @Setup
+    public void setup() {
+        Engine engine = new Engine();
+        engine.init();
+        singleton = engine.findRecipes(new Descriptor<>(SingletonBean.class)).get(0);
+        chain = engine.findRecipes(new Descriptor<>(ChainHead.class)).get(0);
+    }
+
+    /**
+     * Retrieve the singleton from a single thread
+     * 
+     * @return {@link SingletonBean}
+     */
+    @Benchmark
+    public SingletonBean singletonUncontended() {
+        return singleton.get();
+    }
+
+    /**
+     * Retrieve the singleton from multiple threads concurrently
+     * 
+     * @return {@link SingletonBean}
+     */
+    @Benchmark
+    @Threads(8)
+    public SingletonBean singletonContended() {
+        return singleton.get();
+    }
+
+    /**
+     * Create a factory bean with a deep chain of (factory) dependencies
+     * 
+     * @return {@link ChainHead}
+     */
+    @Benchmark
+    public ChainHead factoryDeepChain() {
+        return chain.get();
+    }
+}
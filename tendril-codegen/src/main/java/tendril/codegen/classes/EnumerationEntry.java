@@ -56,6 +56,17 @@ public class EnumerationEntry {
         return new EnumerationEntry(type, value.name(), Collections.emptyList());
     }
 
+    /**
+     * Create an entry for an enum entry which is only known by name (i.e.: the enumeration is being compiled)
+     * 
+     * @param type {@link ClassType} describing where the entry comes from
+     * @param name {@link String} name of the entry
+     * @return {@link EnumerationEntry}
+     */
+    public static EnumerationEntry from(ClassType type, String name) {
+        return new EnumerationEntry(type, name, Collections.emptyList());
+    }
+
     /**
      * CTOR
      * 
@@ -18,6 +18,8 @@ package tendril.codegen.field.type;
 import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
 
+import org.apache.commons.lang3.StringUtils;
+
 import tendril.codegen.DefinitionException;
 
 /**
@@ -32,7 +34,8 @@ public abstract class TypeFactory {
     }
 
     /**
-     * Creates a {@link Type} for the given {@link TypeMirror} definition
+     * Creates a {@link Type} for the given {@link TypeMirror} definition. Any generics which are applied to a declared type are not part of the type itself, and are
+     * therefore excluded.
      * 
      * @param mirror {@link TypeMirror} defining the data type
      * @return {@link Type} representing the data type
@@ -44,7 +47,7 @@ public abstract class TypeFactory {
         if (kind.isPrimitive())
             return PrimitiveType.valueOf(kind.toString());
         if (kind == TypeKind.DECLARED)
-            return new ClassType(mirror.toString());
+            return new ClassType(StringUtils.substringBefore(mirror.toString(), "<"));
         if (kind == TypeKind.ARRAY)
             return new ArrayType<Type>(create(((javax.lang.model.type.ArrayType) mirror).getComponentType()));
 
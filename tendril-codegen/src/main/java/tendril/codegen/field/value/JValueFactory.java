@@ -208,4 +208,17 @@ public class JValueFactory {
     public static JValue<PrimitiveType, Byte> create(byte value) {
         return new JValueSimple<PrimitiveType, Byte>(PrimitiveType.BYTE, value);
     }
+
+    /**
+     * Create a {@link JValue} for an expression, where the value is the code which evaluates to it (i.e.: a constructor or method call) and is presented verbatim.
+     * Any classes the expression references must be imported separately.
+     * 
+     * @param <DATA_TYPE> extends {@link Type} indicating the data type the expression evaluates to
+     * @param type        DATA_TYPE the data type the expression evaluates to
+     * @param expression  {@link String} code of the expression
+     * @return {@link JValue}
+     */
+    public static <DATA_TYPE extends Type> JValue<DATA_TYPE, String> createExpression(DATA_TYPE type, String expression) {
+        return new JValueSimple<DATA_TYPE, String>(type, expression);
+    }
 }
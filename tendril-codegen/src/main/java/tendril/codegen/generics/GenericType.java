@@ -73,6 +73,15 @@ public abstract class GenericType implements Type {
         return getSimpleName();
     }
 
+    /**
+     * Get the class to which the generic explicitly resolves (i.e.: &lt;MyClass&gt;), including any generics which are in turn applied to that class.
+     * 
+     * @return {@link ClassType} to which the generic resolves, or null if it does not resolve to an explicit class (i.e.: wild-cards or elsewhere defined generics)
+     */
+    public ClassType getExplicitType() {
+        return null;
+    }
+
     /**
      * @see tendril.codegen.field.type.Importable#registerImport(java.util.Set)
      */
@@ -50,12 +50,21 @@ class SimpleExplicitGeneric extends GenericType {
         throw new CodeGenerationException("A generic explicitely resolved to a type cannot be used in a definition");
     }
 
+    /**
+     * @see tendril.codegen.generics.GenericType#getExplicitType()
+     */
+    @Override
+    public ClassType getExplicitType() {
+        return classType;
+    }
+
     /**
      * @see tendril.codegen.field.type.Importable#registerImport(java.util.Set)
      */
     @Override
     public void registerImport(Set<ClassType> classImports) {
-        classImports.add(classType);
+        // Includes any generics which are applied to the class itself
+        classType.registerImport(classImports);
     }
 
     /**
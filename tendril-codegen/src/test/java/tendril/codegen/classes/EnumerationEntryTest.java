@@ -145,5 +145,11 @@ public class EnumerationEntryTest extends AbstractUnitTest {
         Assertions.assertEquals(mockType, entry.getEnclosingClass());
         Assertions.assertEquals(TypeKind.DECLARED.name(), entry.getName());
         Assertions.assertIterableEquals(Collections.emptyList(), entry.getParameters());
+        
+        // When only the name is known
+        entry = EnumerationEntry.from(mockType, "NOT_LOADED");
+        Assertions.assertEquals(mockType, entry.getEnclosingClass());
+        Assertions.assertEquals("NOT_LOADED", entry.getName());
+        Assertions.assertIterableEquals(Collections.emptyList(), entry.getParameters());
     }
 }
@@ -91,6 +91,16 @@ public class TypeFactoryTest extends AbstractUnitTest {
         verify(mockMirror).getKind();
     }
     
+    /**
+     * Verify that the generics of a class are excluded from the created type
+     */
+    @Test
+    public void testCreateGenericClassTypeKind() {
+        when(mockMirror.toString()).thenReturn("a.b.c.D<e.f.G>");
+        performCreateTest(TypeKind.DECLARED, new ClassType("a.b.c.D"));
+        verify(mockMirror).getKind();
+    }
+    
     /**
      * Verify that an array can be created properly from {@link TypeKind}
      */
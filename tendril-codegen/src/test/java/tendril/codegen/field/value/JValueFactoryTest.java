@@ -99,6 +99,17 @@ public class JValueFactoryTest extends SharedJValueTest {
         Assertions.assertThrows(DefinitionException.class, () -> JValueFactory.create(new ClassType("a", "b")));
     }
     
+    /**
+     * Verify that expressions are presented verbatim
+     */
+    @Test
+    public void testCreateExpression() {
+        JValue<ClassType, String> value = JValueFactory.createExpression(mockType, "new Object()");
+        Assertions.assertEquals(mockType, value.getType());
+        Assertions.assertEquals("new Object()", value.getValue());
+        assertCode("new Object()", value);
+    }
+    
     /**
      * Verify that can create arrays of all of the different supported values
      */
@@ -134,6 +134,14 @@ public class GenericTypeTest extends AbstractUnitTest {
         Assertions.assertEquals("TestGenericName", gen.generateApplication());
     }
     
+    /**
+     * Verify that by default the generic does not resolve to an explicit type
+     */
+    @Test
+    public void testExplicitType() {
+        Assertions.assertNull(gen.getExplicitType());
+    }
+    
     /**
      * Verify that registering imports does nothing.
      */
@@ -94,7 +94,15 @@ class SimpleExplicitGenericTest extends AbstractUnitTest {
     @Test
     public void testRegisterImports() {
         gen.registerImport(mockImports);
-        verify(mockImports).add(mockClassType);
+        verify(mockClassType).registerImport(mockImports);
+    }
+    
+    /**
+     * Verify that the explicit type is provided
+     */
+    @Test
+    public void testExplicitType() {
+        Assertions.assertEquals(mockClassType, gen.getExplicitType());
     }
     
     /**
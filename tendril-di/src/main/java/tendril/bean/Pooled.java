@@ -0,0 +1,44 @@
+/*
+ * Copyright 2025 Jaroslav Bosak
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/license/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tendril.bean;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import tendril.bean.recipe.PooledRecipe;
+import tendril.context.Engine;
+
+/**
+ * Annotation which is used to mark a bean that a bean provider provides as one which is to be pooled. This means, that each retrieval of the bean borrows an idle instance
+ * from the pool of the bean (creating a new instance only if there is none), with the instance being returned to the pool once the consumer is done with it (see
+ * {@link Engine#releaseBean(tendril.bean.recipe.Descriptor, Object)}). This is intended for beans which are expensive to create and cannot be shared, but can be reused
+ * (i.e.: parsers, connections). Any methods annotated with {@link Reset} are called when an instance is returned to the pool, such that it is in a clean state when it is
+ * next borrowed.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target({ ElementType.TYPE, ElementType.METHOD })
+public @interface Pooled {
+
+    /**
+     * The maximum number of idle instances which are retained by the pool. Instances which are returned to a full pool are discarded (and closed if they are
+     * {@link AutoCloseable}).
+     * 
+     * @return int the maximum number of idle instances
+     */
+    int maxIdle() default PooledRecipe.DEFAULT_MAX_IDLE;
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2025 Jaroslav Bosak
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/license/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tendril.bean;
+
+import java.util.function.Supplier;
+
+/**
+ * Handle through which a bean can be lazily retrieved, to be injected in place of the bean itself (i.e.: {@code @Inject Provider<MyBean> myBean}). The bean is not
+ * retrieved until {@link Provider#get()} is called, such that expensive beans are only created once they are actually needed, and a fresh instance of a {@link Factory}
+ * or {@link Pooled} bean can be retrieved whenever one is required. The bean is resolved once, on the first retrieval, with all subsequent retrievals going directly to
+ * the bean itself.
+ * 
+ * @param <BEAN_TYPE> the type of bean which is provided
+ */
+public interface Provider<BEAN_TYPE> extends Supplier<BEAN_TYPE> {
+
+    /**
+     * Get the bean, as per its life cycle
+     * 
+     * @return BEAN_TYPE the bean
+     * @throws tendril.BeanRetrievalException if there is not exactly one bean which matches
+     */
+    @Override
+    BEAN_TYPE get();
+    
+    /**
+     * Return a bean which was retrieved from the provider, once the consumer is done with it. Where the bean is {@link Pooled} it is returned to its pool, beans of any
+     * other life cycle are unaffected.
+     * 
+     * @param bean BEAN_TYPE which is to be returned
+     */
+    void release(BEAN_TYPE bean);
+}
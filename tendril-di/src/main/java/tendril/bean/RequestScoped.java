@@ -0,0 +1,36 @@
+/*
+ * Copyright 2025 Jaroslav Bosak
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/license/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tendril.bean;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import tendril.context.ApplicationContext;
+
+/**
+ * Annotation which is used to mark a bean that a bean provider provides as one which is to be scoped to a request. This means, that a single instance of the bean is created for
+ * each request scope on its first retrieval within that scope, with each subsequent retrieval within the same scope receiving that same instance. Request scopes are started via
+ * {@link ApplicationContext#runInRequestScope(Runnable)} (or {@link ApplicationContext#callInRequestScope(java.util.concurrent.Callable)}), and are shared with any threads which
+ * are started from within the scope (i.e.: the subtasks of a request). Where the bean is {@link AutoCloseable} it is closed once the request scope has ended. Retrieving the bean
+ * outside of a request scope is an error.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target({ ElementType.TYPE, ElementType.METHOD })
+public @interface RequestScoped {
+
+}
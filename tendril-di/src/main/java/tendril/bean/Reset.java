@@ -0,0 +1,40 @@
+/*
+ * Copyright 2025 Jaroslav Bosak
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/license/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tendril.bean;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import tendril.processor.BeanProcessor;
+
+/**
+ * Annotation to be applied to a method (with no arguments) of a {@link Pooled} bean to indicate that it should be called when an instance is returned to the pool, such that
+ * any state left behind by the previous consumer is cleared before the instance is borrowed again. The same rules apply to the method as to {@link PostConstruct}:
+ * <ol>
+ *      <li>The method must not take any parameters</li>
+ *      <li>The method must be void</li>
+ *      <li>The method must not be private</li>
+ * </ol>
+ * 
+ * If any of the above rules are not met, or the bean is not {@link Pooled}, then the {@link BeanProcessor} will throw an exception and fail annotation processing
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.METHOD)
+public @interface Reset {
+
+}
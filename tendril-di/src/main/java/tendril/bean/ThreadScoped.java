@@ -0,0 +1,33 @@
+/*
+ * Copyright 2025 Jaroslav Bosak
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/license/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tendril.bean;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation which is used to mark a bean that a bean provider provides as one which is to be scoped to a thread. This means, that a single instance of the bean is created for
+ * each thread on its first retrieval within that thread, with each subsequent retrieval within the same thread receiving that same instance. This is intended for beans which are
+ * not thread safe, but are expensive enough to create that they should be reused (i.e.: formatters, buffers, codecs). Where the bean is {@link AutoCloseable} it is closed once
+ * the thread which it was created for has finished.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target({ ElementType.TYPE, ElementType.METHOD })
+public @interface ThreadScoped {
+
+}
@@ -22,10 +22,10 @@ import java.lang.annotation.Target;
 
 /**
  * Annotation to denote a generated annotation which is to be used for the purpose of using an enum as a bean qualifier. This is not intended to by used by any client code
- * directly, rather applied to any qualifier annotation that was generated from an enum annotated with @{@link BeanIdEnum}.
+ * directly, rather applied to any qualifier annotation that was generated from an enum annotated with @{@link BeanIdEnum}. The generated annotation applies its enum
+ * value as the id of the bean, either on the bean itself or on the consumer to indicate which bean is desired.
  */
 @Retention(RetentionPolicy.RUNTIME)
 @Target({ ElementType.TYPE })
 public @interface EnumQualifier {
-// TODO Allow this to be applied to beans
 }
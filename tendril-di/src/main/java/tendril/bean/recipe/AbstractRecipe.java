@@ -15,12 +15,23 @@
  */
 package tendril.bean.recipe;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import tendril.BeanCreationException;
 import tendril.bean.PostConstruct;
+import tendril.bean.Provider;
 import tendril.context.Engine;
+import tendril.context.StartupProfiler;
+import tendril.jfr.BeanCreationEvent;
+import tendril.jfr.BeanInjectionEvent;
+import tendril.jfr.BeanPostConstructEvent;
+import tendril.jfr.TendrilEvent;
 
 /**
  * The base abstract Recipe, which provides the mechanisms for how to create a bean and process it dependencies, but leaving it up to the concrete recipe for how the
@@ -30,6 +41,16 @@ import tendril.context.Engine;
  */
 public abstract class AbstractRecipe<BEAN_TYPE> {
 
+    /** Handle through which the metrics are created on the first build */
+    private static final VarHandle METRICS;
+    static {
+        try {
+            METRICS = MethodHandles.lookup().findVarHandle(AbstractRecipe.class, "metrics", RecipeMetrics.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
     /** The {@link Engine} which drives the overall dependency injection */
     private final Engine engine;
     /** The description of this bean */
@@ -37,6 +58,12 @@ public abstract class AbstractRecipe<BEAN_TYPE> {
     
     /** List of the dependencies that the bean must receive */
     private final List<Injector<BEAN_TYPE>> consumers = new ArrayList<>();
+    /** Descriptions of all beans which the bean depends on (whether via the constructor, fields, or methods) */
+    private final List<Descriptor<?>> dependencies = new ArrayList<>();
+    /** Links to the recipes of the dependencies, in the order in which the dependencies were declared (null until the recipe is linked) */
+    private volatile Provider<?>[] links = null;
+    /** Metrics of the beans built by the recipe (only created once the first bean is built, as many recipes are never used) */
+    private volatile RecipeMetrics metrics = null;
     
     /**
      * CTOR
@@ -45,18 +72,29 @@ public abstract class AbstractRecipe<BEAN_TYPE> {
      * @param beanClass {@link Class} of the bean the recipe is to build
      */
     protected AbstractRecipe(Engine engine, Class<BEAN_TYPE> beanClass) {
+        this(engine, new Descriptor<>(beanClass));
+    }
+    
+    /**
+     * CTOR
+     * 
+     * @param engine {@link Engine} powering the dependency injection and bean passing
+     * @param descriptor {@link Descriptor} containing the basic description of the bean the recipe is to build
+     * @param dependencies {@link Descriptor}s of the dependencies which are known up front (see {@link #declareDependency(Descriptor)} for those declared later on)
+     */
+    protected AbstractRecipe(Engine engine, Descriptor<BEAN_TYPE> descriptor, Descriptor<?>... dependencies) {
         this.engine = engine;
-        this.descriptor = new Descriptor<>(beanClass);
-        
-        setupDescriptor(descriptor);
+        this.descriptor = setupDescriptor(descriptor);
+        this.dependencies.addAll(Arrays.asList(dependencies));
     }
     
     /**
      * To be overloaded by the concrete recipe to provide the appropriate description of the bean that the recipe is to create.
      * 
-     * @param descriptor {@link Descriptor} where the description is to be provided
+     * @param descriptor {@link Descriptor} containing the basic description of the bean (its class)
+     * @return {@link Descriptor} with the full description of the bean
      */
-    protected abstract void setupDescriptor(Descriptor<BEAN_TYPE> descriptor);
+    protected abstract Descriptor<BEAN_TYPE> setupDescriptor(Descriptor<BEAN_TYPE> descriptor);
     
     /**
      * Get the description of the bean the recipe is to create.
@@ -83,9 +121,85 @@ public abstract class AbstractRecipe<BEAN_TYPE> {
      * @param appl {@link Applicator} providing the appropriate mechanism for applying the dependency to the bean under construction
      */
     protected <DEPENDENCY_TYPE> void registerDependency(Descriptor<DEPENDENCY_TYPE> desc, Applicator<BEAN_TYPE, DEPENDENCY_TYPE> appl) {
+        declareDependency(desc);
         registerInjector(new InjectDependency<>(desc, appl));
     }
     
+    /**
+     * Declare that the bean depends on the described bean. This does not in itself perform any injection, rather it is intended for dependencies which the concrete recipe
+     * retrieves itself (i.e.: constructor parameters or the parameters of injection methods), such that the full set of dependencies of the bean is known ahead of its creation.
+     * 
+     * @param desc {@link Descriptor} describing the bean which is depended upon
+     */
+    protected void declareDependency(Descriptor<?> desc) {
+        dependencies.add(desc);
+    }
+    
+    /**
+     * Link the recipe to the recipes of its dependencies, such that they can be retrieved directly from their recipes rather than being looked up via the {@link Engine}
+     * every time a bean is built. This is triggered by the {@link Engine} once the recipe has been registered, with the links themselves only being resolved on their
+     * first use. Linking an already linked recipe has no effect.
+     */
+    public void link() {
+        link(Collections.emptyMap());
+    }
+    
+    /**
+     * Link the recipe to the recipes of its dependencies, where the dependencies which were wired at compile time are linked to the provided {@link Provider}s (see
+     * {@link RecipeBootstrap#getWiring(int)}). All other dependencies are linked as per {@link #link()}. Linking an already linked recipe has no effect.
+     * 
+     * @param wired {@link Map} of the wiring keys of the dependencies to the {@link Provider}s to which they are wired
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public void link(Map<String, Provider<?>> wired) {
+        if (links != null)
+            return;
+        
+        for (Injector<BEAN_TYPE> c : consumers) {
+            if (c instanceof InjectDependency dependency) {
+                Provider<?> provider = wired.isEmpty() ? null : wired.get(RecipeBootstrap.getWiringKey(dependency.getDescriptor()));
+                if (provider == null)
+                    dependency.link(engine);
+                else
+                    dependency.link(provider);
+            }
+        }
+        
+        Provider<?>[] linked = new Provider<?>[dependencies.size()];
+        for (int i = 0; i < linked.length; i++) {
+            Descriptor<?> d = dependencies.get(i);
+            Provider<?> provider = wired.isEmpty() ? null : wired.get(RecipeBootstrap.getWiringKey(d));
+            linked[i] = provider == null ? engine.getProvider(d) : provider;
+        }
+        links = linked;
+    }
+    
+    /**
+     * Get the dependency from the recipe to which it is linked. The recipe is linked if this has not yet been done.
+     * 
+     * @param <DEPENDENCY_TYPE> the type of the dependency
+     * @param index             int the index of the dependency, in the order in which the dependencies were declared
+     * @return DEPENDENCY_TYPE the bean retrieved from the recipe of the dependency
+     */
+    @SuppressWarnings("unchecked")
+    public <DEPENDENCY_TYPE> DEPENDENCY_TYPE getDependency(int index) {
+        Provider<?>[] linked = links;
+        if (linked == null) {
+            link();
+            linked = links;
+        }
+        return (DEPENDENCY_TYPE) linked[index].get();
+    }
+    
+    /**
+     * Get the descriptions of all beans which the bean created by the recipe depends on.
+     * 
+     * @return {@link List} of {@link Descriptor}s of the dependencies
+     */
+    public List<Descriptor<?>> getDependencies() {
+        return Collections.unmodifiableList(dependencies);
+    }
+    
     /**
      * Register an injector which is to inject a dependency into the bean created by the recipe
      * 
@@ -95,6 +209,15 @@ public abstract class AbstractRecipe<BEAN_TYPE> {
         consumers.add(injector);
     }
     
+    /**
+     * Get the metrics of the beans which the recipe has built
+     * 
+     * @return {@link RecipeMetrics} of the recipe, null if no bean has been built yet
+     */
+    public RecipeMetrics getMetrics() {
+        return metrics;
+    }
+    
     /**
      * Get the instance of the bean that has been created. This is expected to be called by the {@link Engine} in response to another bean (recipe) requiring the one created
      * and defined by the current recipe.
@@ -103,25 +226,157 @@ public abstract class AbstractRecipe<BEAN_TYPE> {
      */
     public abstract BEAN_TYPE get();
     
+    /**
+     * Get the indicated number of beans, each being retrieved as per the life cycle of the recipe (i.e.: the same singleton for each, but a distinct instance of a
+     * factory bean for each).
+     * 
+     * @param count int the number of beans to retrieve
+     * @return Unmodifiable {@link List} of the beans
+     */
+    @SuppressWarnings("unchecked")
+    public List<BEAN_TYPE> getBeans(int count) {
+        Object[] beans = new Object[count];
+        for (int i = 0; i < count; i++)
+            beans[i] = get();
+        return (List<BEAN_TYPE>) Collections.unmodifiableList(Arrays.asList(beans));
+    }
+    
     /**
      * Performs the steps necessary for creating an instance of the bean per the recipe. The expectation is that this will be called by the get() method, allowing the concrete
-     * recipe to focus on the mechanism of managing the bean instance life cycle, with the abstract recipe bean construction.
+     * recipe to focus on the mechanism of managing the bean instance life cycle, with the abstract recipe bean construction. Where a {@link StartupProfiler} is active,
+     * the time spent on each phase of the construction is recorded. The construction is additionally captured in Java Flight Recorder events (see {@link BeanCreationEvent}).
      * 
      * @return The (an) instance of the bean that the recipe is to create
      * @throws BeanCreationException if there is an issue creating the bean
      */
     protected BEAN_TYPE buildBean() {
-        // Create the instance
+        StartupProfiler.Build build = StartupProfiler.begin(this);
+        BeanCreationEvent event = new BeanCreationEvent();
+        event.begin();
+        String outcome = TendrilEvent.FAILURE;
+        long start = System.nanoTime();
+        
         try {
             // Create the instance
             BEAN_TYPE bean = createInstance(engine);
+            if (build != null)
+                build.instanceCreated();
             // Apply dependencies
-            consumers.forEach(c -> c.inject(bean, engine));
+            for (Injector<BEAN_TYPE> c : consumers)
+                inject(c, c.getClass(), bean);
+            inject(this::injectDependencies, getClass(), bean);
+            if (build != null)
+                build.injected();
             // Trigger post construct
+            BeanPostConstructEvent postEvent = new BeanPostConstructEvent();
+            postEvent.begin();
             postConstruct(bean);
+            postEvent.finish(descriptor, getClass(), TendrilEvent.SUCCESS);
+            
+            outcome = TendrilEvent.SUCCESS;
+            recordBuild(System.nanoTime() - start);
             return bean;
         } catch (Exception e) {
             throw new BeanCreationException(descriptor, e);
+        } finally {
+            if (build != null)
+                build.end();
+            event.finish(descriptor, getClass(), outcome);
+        }
+    }
+    
+    /**
+     * Performs the steps necessary for creating a batch of beans per the recipe. The work that is common to all of the beans is only performed once for the whole
+     * batch (linking the recipe, capturing the Java Flight Recorder event, and recording the metrics), with each bean still being created, injected, and post constructed
+     * as per {@link #buildBean()}. Where a {@link StartupProfiler} is active the beans are built individually, such that each build is profiled.
+     * 
+     * @param count int the number of beans to create
+     * @return Unmodifiable {@link List} of the created beans
+     * @throws BeanCreationException if there is an issue creating any of the beans
+     */
+    @SuppressWarnings("unchecked")
+    protected List<BEAN_TYPE> buildBeans(int count) {
+        if (count == 0)
+            return Collections.emptyList();
+        
+        Object[] beans = new Object[count];
+        if (StartupProfiler.isActive()) {
+            for (int i = 0; i < count; i++)
+                beans[i] = buildBean();
+            return (List<BEAN_TYPE>) Collections.unmodifiableList(Arrays.asList(beans));
+        }
+        
+        link();
+        List<Injector<BEAN_TYPE>> injectors = List.copyOf(consumers);
+        BeanCreationEvent event = new BeanCreationEvent();
+        event.setBeanCount(count);
+        event.begin();
+        String outcome = TendrilEvent.FAILURE;
+        long start = System.nanoTime();
+        
+        try {
+            for (int i = 0; i < count; i++) {
+                BEAN_TYPE bean = createInstance(engine);
+                for (Injector<BEAN_TYPE> c : injectors)
+                    c.inject(bean, engine);
+                injectDependencies(bean, engine);
+                postConstruct(bean);
+                beans[i] = bean;
+            }
+            
+            outcome = TendrilEvent.SUCCESS;
+            getOrCreateMetrics().recordBuilds(count, System.nanoTime() - start);
+            return (List<BEAN_TYPE>) Collections.unmodifiableList(Arrays.asList(beans));
+        } catch (Exception e) {
+            throw new BeanCreationException(descriptor, e);
+        } finally {
+            event.finish(descriptor, getClass(), outcome);
+        }
+    }
+    
+    /**
+     * Record the successful build of a bean in the metrics of the recipe
+     * 
+     * @param nanos long nanoseconds the build took
+     */
+    private void recordBuild(long nanos) {
+        getOrCreateMetrics().recordBuild(nanos);
+    }
+    
+    /**
+     * Get the metrics of the recipe, creating them if this is the first build
+     * 
+     * @return {@link RecipeMetrics} of the recipe
+     */
+    private RecipeMetrics getOrCreateMetrics() {
+        RecipeMetrics m = metrics;
+        if (m == null) {
+            RecipeMetrics created = new RecipeMetrics();
+            m = (RecipeMetrics) METRICS.compareAndExchange(this, null, created);
+            if (m == null)
+                m = created;
+        }
+        return m;
+    }
+    
+    /**
+     * Apply the injector to the bean under creation, capturing the injection in a {@link BeanInjectionEvent}
+     * 
+     * @param injector      {@link Injector} to apply
+     * @param injectorClass {@link Class} which performs the injection (the recipe itself where it injects the dependencies directly)
+     * @param bean          BEAN_TYPE into which the injection is to be performed
+     */
+    private void inject(Injector<BEAN_TYPE> injector, Class<?> injectorClass, BEAN_TYPE bean) {
+        BeanInjectionEvent event = new BeanInjectionEvent();
+        event.begin();
+        String outcome = TendrilEvent.FAILURE;
+        
+        try {
+            injector.inject(bean, engine);
+            outcome = TendrilEvent.SUCCESS;
+        } finally {
+            event.setInjectorClass(injectorClass);
+            event.finish(descriptor, getClass(), outcome);
         }
     }
     
@@ -133,6 +388,17 @@ public abstract class AbstractRecipe<BEAN_TYPE> {
      */
     protected abstract BEAN_TYPE createInstance(Engine engine);
     
+    /**
+     * Inject the dependencies of the bean directly, once it has been created and after any registered {@link Injector}s have been applied. Generated recipes override
+     * this with straight-line code which assigns the injected fields and calls the injected methods of the bean, retrieving each dependency via its link.
+     * 
+     * @param consumer BEAN_TYPE that the recipe is building
+     * @param engine   {@link Engine} from which any dependencies which are not linked are to be pulled
+     */
+    protected void injectDependencies(BEAN_TYPE consumer, Engine engine) {
+        // Intentionally left blank, concrete recipe to inject its dependencies directly where it has any
+    }
+    
     /**
      * Called after the bean has been initialized, to allow all {@link PostConstruct} annotated methods to be called
      * 
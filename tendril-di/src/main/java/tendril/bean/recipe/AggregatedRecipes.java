@@ -0,0 +1,368 @@
+/*
+ * Copyright 2025 Jaroslav Bosak
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/license/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tendril.bean.recipe;
+
+import tendril.context.ApplicationContext;
+import tendril.context.Engine;
+
+/**
+ * The recipes which are created by a {@link RecipeAggregate}, one per supported life cycle. Each delegates the bean specific steps of building the bean (creation,
+ * injection, and post construction) to the aggregate via its id, while the life cycle itself is provided by the recipe it extends.
+ */
+public final class AggregatedRecipes {
+    
+    /**
+     * CTOR - hidden, as this merely contains the recipes
+     */
+    private AggregatedRecipes() {
+    }
+    
+    /**
+     * The bean specific steps of building the beans of an aggregated recipe, as performed by the aggregate which contains the recipe. These are shared by the recipes
+     * of all life cycles, such that each merely has to delegate to them.
+     * 
+     * @param <BEAN_TYPE> the type of bean the recipe creates
+     * @param aggregate   {@link RecipeAggregate} which contains the recipe
+     * @param id          int the id of the recipe within the aggregate
+     */
+    private record Steps<BEAN_TYPE>(RecipeAggregate aggregate, int id) {
+        
+        /**
+         * Create the bean
+         * 
+         * @param recipe {@link AbstractRecipe} which is building the bean
+         * @param engine {@link Engine} from which any dependencies which are not linked are to be pulled
+         * @return BEAN_TYPE the created bean
+         */
+        @SuppressWarnings("unchecked")
+        BEAN_TYPE createInstance(AbstractRecipe<BEAN_TYPE> recipe, Engine engine) {
+            return (BEAN_TYPE) aggregate.createInstance(id, recipe, engine);
+        }
+        
+        /**
+         * Inject the dependencies of the bean
+         * 
+         * @param consumer BEAN_TYPE that the recipe is building
+         * @param recipe   {@link AbstractRecipe} which is building the bean
+         * @param engine   {@link Engine} from which any dependencies which are not linked are to be pulled
+         */
+        void injectDependencies(BEAN_TYPE consumer, AbstractRecipe<BEAN_TYPE> recipe, Engine engine) {
+            aggregate.injectDependencies(id, consumer, recipe, engine);
+        }
+        
+        /**
+         * Trigger the post construction of the bean
+         * 
+         * @param bean BEAN_TYPE that the recipe is building
+         */
+        void postConstruct(BEAN_TYPE bean) {
+            aggregate.postConstruct(id, bean);
+        }
+        
+        /**
+         * Reset the bean, prior to it being returned to its pool
+         * 
+         * @param bean BEAN_TYPE which is being returned
+         */
+        void reset(BEAN_TYPE bean) {
+            aggregate.reset(id, bean);
+        }
+    }
+    
+    /**
+     * Aggregated recipe for a singleton bean
+     * 
+     * @param <BEAN_TYPE> the type of bean the recipe creates
+     */
+    public static class Singleton<BEAN_TYPE> extends SingletonRecipe<BEAN_TYPE> {
+        /** The steps which are delegated to the aggregate */
+        private final Steps<BEAN_TYPE> steps;
+        
+        /**
+         * CTOR
+         * 
+         * @param engine     {@link Engine} powering the {@link ApplicationContext} in which the bean lives
+         * @param aggregate  {@link RecipeAggregate} which contains the recipe
+         * @param id         int the id of the recipe within the aggregate
+         * @param descriptor {@link Descriptor} containing the full description of the bean
+         */
+        public Singleton(Engine engine, RecipeAggregate aggregate, int id, Descriptor<BEAN_TYPE> descriptor) {
+            super(engine, descriptor, aggregate.getDependencies(id));
+            this.steps = new Steps<>(aggregate, id);
+        }
+        
+        /**
+         * @see tendril.bean.recipe.AbstractRecipe#setupDescriptor(tendril.bean.recipe.Descriptor)
+         */
+        @Override
+        protected Descriptor<BEAN_TYPE> setupDescriptor(Descriptor<BEAN_TYPE> descriptor) {
+            return descriptor;
+        }
+        
+        /**
+         * @see tendril.bean.recipe.AbstractRecipe#createInstance(tendril.context.Engine)
+         */
+        @Override
+        protected BEAN_TYPE createInstance(Engine engine) {
+            return steps.createInstance(this, engine);
+        }
+        
+        /**
+         * @see tendril.bean.recipe.AbstractRecipe#injectDependencies(java.lang.Object, tendril.context.Engine)
+         */
+        @Override
+        protected void injectDependencies(BEAN_TYPE consumer, Engine engine) {
+            steps.injectDependencies(consumer, this, engine);
+        }
+        
+        /**
+         * @see tendril.bean.recipe.AbstractRecipe#postConstruct(java.lang.Object)
+         */
+        @Override
+        protected void postConstruct(BEAN_TYPE bean) {
+            steps.postConstruct(bean);
+        }
+    }
+    
+    /**
+     * Aggregated recipe for a factory bean
+     * 
+     * @param <BEAN_TYPE> the type of bean the recipe creates
+     */
+    public static class Factory<BEAN_TYPE> extends FactoryRecipe<BEAN_TYPE> {
+        /** The steps which are delegated to the aggregate */
+        private final Steps<BEAN_TYPE> steps;
+        
+        /**
+         * CTOR
+         * 
+         * @param engine     {@link Engine} powering the {@link ApplicationContext} in which the bean lives
+         * @param aggregate  {@link RecipeAggregate} which contains the recipe
+         * @param id         int the id of the recipe within the aggregate
+         * @param descriptor {@link Descriptor} containing the full description of the bean
+         */
+        public Factory(Engine engine, RecipeAggregate aggregate, int id, Descriptor<BEAN_TYPE> descriptor) {
+            super(engine, descriptor, aggregate.getDependencies(id));
+            this.steps = new Steps<>(aggregate, id);
+        }
+        
+        /**
+         * @see tendril.bean.recipe.AbstractRecipe#setupDescriptor(tendril.bean.recipe.Descriptor)
+         */
+        @Override
+        protected Descriptor<BEAN_TYPE> setupDescriptor(Descriptor<BEAN_TYPE> descriptor) {
+            return descriptor;
+        }
+        
+        /**
+         * @see tendril.bean.recipe.AbstractRecipe#createInstance(tendril.context.Engine)
+         */
+        @Override
+        protected BEAN_TYPE createInstance(Engine engine) {
+            return steps.createInstance(this, engine);
+        }
+        
+        /**
+         * @see tendril.bean.recipe.AbstractRecipe#injectDependencies(java.lang.Object, tendril.context.Engine)
+         */
+        @Override
+        protected void injectDependencies(BEAN_TYPE consumer, Engine engine) {
+            steps.injectDependencies(consumer, this, engine);
+        }
+        
+        /**
+         * @see tendril.bean.recipe.AbstractRecipe#postConstruct(java.lang.Object)
+         */
+        @Override
+        protected void postConstruct(BEAN_TYPE bean) {
+            steps.postConstruct(bean);
+        }
+    }
+    
+    /**
+     * Aggregated recipe for a pooled bean
+     * 
+     * @param <BEAN_TYPE> the type of bean the recipe creates
+     */
+    public static class Pooled<BEAN_TYPE> extends PooledRecipe<BEAN_TYPE> {
+        /** The steps which are delegated to the aggregate */
+        private final Steps<BEAN_TYPE> steps;
+        
+        /**
+         * CTOR
+         * 
+         * @param engine     {@link Engine} powering the {@link ApplicationContext} in which the bean lives
+         * @param aggregate  {@link RecipeAggregate} which contains the recipe
+         * @param id         int the id of the recipe within the aggregate
+         * @param descriptor {@link Descriptor} containing the full description of the bean
+         * @param maxIdle    int the maximum number of idle instances which are retained
+         */
+        public Pooled(Engine engine, RecipeAggregate aggregate, int id, Descriptor<BEAN_TYPE> descriptor, int maxIdle) {
+            super(engine, descriptor, maxIdle, aggregate.getDependencies(id));
+            this.steps = new Steps<>(aggregate, id);
+        }
+        
+        /**
+         * @see tendril.bean.recipe.AbstractRecipe#setupDescriptor(tendril.bean.recipe.Descriptor)
+         */
+        @Override
+        protected Descriptor<BEAN_TYPE> setupDescriptor(Descriptor<BEAN_TYPE> descriptor) {
+            return descriptor;
+        }
+        
+        /**
+         * @see tendril.bean.recipe.AbstractRecipe#createInstance(tendril.context.Engine)
+         */
+        @Override
+        protected BEAN_TYPE createInstance(Engine engine) {
+            return steps.createInstance(this, engine);
+        }
+        
+        /**
+         * @see tendril.bean.recipe.AbstractRecipe#injectDependencies(java.lang.Object, tendril.context.Engine)
+         */
+        @Override
+        protected void injectDependencies(BEAN_TYPE consumer, Engine engine) {
+            steps.injectDependencies(consumer, this, engine);
+        }
+        
+        /**
+         * @see tendril.bean.recipe.AbstractRecipe#postConstruct(java.lang.Object)
+         */
+        @Override
+        protected void postConstruct(BEAN_TYPE bean) {
+            steps.postConstruct(bean);
+        }
+        
+        /**
+         * @see tendril.bean.recipe.PooledRecipe#reset(java.lang.Object)
+         */
+        @Override
+        protected void reset(BEAN_TYPE bean) {
+            steps.reset(bean);
+        }
+    }
+    
+    /**
+     * Aggregated recipe for a thread scoped bean
+     * 
+     * @param <BEAN_TYPE> the type of bean the recipe creates
+     */
+    public static class ThreadScoped<BEAN_TYPE> extends ThreadScopedRecipe<BEAN_TYPE> {
+        /** The steps which are delegated to the aggregate */
+        private final Steps<BEAN_TYPE> steps;
+        
+        /**
+         * CTOR
+         * 
+         * @param engine     {@link Engine} powering the {@link ApplicationContext} in which the bean lives
+         * @param aggregate  {@link RecipeAggregate} which contains the recipe
+         * @param id         int the id of the recipe within the aggregate
+         * @param descriptor {@link Descriptor} containing the full description of the bean
+         */
+        public ThreadScoped(Engine engine, RecipeAggregate aggregate, int id, Descriptor<BEAN_TYPE> descriptor) {
+            super(engine, descriptor, aggregate.getDependencies(id));
+            this.steps = new Steps<>(aggregate, id);
+        }
+        
+        /**
+         * @see tendril.bean.recipe.AbstractRecipe#setupDescriptor(tendril.bean.recipe.Descriptor)
+         */
+        @Override
+        protected Descriptor<BEAN_TYPE> setupDescriptor(Descriptor<BEAN_TYPE> descriptor) {
+            return descriptor;
+        }
+        
+        /**
+         * @see tendril.bean.recipe.AbstractRecipe#createInstance(tendril.context.Engine)
+         */
+        @Override
+        protected BEAN_TYPE createInstance(Engine engine) {
+            return steps.createInstance(this, engine);
+        }
+        
+        /**
+         * @see tendril.bean.recipe.AbstractRecipe#injectDependencies(java.lang.Object, tendril.context.Engine)
+         */
+        @Override
+        protected void injectDependencies(BEAN_TYPE consumer, Engine engine) {
+            steps.injectDependencies(consumer, this, engine);
+        }
+        
+        /**
+         * @see tendril.bean.recipe.AbstractRecipe#postConstruct(java.lang.Object)
+         */
+        @Override
+        protected void postConstruct(BEAN_TYPE bean) {
+            steps.postConstruct(bean);
+        }
+    }
+    
+    /**
+     * Aggregated recipe for a request scoped bean
+     * 
+     * @param <BEAN_TYPE> the type of bean the recipe creates
+     */
+    public static class RequestScoped<BEAN_TYPE> extends RequestScopedRecipe<BEAN_TYPE> {
+        /** The steps which are delegated to the aggregate */
+        private final Steps<BEAN_TYPE> steps;
+        
+        /**
+         * CTOR
+         * 
+         * @param engine     {@link Engine} powering the {@link ApplicationContext} in which the bean lives
+         * @param aggregate  {@link RecipeAggregate} which contains the recipe
+         * @param id         int the id of the recipe within the aggregate
+         * @param descriptor {@link Descriptor} containing the full description of the bean
+         */
+        public RequestScoped(Engine engine, RecipeAggregate aggregate, int id, Descriptor<BEAN_TYPE> descriptor) {
+            super(engine, descriptor, aggregate.getDependencies(id));
+            this.steps = new Steps<>(aggregate, id);
+        }
+        
+        /**
+         * @see tendril.bean.recipe.AbstractRecipe#setupDescriptor(tendril.bean.recipe.Descriptor)
+         */
+        @Override
+        protected Descriptor<BEAN_TYPE> setupDescriptor(Descriptor<BEAN_TYPE> descriptor) {
+            return descriptor;
+        }
+        
+        /**
+         * @see tendril.bean.recipe.AbstractRecipe#createInstance(tendril.context.Engine)
+         */
+        @Override
+        protected BEAN_TYPE createInstance(Engine engine) {
+            return steps.createInstance(this, engine);
+        }
+        
+        /**
+         * @see tendril.bean.recipe.AbstractRecipe#injectDependencies(java.lang.Object, tendril.context.Engine)
+         */
+        @Override
+        protected void injectDependencies(BEAN_TYPE consumer, Engine engine) {
+            steps.injectDependencies(consumer, this, engine);
+        }
+        
+        /**
+         * @see tendril.bean.recipe.AbstractRecipe#postConstruct(java.lang.Object)
+         */
+        @Override
+        protected void postConstruct(BEAN_TYPE bean) {
+            steps.postConstruct(bean);
+        }
+    }
+}
@@ -15,20 +15,51 @@
  */
 package tendril.bean.recipe;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import tendril.bean.qualifier.BeanId;
 import tendril.context.ApplicationContext;
 import tendril.context.Engine;
 
 /**
  * Description of a bean that is (expected to be) available within the {@link ApplicationContext} and accessible via its {@link Engine}.
  * 
+ * <p>A descriptor is immutable, with any refinement of the description ({@link #withName(String)}, {@link #withQualifier(String)}) producing a new descriptor. The name and qualifiers
+ * are interned and the hash is computed up front, such that descriptors can be used directly as the keys of lookup tables. Equality is canonical (the same class, name, and
+ * qualifiers), whereas {@link #matches(Descriptor)} determines whether a bean fulfills a description.</p>
+ * 
+ * <p>Where the bean type is parameterized, the type arguments can be applied via {@link #withTypeArguments(String...)} such that {@code Repository<User>} and
+ * {@code Repository<Order>} are described (and resolved) as distinct types. The type is identified by its canonical type key, which is the binary name of the class
+ * (as per {@link Class#getName()}) followed by the keys of its type arguments, separated by commas without any whitespace (i.e.:
+ * {@code java.util.Map<java.lang.String,java.util.List<my.pkg.Outer$Inner>>}). Only types whose arguments all explicitly resolve to a class have such a key, any
+ * other (i.e.: with wildcards or type variables) is identified by its raw class.</p>
+ * 
+ * <p>An {@link Enum} {@link BeanId} is applied as a qualifier (its {@link BeanId#getId()}), but the {@link Enum} itself is retained as well such that beans can be
+ * indexed by the ordinal of their id.</p>
+ * 
  * @param <BEAN_TYPE> the type of bean that the {@link Descriptor} describes
  */
-public class Descriptor<BEAN_TYPE> {
+public final class Descriptor<BEAN_TYPE> {
+    
+    /** Qualifiers of a descriptor which has none */
+    private static final String[] NO_QUALIFIERS = new String[0];
+    /** Ids of a descriptor which has none */
+    private static final Enum<?>[] NO_IDS = new Enum<?>[0];
     
     /** The {@link Class} of the bean */
     private final Class<BEAN_TYPE> beanClass;
-    /** The name of the bean */
-    private String name = "";
+    /** The (interned) canonical key of the type of the bean, including its type arguments */
+    private final String typeKey;
+    /** The (interned) name of the bean */
+    private final String name;
+    /** The (interned) qualifiers of the bean, sorted such that equal descriptors have identical qualifiers */
+    private final String[] qualifiers;
+    /** The enum ids of the bean (at most one per enumeration), which are also present as qualifiers */
+    private final Enum<?>[] ids;
+    /** The hash of the descriptor */
+    private final int hash;
     
     /**
      * CTOR
@@ -36,7 +67,25 @@ public class Descriptor<BEAN_TYPE> {
      * @param beanClass {@link Class} of the bean that is described
      */
     public Descriptor(Class<BEAN_TYPE> beanClass) {
-        this.beanClass = beanClass;
+        this(beanClass, beanClass.getName().intern(), "", NO_QUALIFIERS, NO_IDS);
+    }
+    
+    /**
+     * CTOR
+     * 
+     * @param beanClass  {@link Class} of the bean that is described
+     * @param typeKey    {@link String} interned canonical key of the type of the bean
+     * @param name       {@link String} interned name of the bean
+     * @param qualifiers {@link String}[] sorted and interned qualifiers of the bean
+     * @param ids        {@link Enum}[] ids of the bean
+     */
+    private Descriptor(Class<BEAN_TYPE> beanClass, String typeKey, String name, String[] qualifiers, Enum<?>[] ids) {
+        this.beanClass = Objects.requireNonNull(beanClass);
+        this.typeKey = typeKey;
+        this.name = name;
+        this.qualifiers = qualifiers;
+        this.ids = ids;
+        this.hash = 31 * (31 * typeKey.hashCode() + name.hashCode()) + Arrays.hashCode(qualifiers);
     }
     
     /**
@@ -49,15 +98,44 @@ public class Descriptor<BEAN_TYPE> {
     }
     
     /**
-     * Set the name of the described bean
+     * Get a description of the bean where its (parameterized) type has the indicated type arguments
+     * 
+     * @param typeArguments {@link String}... canonical type keys of the type arguments, in the order in which they are declared by the bean class
+     * 
+     * @return {@link Descriptor} describing the bean of the parameterized type
+     */
+    public Descriptor<BEAN_TYPE> withTypeArguments(String... typeArguments) {
+        String key = typeArguments.length == 0 ? beanClass.getName() : beanClass.getName() + "<" + String.join(",", typeArguments).replace(" ", "") + ">";
+        return new Descriptor<>(beanClass, key.intern(), name, qualifiers, ids);
+    }
+    
+    /**
+     * Get the canonical key of the type of the bean. This is the name of the bean class, along with its type arguments if any were applied.
+     * 
+     * @return {@link String} the type key
+     */
+    public String getTypeKey() {
+        return typeKey;
+    }
+    
+    /**
+     * Check whether type arguments have been applied to the type of the bean
+     * 
+     * @return boolean true if the type key includes type arguments
+     */
+    private boolean isParameterized() {
+        return typeKey.length() != beanClass.getName().length();
+    }
+    
+    /**
+     * Get a description of the bean with the indicated name
      * 
      * @param name {@link String} of the bean
      * 
-     * @return {@link Descriptor} describing the bean
+     * @return {@link Descriptor} describing the named bean
      */
-    public Descriptor<BEAN_TYPE> setName(String name) {
-        this.name = name;
-        return this;
+    public Descriptor<BEAN_TYPE> withName(String name) {
+        return new Descriptor<>(beanClass, typeKey, name.intern(), qualifiers, ids);
     }
     
     /**
@@ -70,36 +148,151 @@ public class Descriptor<BEAN_TYPE> {
     }
     
     /**
-     * For the purpose of equality, the defined class need not be 100% equal, so long as the other class is assignable from this one.
+     * Get a description of the bean which additionally has the indicated qualifier
+     * 
+     * @param qualifier {@link String} qualifier that is to be applied to the bean
+     * 
+     * @return {@link Descriptor} describing the qualified bean
+     */
+    public Descriptor<BEAN_TYPE> withQualifier(String qualifier) {
+        String[] updated = addQualifier(qualifiers, qualifier);
+        return updated == qualifiers ? this : new Descriptor<>(beanClass, typeKey, name, updated, ids);
+    }
+    
+    /**
+     * Get a description of the bean which additionally has the indicated id. A bean can only have a single id from any given enumeration.
+     * 
+     * @param <ID> the enumeration from which the id comes
+     * @param id   ID that is to be applied to the bean
+     * 
+     * @return {@link Descriptor} describing the identified bean
+     * @throws IllegalArgumentException if the bean already has a different id from the same enumeration
+     */
+    public <ID extends Enum<ID> & BeanId> Descriptor<BEAN_TYPE> withId(ID id) {
+        Enum<?> existing = getId(id.getDeclaringClass());
+        if (existing == id)
+            return this;
+        if (existing != null)
+            throw new IllegalArgumentException(this + " already has the id " + existing);
+        
+        Enum<?>[] updated = Arrays.copyOf(ids, ids.length + 1);
+        updated[ids.length] = id;
+        return new Descriptor<>(beanClass, typeKey, name, addQualifier(qualifiers, id.getId()), updated);
+    }
+    
+    /**
+     * Get the id of the bean from the indicated enumeration
+     * 
+     * @param <ID>    the enumeration from which the id comes
+     * @param idClass {@link Class} of the enumeration
+     * 
+     * @return ID of the bean, or null if it has no id from the enumeration
+     */
+    @SuppressWarnings("unchecked")
+    public <ID extends Enum<ID>> ID getId(Class<ID> idClass) {
+        for (Enum<?> id : ids) {
+            if (id.getDeclaringClass() == idClass)
+                return (ID) id;
+        }
+        return null;
+    }
+    
+    /**
+     * Add the qualifier to the sorted qualifiers
+     * 
+     * @param qualifiers {@link String}[] sorted qualifiers
+     * @param qualifier  {@link String} to add
+     * 
+     * @return {@link String}[] with the qualifier added, or the original qualifiers if the qualifier is already present
+     */
+    private static String[] addQualifier(String[] qualifiers, String qualifier) {
+        int pos = Arrays.binarySearch(qualifiers, qualifier);
+        if (pos >= 0)
+            return qualifiers;
+        
+        pos = -(pos + 1);
+        String[] updated = new String[qualifiers.length + 1];
+        System.arraycopy(qualifiers, 0, updated, 0, pos);
+        updated[pos] = qualifier.intern();
+        System.arraycopy(qualifiers, pos, updated, pos + 1, qualifiers.length - pos);
+        return updated;
+    }
+    
+    /**
+     * Get the qualifiers of the bean
+     * 
+     * @return {@link List} of {@link String} qualifiers, in their natural order
+     */
+    public List<String> getQualifiers() {
+        return List.of(qualifiers);
+    }
+    
+    /**
+     * Check whether the bean has the indicated qualifier
+     * 
+     * @param qualifier {@link String} qualifier to check for
+     * 
+     * @return boolean true if the qualifier is applied to the bean
+     */
+    public boolean hasQualifier(String qualifier) {
+        return Arrays.binarySearch(qualifiers, qualifier) >= 0;
+    }
+    
+    /**
+     * Descriptors are only equal if they describe exactly the same (parameterized) class, with the same name and qualifiers.
      * 
      * @see java.lang.Object#equals(java.lang.Object)
      */
     @Override
     public boolean equals(Object obj) {
-        if (!(obj instanceof Descriptor))
+        if (this == obj)
+            return true;
+        if (!(obj instanceof Descriptor<?> other) || hash != other.hash)
             return false;
 
-        Descriptor<?> other = (Descriptor<?>) obj;
-        
-        return other.beanClass.isAssignableFrom(beanClass) && other.name.equals(name);
+        // Type keys, names, and qualifiers are interned, such that they can be compared by identity
+        if (beanClass != other.beanClass || typeKey != other.typeKey || name != other.name || qualifiers.length != other.qualifiers.length)
+            return false;
+        for (int i = 0; i < qualifiers.length; i++) {
+            if (qualifiers[i] != other.qualifiers[i])
+                return false;
+        }
+        return true;
+    }
+    
+    /**
+     * @see java.lang.Object#hashCode()
+     */
+    @Override
+    public int hashCode() {
+        return hash;
     }
 
     /**
      * Perform a matching to check whether this description matches the other. This is not the same as equals (where all values are expected to be identical), but rather
      * a comparison where all of the features described in the other must match this. There may be other features described in this which are not present in the other, but
      * not vice-versa. Note that for the purpose of the matching a "blank" name is deemed "unset", ergo a blank name from the other will match a concrete name on this.
+     * Type arguments can only be compared where both describe the same class, the type arguments with which a subclass fulfills a parameterized type are not known to
+     * the descriptor (these are resolved via the type keys under which the {@link Engine} indexes the beans).
      * 
      * @param other {@link Descriptor} to perform the matching against
      * 
-     * @return boolean true if the 
+     * @return boolean true if the this describes a bean which fulfills the other description
      */
     public boolean matches(Descriptor<?> other) {
         if (!other.beanClass.isAssignableFrom(beanClass))
             return false;
+        if (other.beanClass == beanClass && other.isParameterized() && other.typeKey != typeKey)
+            return false;
         
         if (!other.name.isBlank() && !other.name.equals(name))
             return false;
         
+        for (String q : other.qualifiers) {
+            if (!hasQualifier(q))
+                return false;
+        }
+        
         return true;
     }
     
@@ -108,10 +301,12 @@ public class Descriptor<BEAN_TYPE> {
      */
     @Override
     public String toString() {
-        StringBuilder str = new StringBuilder("Bean type " + beanClass.getSimpleName());
+        StringBuilder str = new StringBuilder("Bean type " + beanClass.getSimpleName() + typeKey.substring(beanClass.getName().length()));
         
         if (!name.isEmpty())
             str.append(" named \"" + name + "\"");
+        if (qualifiers.length > 0)
+            str.append(" qualified by " + Arrays.toString(qualifiers));
         
         return str.toString();
     }
@@ -15,6 +15,8 @@
  */
 package tendril.bean.recipe;
 
+import java.util.List;
+
 import tendril.context.ApplicationContext;
 import tendril.context.Engine;
 
@@ -36,6 +38,17 @@ public abstract class FactoryRecipe<BEAN_TYPE> extends AbstractRecipe<BEAN_TYPE>
         super(engine, beanClass);
     }
     
+    /**
+     * CTOR
+     * 
+     * @param engine {@link Engine} powering the {@link ApplicationContext} in which the bean lives
+     * @param descriptor {@link Descriptor} containing the basic description of the bean
+     * @param dependencies {@link Descriptor}s of the dependencies which are known up front
+     */
+    protected FactoryRecipe(Engine engine, Descriptor<BEAN_TYPE> descriptor, Descriptor<?>... dependencies) {
+        super(engine, descriptor, dependencies);
+    }
+    
     /**
      * A new instance is created for each retrieval
      * 
@@ -45,4 +58,14 @@ public abstract class FactoryRecipe<BEAN_TYPE> extends AbstractRecipe<BEAN_TYPE>
     public BEAN_TYPE get() {
         return buildBean();
     }
+    
+    /**
+     * A new instance is created for each of the beans, with the batch being created in one go
+     * 
+     * @see tendril.bean.recipe.AbstractRecipe#getBeans(int)
+     */
+    @Override
+    public List<BEAN_TYPE> getBeans(int count) {
+        return buildBeans(count);
+    }
 }
@@ -15,10 +15,12 @@
  */
 package tendril.bean.recipe;
 
+import tendril.bean.Provider;
 import tendril.context.Engine;
 
 /**
- * Helper which performs the steps necessary to retrieve the desired dependency instance from the {@link Engine} and apply it to the created consumer.
+ * Helper which performs the steps necessary to retrieve the desired dependency instance from the {@link Engine} and apply it to the created consumer. Once linked the
+ * dependency is retrieved directly via the link to its recipe, rather than being looked up via the {@link Engine}.
  * 
  * @param <BEAN_TYPE> The type into which the dependency is to be injected
  * @param <DEPENDENCY_TYPE> The type of dependency that the bean is to be injected with
@@ -29,6 +31,8 @@ public class InjectDependency<BEAN_TYPE, DEPENDENCY_TYPE> implements Injector<BE
     private final Descriptor<DEPENDENCY_TYPE> descriptor;
     /** Contains the appropriate mechanism for applying the dependency to the consumer */
     private final Applicator<BEAN_TYPE, DEPENDENCY_TYPE> applicator;
+    /** Link to the recipe of the dependency (null until linked) */
+    private volatile Provider<DEPENDENCY_TYPE> link = null;
 
     /**
      * CTOR
@@ -41,11 +45,39 @@ public class InjectDependency<BEAN_TYPE, DEPENDENCY_TYPE> implements Injector<BE
         this.applicator = applicator;
     }
     
+    /**
+     * Link the dependency to its recipe
+     * 
+     * @param engine {@link Engine} through which the recipe is to be resolved
+     */
+    public void link(Engine engine) {
+        link(engine.getProvider(descriptor));
+    }
+    
+    /**
+     * Link the dependency to the provider of its recipe
+     * 
+     * @param provider {@link Provider} through which the dependency is to be retrieved
+     */
+    public void link(Provider<DEPENDENCY_TYPE> provider) {
+        link = provider;
+    }
+    
+    /**
+     * Get the description of the dependency
+     * 
+     * @return {@link Descriptor} of the dependency
+     */
+    public Descriptor<DEPENDENCY_TYPE> getDescriptor() {
+        return descriptor;
+    }
+    
     /**
      * @see tendril.bean.recipe.Injector#inject(java.lang.Object, tendril.context.Engine)
      */
     @Override
     public void inject(BEAN_TYPE consumer, Engine engine) {
-        applicator.apply(consumer, engine.getBean(descriptor));
+        Provider<DEPENDENCY_TYPE> linked = link;
+        applicator.apply(consumer, linked == null ? engine.getBean(descriptor) : linked.get());
     }
 }
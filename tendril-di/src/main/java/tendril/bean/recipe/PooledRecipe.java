@@ -0,0 +1,219 @@
+/*
+ * Copyright 2025 Jaroslav Bosak
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/license/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tendril.bean.recipe;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import tendril.bean.Reset;
+import tendril.context.ApplicationContext;
+import tendril.context.Engine;
+
+/**
+ * Abstract recipe for creating pooled beans, where each retrieval borrows an idle instance from the pool and a new instance is only created when the pool is empty.
+ * Instances are returned to the pool via {@link PooledRecipe#release(Object)}, at which point they are reset and retained for the next retrieval, so long as the pool
+ * has not reached its maximum idle size. The pool is lock-free, such that borrowing and returning instances never blocks.
+ * 
+ * The borrowed instances are tracked (by identity), such that only an instance which is currently borrowed can be returned. Returning an instance twice would otherwise
+ * place it in the pool twice, with it subsequently being handed out to two borrowers at the same time. The tracking only holds the instances weakly, so borrowed instances
+ * which are never returned can still be garbage collected.
+ * 
+ * @param <BEAN_TYPE> the type of bean the recipe creates
+ */
+public abstract class PooledRecipe<BEAN_TYPE> extends AbstractRecipe<BEAN_TYPE> {
+    
+    /**
+     * Weakly held identity of a borrowed instance, equal to any other identity of the same instance (regardless of how the instance itself implements equality).
+     */
+    private static final class Borrowed extends WeakReference<Object> {
+        /** Identity hash code of the instance, retained as the instance may be garbage collected */
+        private final int hash;
+
+        /**
+         * CTOR
+         * 
+         * @param instance {@link Object} which is borrowed
+         * @param queue    {@link ReferenceQueue} where the identity is to be enqueued once the instance is garbage collected (null if not required)
+         */
+        private Borrowed(Object instance, ReferenceQueue<Object> queue) {
+            super(instance, queue);
+            this.hash = System.identityHashCode(instance);
+        }
+
+        /**
+         * @see java.lang.Object#hashCode()
+         */
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        /**
+         * @see java.lang.Object#equals(java.lang.Object)
+         */
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj)
+                return true;
+            if (!(obj instanceof Borrowed other))
+                return false;
+            
+            Object instance = get();
+            return instance != null && instance == other.get();
+        }
+    }
+
+    /** The maximum number of idle instances which are retained by default */
+    public static final int DEFAULT_MAX_IDLE = 8;
+    
+    /** Logger for creating log messages when running */
+    private static Logger LOGGER = Logger.getLogger(PooledRecipe.class.getSimpleName());
+
+    /** The instances which are available to be borrowed */
+    private final Queue<BEAN_TYPE> idle = new ConcurrentLinkedQueue<>();
+    /** The number of idle instances (tracked separately, as the size of the queue is not constant time) */
+    private final AtomicInteger idleCount = new AtomicInteger();
+    /** The maximum number of idle instances which are retained */
+    private final int maxIdle;
+    /** The identities of the instances which are currently borrowed */
+    private final Set<Borrowed> borrowed = ConcurrentHashMap.newKeySet();
+    /** Where the identities of the borrowed instances which have been garbage collected are enqueued */
+    private final ReferenceQueue<Object> collected = new ReferenceQueue<>();
+
+    /**
+     * CTOR
+     * 
+     * @param engine {@link Engine} powering the {@link ApplicationContext} in which the bean lives
+     * @param beanClass {@link Class} of the bean instance
+     */
+    protected PooledRecipe(Engine engine, Class<BEAN_TYPE> beanClass) {
+        this(engine, beanClass, DEFAULT_MAX_IDLE);
+    }
+
+    /**
+     * CTOR
+     * 
+     * @param engine {@link Engine} powering the {@link ApplicationContext} in which the bean lives
+     * @param beanClass {@link Class} of the bean instance
+     * @param maxIdle int the maximum number of idle instances which are retained
+     */
+    protected PooledRecipe(Engine engine, Class<BEAN_TYPE> beanClass, int maxIdle) {
+        super(engine, beanClass);
+        this.maxIdle = maxIdle;
+    }
+
+    /**
+     * CTOR
+     * 
+     * @param engine {@link Engine} powering the {@link ApplicationContext} in which the bean lives
+     * @param descriptor {@link Descriptor} containing the basic description of the bean
+     * @param maxIdle int the maximum number of idle instances which are retained
+     * @param dependencies {@link Descriptor}s of the dependencies which are known up front
+     */
+    protected PooledRecipe(Engine engine, Descriptor<BEAN_TYPE> descriptor, int maxIdle, Descriptor<?>... dependencies) {
+        super(engine, descriptor, dependencies);
+        this.maxIdle = maxIdle;
+    }
+
+    /**
+     * Borrow an instance from the pool, creating a new one if there are no idle instances available.
+     * 
+     * @see tendril.bean.recipe.AbstractRecipe#get()
+     */
+    @Override
+    public BEAN_TYPE get() {
+        BEAN_TYPE instance = idle.poll();
+        if (instance == null)
+            instance = buildBean();
+        else
+            idleCount.decrementAndGet();
+        
+        for (Reference<?> ref = collected.poll(); ref != null; ref = collected.poll())
+            borrowed.remove(ref);
+        borrowed.add(new Borrowed(instance, collected));
+        return instance;
+    }
+    
+    /**
+     * Return an instance to the pool. The instance is reset and retained for a subsequent retrieval, unless the pool is full or the reset failed, in which case it is
+     * discarded (and closed if it is {@link AutoCloseable}). The instance must not be used by the caller once it has been returned. An instance which is not currently
+     * borrowed from the pool (i.e.: it has already been returned) is ignored.
+     * 
+     * @param instance BEAN_TYPE which is to be returned to the pool
+     */
+    public void release(BEAN_TYPE instance) {
+        if (!borrowed.remove(new Borrowed(instance, null))) {
+            LOGGER.warning("Ignoring the return of a pooled " + getDescription() + " which is not borrowed from the pool (it may already have been returned)");
+            return;
+        }
+        
+        try {
+            reset(instance);
+        } catch (RuntimeException e) {
+            LOGGER.warning("Unable to reset pooled " + getDescription() + ", discarding it: " + e.getMessage());
+            discard(instance);
+            return;
+        }
+        
+        // Reserve the space before offering, such that concurrent returns cannot exceed the maximum
+        if (idleCount.incrementAndGet() <= maxIdle) {
+            idle.offer(instance);
+            return;
+        }
+        
+        idleCount.decrementAndGet();
+        discard(instance);
+    }
+    
+    /**
+     * Get the number of idle instances currently in the pool
+     * 
+     * @return int the number of idle instances
+     */
+    public int getIdleCount() {
+        return idleCount.get();
+    }
+    
+    /**
+     * Called when the instance is returned to the pool, to allow all {@link Reset} annotated methods to be called
+     * 
+     * @param bean BEAN_TYPE instance which is to be reset
+     */
+    protected void reset(BEAN_TYPE bean) {
+    }
+    
+    /**
+     * Discard an instance which is not to be retained by the pool
+     * 
+     * @param instance BEAN_TYPE which is to be discarded
+     */
+    private void discard(BEAN_TYPE instance) {
+        if (instance instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                LOGGER.warning("Unable to close pooled " + getDescription() + ": " + e.getMessage());
+            }
+        }
+    }
+}
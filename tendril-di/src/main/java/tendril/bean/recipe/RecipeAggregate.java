@@ -0,0 +1,85 @@
+/*
+ * Copyright 2025 Jaroslav Bosak
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/license/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tendril.bean.recipe;
+
+import tendril.context.Engine;
+
+/**
+ * Aggregate of the recipes of a package, through which all of the recipes are generated within a single class rather than one class per bean. Each recipe is identified
+ * by its id within the aggregate (which is also its index as a {@link RecipeBootstrap}), the recipes themselves being {@link AggregatedRecipes} which delegate the
+ * bean specific steps of building the bean to the aggregate.
+ * 
+ * This is not intended to be used by any client code, unless manually creating the bean infrastructure which is heavily discouraged.
+ */
+public interface RecipeAggregate extends RecipeBootstrap {
+    /** Prefix of the methods of the aggregate through which each recipe is created, the id of the recipe forming the suffix */
+    String RECIPE_METHOD_PREFIX = "recipe";
+    
+    /**
+     * Get the name through which the recipe is identified
+     * 
+     * @param aggregate {@link String} fully qualified name of the aggregate class
+     * @param id        int the id of the recipe within the aggregate
+     * @return {@link String} name of the recipe
+     */
+    static String getRecipeName(String aggregate, int id) {
+        return aggregate + "#" + id;
+    }
+
+    /**
+     * Get the dependencies which are to be declared by the recipe
+     * 
+     * @param id int the id of the recipe within the aggregate
+     * @return {@link Descriptor}[] of the dependencies, in the order in which they are retrieved via {@link AbstractRecipe#getDependency(int)}
+     */
+    Descriptor<?>[] getDependencies(int id);
+    
+    /**
+     * Create a new instance of the bean
+     * 
+     * @param id     int the id of the recipe within the aggregate
+     * @param recipe {@link AbstractRecipe} which is creating the bean
+     * @param engine {@link Engine} through which dependencies which are not linked are retrieved
+     * @return {@link Object} the newly created bean
+     */
+    Object createInstance(int id, AbstractRecipe<?> recipe, Engine engine);
+    
+    /**
+     * Inject the fields and methods of the bean
+     * 
+     * @param id       int the id of the recipe within the aggregate
+     * @param consumer {@link Object} the bean into which the dependencies are to be injected
+     * @param recipe   {@link AbstractRecipe} which is building the bean
+     * @param engine   {@link Engine} through which dependencies which are not linked are retrieved
+     */
+    void injectDependencies(int id, Object consumer, AbstractRecipe<?> recipe, Engine engine);
+    
+    /**
+     * Perform the post construction of the bean
+     * 
+     * @param id   int the id of the recipe within the aggregate
+     * @param bean {@link Object} which was built
+     */
+    void postConstruct(int id, Object bean);
+    
+    /**
+     * Reset the bean prior to it being returned to its pool
+     * 
+     * @param id   int the id of the recipe within the aggregate
+     * @param bean {@link Object} which is being returned
+     */
+    void reset(int id, Object bean);
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2025 Jaroslav Bosak
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/license/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tendril.bean.recipe;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+import tendril.context.Engine;
+
+/**
+ * Bootstrap through which the recipes of a module are created. An implementation of this is generated for each module containing recipes annotated with @{@link Registry},
+ * allowing the {@link Engine} to discover them via a single {@link ServiceLoader} lookup and create the recipes directly (i.e.: without relying on reflection).
+ * 
+ * Where the module is built with direct wiring, the bootstrap additionally contains the wiring table of the module. This maps the dependencies which were resolved at compile
+ * time to recipes of the same module, such that they are linked directly to those recipes rather than being resolved by the {@link Engine}.
+ * 
+ * This is not intended to be used by any client code, unless manually creating the bean infrastructure which is heavily discouraged.
+ */
+public interface RecipeBootstrap {
+
+    /**
+     * Get the fully qualified names of the recipe classes which the bootstrap can create. The index of a name within the array is the index through which the recipe is created.
+     * 
+     * @return {@link String}[] of recipe class names
+     */
+    String[] getRecipeNames();
+
+    /**
+     * Create the recipe at the indicated index.
+     * 
+     * @param index  int the index of the recipe (within {@code getRecipeNames()}) which is to be created
+     * @param engine {@link Engine} in which the recipe is to be registered
+     * @return {@link AbstractRecipe} that was created
+     */
+    AbstractRecipe<?> createRecipe(int index, Engine engine);
+    
+    /**
+     * Get the dependencies of the recipe at the indicated index which are wired directly to other recipes of the bootstrap. Any dependency which is not wired is resolved
+     * by the {@link Engine} as usual.
+     * 
+     * @param index int the index of the recipe (within {@code getRecipeNames()}) whose wiring is to be retrieved
+     * @return {@link Map} of the wiring keys of the dependencies (per {@link #getWiringKey(Descriptor)}) to the index of the recipe to which they are wired
+     */
+    default Map<String, Integer> getWiring(int index) {
+        return Map.of();
+    }
+    
+    /**
+     * Get the key through which the described dependency is wired
+     * 
+     * @param descriptor {@link Descriptor} of the dependency
+     * @return {@link String} wiring key of the dependency
+     */
+    static String getWiringKey(Descriptor<?> descriptor) {
+        return getWiringKey(descriptor.getTypeKey(), descriptor.getName(), descriptor.getQualifiers());
+    }
+    
+    /**
+     * Get the key through which the described dependency is wired
+     * 
+     * @param type       {@link String} canonical key of the type of the dependency
+     * @param name       {@link String} name of the dependency (blank if it is not named)
+     * @param qualifiers {@link Collection} of {@link String} qualifiers of the dependency
+     * @return {@link String} wiring key of the dependency
+     */
+    static String getWiringKey(String type, String name, Collection<String> qualifiers) {
+        List<String> sorted = new ArrayList<>(qualifiers);
+        sorted.sort(null);
+        return type + "#" + name + "#" + String.join(",", sorted);
+    }
+}
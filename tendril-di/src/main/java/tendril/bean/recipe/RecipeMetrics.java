@@ -0,0 +1,116 @@
+/*
+ * Copyright 2025 Jaroslav Bosak
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/license/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tendril.bean.recipe;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics of the beans built by a single recipe. All counters are {@link LongAdder}s, such that beans which are built concurrently (i.e.: factory beans on request paths)
+ * do not contend on them. The latency of the builds is tracked in a histogram with power of two buckets (in microseconds), where bucket 0 contains the builds which took less
+ * than a microsecond, bucket n those which took at least 2<sup>n-1</sup> but less than 2<sup>n</sup> microseconds, and the last bucket all slower builds.
+ */
+public class RecipeMetrics {
+    /** The number of buckets in the latency histogram */
+    public static final int BUCKETS = 24;
+
+    /** The number of beans which have been built */
+    private final LongAdder builds = new LongAdder();
+    /** The total time spent building beans */
+    private final LongAdder totalNanos = new LongAdder();
+    /** The latency histogram of the builds */
+    private final LongAdder[] latency = new LongAdder[BUCKETS];
+
+    /**
+     * CTOR
+     */
+    RecipeMetrics() {
+        for (int i = 0; i < BUCKETS; i++)
+            latency[i] = new LongAdder();
+    }
+
+    /**
+     * Record that a bean has been built
+     * 
+     * @param nanos long nanoseconds taken to build the bean
+     */
+    void recordBuild(long nanos) {
+        builds.increment();
+        totalNanos.add(nanos);
+        latency[getBucket(nanos)].increment();
+    }
+
+    /**
+     * Record that a batch of beans has been built. As the beans are not timed individually, each is deemed to have taken the average time of the batch.
+     * 
+     * @param count int the number of beans which were built
+     * @param nanos long nanoseconds taken to build the whole batch
+     */
+    void recordBuilds(int count, long nanos) {
+        builds.add(count);
+        totalNanos.add(nanos);
+        latency[getBucket(nanos / count)].add(count);
+    }
+
+    /**
+     * Get the number of beans which have been built
+     * 
+     * @return long the number of builds
+     */
+    public long getBuilds() {
+        return builds.sum();
+    }
+
+    /**
+     * Get the total time spent building beans
+     * 
+     * @return long nanoseconds
+     */
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    /**
+     * Get the number of builds whose latency falls within the bucket
+     * 
+     * @param bucket int the bucket of the histogram
+     * @return long the number of builds
+     */
+    public long getLatencyCount(int bucket) {
+        return latency[bucket].sum();
+    }
+
+    /**
+     * Get the bucket of the latency histogram into which a build falls
+     * 
+     * @param nanos long nanoseconds the build took
+     * @return int the bucket
+     */
+    public static int getBucket(long nanos) {
+        long micros = TimeUnit.NANOSECONDS.toMicros(nanos);
+        return Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros));
+    }
+
+    /**
+     * Get the (exclusive) upper bound of the latency of the builds within a bucket
+     * 
+     * @param bucket int the bucket of the histogram
+     * @return long microseconds ({@link Long#MAX_VALUE} for the last bucket)
+     */
+    public static long getBucketUpperBoundMicros(int bucket) {
+        return bucket == BUCKETS - 1 ? Long.MAX_VALUE : 1L << bucket;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2025 Jaroslav Bosak
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/license/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tendril.bean.recipe;
+
+import tendril.BeanCreationException;
+import tendril.context.ApplicationContext;
+import tendril.context.Engine;
+import tendril.context.RequestScope;
+
+/**
+ * Abstract recipe for creating request scoped beans, where each request scope within which the bean is retrieved receives its own instance. The instance is created on the first
+ * retrieval within a scope, with all subsequent retrievals within that scope (including from threads started within it) returning the same instance. Request scopes are started
+ * via {@link ApplicationContext#runInRequestScope(Runnable)}, and retrieving the bean outside of one results in a {@link BeanCreationException}.
+ * 
+ * @param <BEAN_TYPE> the type of bean the recipe creates
+ */
+public abstract class RequestScopedRecipe<BEAN_TYPE> extends AbstractRecipe<BEAN_TYPE> {
+
+    /**
+     * CTOR
+     * 
+     * @param engine {@link Engine} powering the {@link ApplicationContext} in which the bean lives
+     * @param beanClass {@link Class} of the bean instance
+     */
+    protected RequestScopedRecipe(Engine engine, Class<BEAN_TYPE> beanClass) {
+        super(engine, beanClass);
+    }
+    
+    /**
+     * CTOR
+     * 
+     * @param engine {@link Engine} powering the {@link ApplicationContext} in which the bean lives
+     * @param descriptor {@link Descriptor} containing the basic description of the bean
+     * @param dependencies {@link Descriptor}s of the dependencies which are known up front
+     */
+    protected RequestScopedRecipe(Engine engine, Descriptor<BEAN_TYPE> descriptor, Descriptor<?>... dependencies) {
+        super(engine, descriptor, dependencies);
+    }
+
+    /**
+     * The bean instance is specific to the current request scope, created on the first access within the scope and the existing instance returned for each subsequent one.
+     * 
+     * @see tendril.bean.recipe.AbstractRecipe#get()
+     */
+    @Override
+    public BEAN_TYPE get() {
+        RequestScope scope = RequestScope.current();
+        if (scope == null)
+            throw new BeanCreationException(getDescription(), "No request scope is active");
+        
+        return scope.getInstance(this, this::buildBean);
+    }
+}
@@ -15,6 +15,15 @@
  */
 package tendril.bean.recipe;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import tendril.BeanCreationException;
 import tendril.context.ApplicationContext;
 import tendril.context.Engine;
 
@@ -23,12 +32,36 @@ import tendril.context.Engine;
  * need to be singleton, rather the recipe ensures that the specific instance of an concrete bean is only created once and simply returns the created instance for every
  * subsequent access to the bean.
  * 
+ * Access is thread safe. Once the bean is created, retrieving it is a single (acquire) read of the instance. The first creation is coordinated via a lock specific to the recipe,
+ * ensuring that only one instance is ever built and that it is only published once fully constructed. A {@link ReentrantLock} is used (rather than synchronization) such that
+ * virtual threads waiting on the creation do not pin their carrier thread. Should the creation of the bean require the bean itself (i.e.: a constructor cycle that was not caught
+ * at compile time), this is detected via the lock being re-entered and reported as a {@link BeanCreationException}. The same applies where the cycle spans beans which are
+ * being created on different threads (i.e.: the {@link tendril.bean.PostConstruct} methods of two eagerly created singletons retrieving each other via a
+ * {@link tendril.bean.Provider}), which is detected prior to waiting on the lock of a bean whose creation would in turn be waiting on the current thread.
+ * 
  * @param <BEAN_TYPE> the type of bean the recipe creates
  */
 public abstract class SingletonRecipe<BEAN_TYPE> extends AbstractRecipe<BEAN_TYPE> {
+    
+    /** Handle through which the bean instance is published and read */
+    private static final VarHandle BEAN;
+    static {
+        try {
+            BEAN = MethodHandles.lookup().findVarHandle(SingletonRecipe.class, "bean", Object.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /** The recipes whose creation lock each thread is waiting on */
+    private static final Map<Thread, SingletonRecipe<?>> WAITING = new ConcurrentHashMap<>();
 
     /** The singleton instance of the bean */
     private BEAN_TYPE bean = null;
+    /** Lock which coordinates the creation of the bean instance */
+    private final ReentrantLock creationLock = new ReentrantLock();
+    /** The thread which is creating the bean instance (null when the bean is not being created) */
+    private volatile Thread creator = null;
     
     /**
      * CTOR
@@ -40,16 +73,88 @@ public abstract class SingletonRecipe<BEAN_TYPE> extends AbstractRecipe<BEAN_TYP
         super(engine, beanClass);
     }
     
+    /**
+     * CTOR
+     * 
+     * @param engine {@link Engine} powering the {@link ApplicationContext} in which the bean lives
+     * @param descriptor {@link Descriptor} containing the basic description of the bean
+     * @param dependencies {@link Descriptor}s of the dependencies which are known up front
+     */
+    protected SingletonRecipe(Engine engine, Descriptor<BEAN_TYPE> descriptor, Descriptor<?>... dependencies) {
+        super(engine, descriptor, dependencies);
+    }
+    
     /**
      * The bean instance is treated as a singleton, created on the first access and the existing instance returned for each subsequent one.
      * 
      * @see tendril.bean.recipe.AbstractRecipe#get()
      */
+    @SuppressWarnings("unchecked")
     @Override
     public BEAN_TYPE get() {
-        if (bean == null)
-            bean = buildBean();
+        BEAN_TYPE instance = (BEAN_TYPE) BEAN.getAcquire(this);
+        if (instance != null)
+            return instance;
         
-        return bean;
+        if (!creationLock.tryLock())
+            awaitCreationLock();
+        try {
+            if (creationLock.getHoldCount() > 1)
+                throw new BeanCreationException(getDescription(), "Circular dependency, the bean is required for its own creation");
+            
+            // Another thread may have created it while waiting for the lock
+            instance = (BEAN_TYPE) BEAN.getAcquire(this);
+            if (instance == null) {
+                creator = Thread.currentThread();
+                try {
+                    instance = buildBean();
+                } finally {
+                    creator = null;
+                }
+                BEAN.setRelease(this, instance);
+            }
+            return instance;
+        } finally {
+            creationLock.unlock();
+        }
+    }
+    
+    /**
+     * Wait for the creation lock, which is held by another thread. The wait is registered prior to checking whether the other thread is (indirectly) waiting on the
+     * current thread, such that where two threads start waiting on each other at the same time at least the latter of them detects it.
+     * 
+     * @throws BeanCreationException if waiting would result in a deadlock
+     */
+    private void awaitCreationLock() {
+        Thread current = Thread.currentThread();
+        WAITING.put(current, this);
+        try {
+            if (isAwaitingThread(current))
+                throw new BeanCreationException(getDescription(), "Circular dependency, the bean is required for its own creation by a bean being created on another thread");
+            creationLock.lock();
+        } finally {
+            WAITING.remove(current);
+        }
+    }
+    
+    /**
+     * Check whether the creation of the bean is (indirectly) waiting on the thread, by following the chain of the threads creating the beans and the beans they are
+     * in turn waiting on.
+     * 
+     * @param thread {@link Thread} to check for
+     * @return boolean true if the creation of the bean is waiting on the thread
+     */
+    private boolean isAwaitingThread(Thread thread) {
+        Set<Thread> visited = new HashSet<>();
+        SingletonRecipe<?> awaited = this;
+        while (awaited != null) {
+            Thread owner = awaited.creator;
+            if (owner == thread)
+                return true;
+            if (owner == null || !visited.add(owner))
+                return false;
+            awaited = WAITING.get(owner);
+        }
+        return false;
     }
 }
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2025 Jaroslav Bosak
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/license/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tendril.bean.recipe;
+
+import java.lang.ref.Cleaner;
+import java.util.logging.Logger;
+
+import tendril.context.ApplicationContext;
+import tendril.context.Engine;
+
+/**
+ * Abstract recipe for creating thread scoped beans, where each thread which retrieves the bean receives its own instance. The instance is created on the first retrieval within
+ * a thread, with all subsequent retrievals within that thread returning the same instance. No locking is involved, as each instance is only ever accessed by its own thread.
+ * 
+ * When a thread finishes its instance is released along with the thread. Beans which are {@link AutoCloseable} are additionally closed once the thread has finished (more
+ * precisely, once the finished thread has been garbage collected). This applies equally to virtual threads, with each virtual thread receiving (and releasing) its own instance,
+ * so beans which are expensive to create should not be thread scoped where they are retrieved from large numbers of short lived virtual threads.
+ * 
+ * @param <BEAN_TYPE> the type of bean the recipe creates
+ */
+public abstract class ThreadScopedRecipe<BEAN_TYPE> extends AbstractRecipe<BEAN_TYPE> {
+
+    /** Logger for creating log messages when running */
+    private static Logger LOGGER = Logger.getLogger(ThreadScopedRecipe.class.getSimpleName());
+    /** Closes the instances of finished threads */
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    /** The instance of each thread */
+    private final ThreadLocal<BEAN_TYPE> instances = new ThreadLocal<>();
+
+    /**
+     * CTOR
+     * 
+     * @param engine {@link Engine} powering the {@link ApplicationContext} in which the bean lives
+     * @param beanClass {@link Class} of the bean instance
+     */
+    protected ThreadScopedRecipe(Engine engine, Class<BEAN_TYPE> beanClass) {
+        super(engine, beanClass);
+    }
+    
+    /**
+     * CTOR
+     * 
+     * @param engine {@link Engine} powering the {@link ApplicationContext} in which the bean lives
+     * @param descriptor {@link Descriptor} containing the basic description of the bean
+     * @param dependencies {@link Descriptor}s of the dependencies which are known up front
+     */
+    protected ThreadScopedRecipe(Engine engine, Descriptor<BEAN_TYPE> descriptor, Descriptor<?>... dependencies) {
+        super(engine, descriptor, dependencies);
+    }
+
+    /**
+     * The bean instance is specific to the current thread, created on the first access within the thread and the existing instance returned for each subsequent one.
+     * 
+     * @see tendril.bean.recipe.AbstractRecipe#get()
+     */
+    @Override
+    public BEAN_TYPE get() {
+        BEAN_TYPE instance = instances.get();
+        if (instance != null)
+            return instance;
+
+        instance = buildBean();
+        instances.set(instance);
+        if (instance instanceof AutoCloseable closeable)
+            CLEANER.register(Thread.currentThread(), new Closer(closeable, getDescription()));
+        return instance;
+    }
+
+    /**
+     * Closes an instance once its thread has finished. This must not reference the thread itself, otherwise the thread would never become unreachable.
+     */
+    private static class Closer implements Runnable {
+        /** The instance to close */
+        private final AutoCloseable instance;
+        /** Description of the bean */
+        private final Descriptor<?> descriptor;
+
+        /**
+         * CTOR
+         * 
+         * @param instance   {@link AutoCloseable} instance to close
+         * @param descriptor {@link Descriptor} of the bean
+         */
+        private Closer(AutoCloseable instance, Descriptor<?> descriptor) {
+            this.instance = instance;
+            this.descriptor = descriptor;
+        }
+
+        /**
+         * @see java.lang.Runnable#run()
+         */
+        @Override
+        public void run() {
+            try {
+                instance.close();
+            } catch (Exception e) {
+                LOGGER.warning("Unable to close thread scoped " + descriptor + ": " + e.getMessage());
+            }
+        }
+    }
+}
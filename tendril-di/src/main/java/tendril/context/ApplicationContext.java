@@ -15,6 +15,12 @@
  */
 package tendril.context;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.Callable;
+import java.util.logging.Logger;
+
 import tendril.bean.recipe.AbstractRecipe;
 import tendril.context.launch.TendrilRunner;
 import tendril.processor.registration.RunnerFile;
@@ -32,8 +38,15 @@ import tendril.processor.registration.RunnerFile;
  */
 public class ApplicationContext {
     
+    /** Logger for creating log messages when running */
+    private static Logger LOGGER = Logger.getLogger(ApplicationContext.class.getSimpleName());
+    
     /** The {@link Engine} which drives the bean passing */
     private final Engine engine;
+    /** Flag for whether all singletons are to be created when the context is started (rather than on first access) */
+    private boolean eagerInit = false;
+    /** Where the startup profiling report is to be written (null if startup is not to be profiled) */
+    private Path startupReport = null;
     
     /**
      * CTOR
@@ -51,19 +64,129 @@ public class ApplicationContext {
         this.engine = engine;
     }
 
+    /**
+     * Set whether the singleton beans are to be eagerly created when the context is started. By default singletons are only created when they are first accessed,
+     * whereas when eagerly created all singletons are created before the {@link TendrilRunner} is triggered. Singletons which do not depend on each other are created
+     * in parallel, such that the time taken is bound by the longest chain of dependencies rather than the sum of all singletons.
+     * 
+     * @param eagerInit boolean true if the singletons are to be eagerly created
+     * @return {@link ApplicationContext} for further configuration
+     */
+    public ApplicationContext setEagerInit(boolean eagerInit) {
+        this.eagerInit = eagerInit;
+        return this;
+    }
+
+    /**
+     * Set where the startup profiling report is to be written. When set, the creation of every bean during startup is profiled (see {@link StartupProfiler}) with the
+     * report being written once the {@link TendrilRunner} has been created, immediately before it is triggered.
+     * 
+     * @param startupReport {@link Path} where the report is to be written (null to disable profiling)
+     * @return {@link ApplicationContext} for further configuration
+     */
+    public ApplicationContext setStartupReport(Path startupReport) {
+        this.startupReport = startupReport;
+        return this;
+    }
+
+    /**
+     * Get a snapshot of the metrics of the dependency injection within the context
+     * 
+     * @return {@link EngineMetrics} containing the current metrics
+     */
+    public EngineMetrics getMetrics() {
+        return engine.getMetrics();
+    }
+
+    /**
+     * Run the task within a new request scope, such that all request scoped beans retrieved by the task (or any threads it starts) are specific to it. The scope ends when
+     * the task finishes, at which point any request scoped beans which are {@link AutoCloseable} are closed. Where the task is run from within another request scope, the
+     * outer scope is restored once the task has finished.
+     * 
+     * @param task {@link Runnable} to run within the request scope
+     */
+    public void runInRequestScope(Runnable task) {
+        try {
+            RequestScope.call(() -> {
+                task.run();
+                return null;
+            });
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            // Cannot happen, as a Runnable cannot throw checked exceptions
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Call the task within a new request scope, such that all request scoped beans retrieved by the task (or any threads it starts) are specific to it. The scope ends when
+     * the task finishes, at which point any request scoped beans which are {@link AutoCloseable} are closed. Where the task is called from within another request scope, the
+     * outer scope is restored once the task has finished.
+     * 
+     * @param <T> the type of result the task produces
+     * @param task {@link Callable} to call within the request scope
+     * @return T the result of the task
+     * @throws Exception if the task failed
+     */
+    public <T> T callInRequestScope(Callable<T> task) throws Exception {
+        return RequestScope.call(task);
+    }
+
     /**
      * Start the context and trigger execution via the defined {@link TendrilRunner}
      */
     public void start() {
+        StartupProfiler profiler = startupReport == null ? null : new StartupProfiler();
+        if (profiler == null) {
+            launch(null);
+            return;
+        }
+        
+        profiler.activate();
+        try {
+            launch(profiler);
+        } finally {
+            profiler.deactivate();
+        }
+    }
+    
+    /**
+     * Initialize the engine and trigger execution via the defined {@link TendrilRunner}
+     * 
+     * @param profiler {@link StartupProfiler} which is profiling the startup (null if it is not being profiled)
+     */
+    private void launch(StartupProfiler profiler) {
         engine.init();
+        if (eagerInit)
+            engine.initSingletons();
 
         try {
             String runnerClass = RunnerFile.read();
             TendrilRunner runner = (TendrilRunner) ((AbstractRecipe<?>)Class.forName(runnerClass).getDeclaredConstructor(Engine.class).newInstance(engine)).get();
+            
+            if (profiler != null) {
+                profiler.deactivate();
+                writeStartupReport(profiler);
+            }
             runner.run();
         } catch (Exception e) {
             e.printStackTrace();
         }
     }
     
+    /**
+     * Write the startup profiling report
+     * 
+     * @param profiler {@link StartupProfiler} which profiled the startup
+     */
+    private void writeStartupReport(StartupProfiler profiler) {
+        try {
+            Files.writeString(startupReport, profiler.generateReport());
+            LOGGER.info("Startup report written to " + startupReport);
+        } catch (IOException e) {
+            LOGGER.severe("Unable to write startup report to " + startupReport + ": " + e.getMessage());
+        }
+    }
+    
 }
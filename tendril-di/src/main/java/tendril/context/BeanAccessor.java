@@ -0,0 +1,70 @@
+/*
+ * Copyright 2025 Jaroslav Bosak
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/license/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tendril.context;
+
+import tendril.bean.recipe.AbstractRecipe;
+import tendril.bean.recipe.Descriptor;
+
+/**
+ * Static accessor of a single bean, as used by the generated accessor class of a module (see {@link BeanAccessors}). The recipe of the bean is resolved on the first
+ * access and retained, such that subsequent accesses retrieve the bean directly from the recipe. Should the accessors be bound to another {@link Engine} in the meantime,
+ * the recipe is resolved anew through it.
+ * 
+ * @param <BEAN_TYPE> the type of bean which is accessed
+ */
+public final class BeanAccessor<BEAN_TYPE> {
+    
+    /**
+     * The recipe resolved through an engine
+     * 
+     * @param <BEAN_TYPE> the type of bean which the recipe provides
+     * @param engine {@link Engine} through which the recipe was resolved
+     * @param recipe {@link AbstractRecipe} of the bean
+     */
+    private record Resolution<BEAN_TYPE>(Engine engine, AbstractRecipe<BEAN_TYPE> recipe) {
+    }
+    
+    /** Description of the bean which is accessed */
+    private final Descriptor<BEAN_TYPE> descriptor;
+    /** The recipe as it was last resolved (null until first accessed) */
+    private volatile Resolution<BEAN_TYPE> resolution = null;
+    
+    /**
+     * CTOR
+     * 
+     * @param descriptor {@link Descriptor} of the bean which is accessed, which must match exactly one bean
+     */
+    public BeanAccessor(Descriptor<BEAN_TYPE> descriptor) {
+        this.descriptor = descriptor;
+    }
+    
+    /**
+     * Get the bean, as per its life cycle
+     * 
+     * @return BEAN_TYPE the bean
+     * @throws IllegalStateException if no {@link ApplicationContext} has been started
+     * @throws tendril.BeanRetrievalException if there is not exactly one matching recipe
+     */
+    public BEAN_TYPE get() {
+        Engine bound = BeanAccessors.getEngine();
+        Resolution<BEAN_TYPE> r = resolution;
+        if (r == null || r.engine() != bound) {
+            r = new Resolution<>(bound, bound.getRecipe(descriptor));
+            resolution = r;
+        }
+        return r.recipe().get();
+    }
+}
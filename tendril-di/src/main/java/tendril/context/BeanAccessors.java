@@ -0,0 +1,83 @@
+/*
+ * Copyright 2025 Jaroslav Bosak
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/license/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tendril.context;
+
+import java.util.logging.Logger;
+
+import tendril.bean.recipe.AbstractRecipe;
+import tendril.bean.recipe.Descriptor;
+
+/**
+ * Support for the static bean accessors which can be generated for a module (see {@link tendril.processor.registration.RegistryProcessor#ACCESSORS_OPTION}). Each
+ * accessor retrieves its bean via a {@link BeanAccessor}, which resolves the recipe once via the {@link Engine} of the started {@link ApplicationContext} and then
+ * retrieves the bean directly from it. As such accessing the bean requires neither a {@link Descriptor} to be created nor the bean to be looked up.
+ * 
+ * The recipes are only resolved when a bean is first accessed, so the accessor class can be loaded at any time. Accessing a bean before an {@link ApplicationContext}
+ * has been started fails with an {@link IllegalStateException}, after which the bean can still be accessed once the context is started. The accessors are static and
+ * thus shared by all contexts, they are always bound to the most recently started context (with a warning being logged when a context takes over from another).
+ */
+public final class BeanAccessors {
+    /** Logger for the accessors */
+    private static final Logger LOGGER = Logger.getLogger(BeanAccessors.class.getSimpleName());
+    
+    /** The engine of the started context (null until a context has been started) */
+    private static volatile Engine engine = null;
+    
+    /**
+     * CTOR - hidden, as this is merely a collection of static helpers
+     */
+    private BeanAccessors() {
+    }
+    
+    /**
+     * Bind the accessors to the engine, such that the recipes are resolved through it. Any recipes which were resolved through a previously bound engine are resolved
+     * anew on their next access.
+     * 
+     * @param engine {@link Engine} which has been initialized
+     */
+    static void bind(Engine engine) {
+        Engine previous = BeanAccessors.engine;
+        if (previous != null && engine != null && previous != engine)
+            LOGGER.warning("Another " + ApplicationContext.class.getSimpleName() + " has been started, the static bean accessors are now bound to it");
+        BeanAccessors.engine = engine;
+    }
+    
+    /**
+     * Get the engine to which the accessors are bound
+     * 
+     * @return {@link Engine} of the most recently started context
+     * @throws IllegalStateException if no {@link ApplicationContext} has been started
+     */
+    static Engine getEngine() {
+        Engine bound = engine;
+        if (bound == null)
+            throw new IllegalStateException("Beans can only be accessed statically once the " + ApplicationContext.class.getSimpleName() + " has been started");
+        return bound;
+    }
+    
+    /**
+     * Get the recipe of the bean matching the provided descriptor. The descriptor must resolve to exactly one recipe otherwise an exception will be thrown.
+     * 
+     * @param <BEAN_TYPE> indicating the type of bean whose recipe is to be retrieved
+     * @param descriptor  {@link Descriptor} containing the description of the bean
+     * @return {@link AbstractRecipe} of the bean
+     * @throws IllegalStateException if no {@link ApplicationContext} has been started
+     * @throws tendril.BeanRetrievalException if there is not exactly one matching recipe
+     */
+    public static <BEAN_TYPE> AbstractRecipe<BEAN_TYPE> getRecipe(Descriptor<BEAN_TYPE> descriptor) {
+        return getEngine().getRecipe(descriptor);
+    }
+}
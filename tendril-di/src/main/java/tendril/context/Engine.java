@@ -18,13 +18,40 @@ package tendril.context;
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
+import tendril.BeanCreationException;
 import tendril.BeanRetrievalException;
+import tendril.bean.Pooled;
+import tendril.bean.Provider;
+import tendril.bean.qualifier.BeanId;
 import tendril.bean.recipe.AbstractRecipe;
 import tendril.bean.recipe.Descriptor;
+import tendril.bean.recipe.FactoryRecipe;
+import tendril.bean.recipe.PooledRecipe;
+import tendril.bean.recipe.RecipeBootstrap;
+import tendril.bean.recipe.RecipeMetrics;
+import tendril.bean.recipe.SingletonRecipe;
+import tendril.jfr.BeanResolutionEvent;
+import tendril.jfr.TendrilEvent;
 import tendril.processor.registration.RegistryFile;
+import tendril.processor.registration.RegistryIndex;
 
 /**
  * The core element within the {@link ApplicationContext} which is responsible for the bulk of the Dependency Injection capability. This tracks all beans (via their recipes) and allows for their
@@ -32,11 +59,117 @@ import tendril.processor.registration.RegistryFile;
  */
 public class Engine {
 
+    /** Marker for an id which is shared by multiple recipes */
+    private static final Object AMBIGUOUS = new Object();
     /** Logger for creating log messages when running */
     private static Logger LOGGER = Logger.getLogger(Engine.class.getSimpleName());
 
     /** All recipes that have been registered */
-    private final List<AbstractRecipe<?>> recipes = new ArrayList<>();
+    private final List<RecipeEntry> entries = new ArrayList<>();
+    /** Index of the recipes by the key of every type (class, super class, and interface, both raw and parameterized) through which their bean can be retrieved */
+    private final Map<String, List<RecipeEntry>> typeIndex = new HashMap<>();
+    /** Index of the recipes by the name that has been applied to their bean */
+    private final Map<String, List<RecipeEntry>> nameIndex = new HashMap<>();
+    /** Index of the indexed recipes by the name of their recipe class, through which the dependencies that were wired at compile time are linked */
+    private final Map<String, RecipeEntry> recipeIndex = new HashMap<>();
+    /** The outcome of every lookup which has been performed, including those where no or multiple matches were found */
+    private final Map<Descriptor<?>, Resolution> resolved = new ConcurrentHashMap<>();
+    /** The recipes of the beans with an enum id, per description and enumeration, indexed by the ordinal of the id (with {@link #AMBIGUOUS} where multiple recipes share an id) */
+    private final Map<Descriptor<?>, Map<Class<?>, Object[]>> idResolved = new ConcurrentHashMap<>();
+    /** The providers which have been handed out, such that all injections of the same description share the same (resolved) provider */
+    private final Map<Descriptor<?>, Provider<?>> providers = new ConcurrentHashMap<>();
+    /** The number of lookups which were answered from the resolved lookups */
+    private final LongAdder cacheHits = new LongAdder();
+    /** The number of lookups which had to be resolved from the indexes */
+    private final LongAdder cacheMisses = new LongAdder();
+    /** The number of lookups which matched multiple beans */
+    private final LongAdder ambiguousLookups = new LongAdder();
+    /** The number of lookups which matched no bean */
+    private final LongAdder failedLookups = new LongAdder();
+    /** The generation of the registered recipes, which changes whenever a recipe is registered (such that any links to recipes can be re-resolved) */
+    private volatile int generation = 0;
+
+    /**
+     * The outcome of a lookup
+     * 
+     * @param recipes {@link List} of {@link AbstractRecipe}s which match the lookup
+     * @param lookups {@link LongAdder} counting the number of times the lookup was performed
+     */
+    private record Resolution(List<AbstractRecipe<?>> recipes, LongAdder lookups) {
+    }
+
+    /**
+     * A registered recipe, along with the metadata of the bean it provides. Where the metadata is known ahead of time (from the {@link RegistryIndex}) the recipe
+     * itself is only created when it is first matched by a lookup.
+     */
+    private class RecipeEntry {
+        /** The name applied to the bean */
+        private final String name;
+        /** The keys of all types through which the bean can be retrieved */
+        private final Set<String> types;
+        /** Creates the recipe when it is first needed */
+        private final Supplier<AbstractRecipe<?>> creator;
+        /** Retrieves the wiring of the dependencies of the recipe, as the names of the recipe classes to which they are wired by their wiring keys (null if not wired) */
+        private final Supplier<Map<String, String>> wiring;
+        /** The recipe, once it has been created */
+        private final AtomicReference<AbstractRecipe<?>> recipe = new AtomicReference<>();
+
+        /**
+         * CTOR
+         * 
+         * @param name    {@link String} name applied to the bean
+         * @param types   {@link Set} of {@link String}s with the keys of all types through which the bean can be retrieved
+         * @param creator {@link Supplier} which creates the recipe (returning null if it cannot be created)
+         * @param wiring  {@link Supplier} which retrieves the wiring of the dependencies of the recipe (null if the recipe is not wired)
+         */
+        private RecipeEntry(String name, Set<String> types, Supplier<AbstractRecipe<?>> creator, Supplier<Map<String, String>> wiring) {
+            this.name = name;
+            this.types = types;
+            this.creator = creator;
+            this.wiring = wiring;
+        }
+
+        /**
+         * Get the recipe, creating (and linking) it if this is the first time it is needed. Concurrent first accesses may each create a recipe, but only one of them is ever
+         * retained. The recipe is linked before it is published, such that no other thread can retrieve it unlinked (which would link it without its wiring). This is safe
+         * as the links are only resolved on their first use.
+         * 
+         * @return {@link AbstractRecipe} of the entry, or null if it cannot be created
+         */
+        private AbstractRecipe<?> getRecipe() {
+            AbstractRecipe<?> r = recipe.get();
+            if (r == null) {
+                AbstractRecipe<?> created = creator.get();
+                if (created == null)
+                    return recipe.get();
+                
+                link(created);
+                r = recipe.compareAndSet(null, created) ? created : recipe.get();
+            }
+            return r;
+        }
+        
+        /**
+         * Link the recipe of the entry, with the dependencies that were wired at compile time being linked directly to the entries of the recipes to which they are wired.
+         * 
+         * @param r {@link AbstractRecipe} of the entry
+         */
+        private void link(AbstractRecipe<?> r) {
+            Map<String, String> wired = wiring == null ? Map.of() : wiring.get();
+            if (wired.isEmpty()) {
+                r.link();
+                return;
+            }
+            
+            Map<String, Provider<?>> wiredProviders = new HashMap<>();
+            for (Entry<String, String> w : wired.entrySet()) {
+                RecipeEntry target = recipeIndex.get(w.getValue());
+                if (target != null)
+                    wiredProviders.put(w.getKey(), new WiredProvider<>(target::getRecipe));
+            }
+            r.link(wiredProviders);
+        }
+    }
 
     /**
      * CTOR
@@ -45,28 +178,207 @@ public class Engine {
     }
 
     /**
-     * Initialize the engine by reading the list of all known recipes and registering them with the engine. Each recipe object is created, though the bean contained within is not created until it
-     * becomes necessary to do so (i.e.: accessed by a Consumer).
+     * Initialize the engine by reading the list of all known recipes and registering them with the engine. The lookup tables are built from the metadata of the {@link RegistryIndex},
+     * with the recipe object only being created when it is first looked up (and the bean contained within not being created until it becomes necessary to do so, i.e.: accessed by
+     * a Consumer). The recipes are created via the generated {@link RecipeBootstrap}s where possible, otherwise reflectively. Any recipes which are not indexed (i.e.: for modules
+     * which were built without one) are created immediately, such that their metadata can be retrieved from them. Once initialized, the engine is bound to the
+     * {@link BeanAccessors} such that the generated static accessors resolve the recipes through it.
      */
     void init() {
+        Map<String, Supplier<Map<String, String>>> wirings = new HashMap<>();
+        Map<String, Supplier<AbstractRecipe<?>>> bootstrapped = loadBootstraps(wirings);
+        Set<String> registered = new HashSet<>();
+
+        try {
+            for (RegistryIndex.Entry e : RegistryIndex.read()) {
+                if (!registered.add(e.recipeClass()))
+                    continue;
+
+                Supplier<AbstractRecipe<?>> creator = bootstrapped.getOrDefault(e.recipeClass(), () -> createReflectively(e.recipeClass()));
+                RecipeEntry entry = new RecipeEntry(e.name(), Set.copyOf(e.types()), () -> loadRecipe(e.recipeClass(), creator), wirings.get(e.recipeClass()));
+                recipeIndex.put(e.recipeClass(), entry);
+                register(entry);
+                LOGGER.fine("Indexed recipe " + e.recipeClass());
+            }
+        } catch (IOException e) {
+            LOGGER.severe("Unable to read the registry index: " + e.getMessage());
+        }
+
+        for (Entry<String, Supplier<AbstractRecipe<?>>> b : bootstrapped.entrySet()) {
+            if (registered.add(b.getKey())) {
+                register(loadRecipe(b.getKey(), b.getValue()));
+                LOGGER.fine("Bootstrapped recipe " + b.getKey());
+            }
+        }
+
         try {
             for (String recipe : RegistryFile.read()) {
-                try {
-                    recipes.add((AbstractRecipe<?>) Class.forName(recipe).getDeclaredConstructor(Engine.class).newInstance(this));
+                if (registered.add(recipe)) {
+                    register(loadRecipe(recipe, () -> createReflectively(recipe)));
                     LOGGER.fine("Loaded recipe " + recipe);
-                } catch (ClassCastException e) {
-                    LOGGER.severe(recipe + " is not a proper recipe (does not extend " + AbstractRecipe.class.getName() + ")");
-                } catch (ClassNotFoundException e) {
-                    LOGGER.severe("Unable to find class " + recipe);
-                } catch (NoSuchMethodException | InstantiationException | IllegalArgumentException | InvocationTargetException e) {
-                    LOGGER.severe("Unable to create " + recipe);
-                } catch (IllegalAccessException | SecurityException e) {
-                    LOGGER.severe("Unable to access " + recipe);
                 }
             }
         } catch (IOException e) {
             e.printStackTrace();
         }
+        
+        link();
+        BeanAccessors.bind(this);
+    }
+    
+    /**
+     * Link the recipes which have been created to the recipes of their dependencies, such that the beans they build retrieve their dependencies directly from the recipes
+     * rather than looking them up each time. Recipes which are only created later on are linked as they are created. The links themselves are resolved on their first use,
+     * and resolved anew if the registered recipes change thereafter.
+     */
+    private void link() {
+        for (RecipeEntry e : entries) {
+            AbstractRecipe<?> r = e.recipe.get();
+            if (r != null)
+                e.link(r);
+        }
+    }
+
+    /**
+     * Load the {@link RecipeBootstrap}s on the classpath, without creating any of the recipes they provide (nor retrieving the wiring of their dependencies).
+     * 
+     * @param wirings {@link Map} where the means of retrieving the wiring of each recipe (as the names of the recipe classes to which its dependencies are wired) is placed
+     * @return {@link Map} of the names of the recipe classes to the means of creating them via their bootstrap
+     */
+    private Map<String, Supplier<AbstractRecipe<?>>> loadBootstraps(Map<String, Supplier<Map<String, String>>> wirings) {
+        Map<String, Supplier<AbstractRecipe<?>>> bootstrapped = new LinkedHashMap<>();
+
+        try {
+            for (RecipeBootstrap bootstrap : ServiceLoader.load(RecipeBootstrap.class, Engine.class.getClassLoader())) {
+                String[] names = bootstrap.getRecipeNames();
+                for (int i = 0; i < names.length; i++) {
+                    int index = i;
+                    if (bootstrapped.putIfAbsent(names[i], () -> bootstrap.createRecipe(index, this)) == null)
+                        wirings.put(names[i], () -> getWiring(bootstrap.getWiring(index), names));
+                }
+            }
+        } catch (ServiceConfigurationError e) {
+            LOGGER.severe("Unable to load recipe bootstrap: " + e.getMessage());
+        }
+
+        return bootstrapped;
+    }
+
+    /**
+     * Get the wiring of a recipe from its bootstrap
+     * 
+     * @param wiring {@link Map} of the wiring keys of the dependencies to the indexes of the recipes to which they are wired
+     * @param names  {@link String}[] containing the names of the recipe classes of the bootstrap
+     * @return {@link Map} of the wiring keys of the dependencies to the names of the recipe classes to which they are wired
+     */
+    private static Map<String, String> getWiring(Map<String, Integer> wiring, String[] names) {
+        Map<String, String> wired = new HashMap<>();
+        for (Entry<String, Integer> w : wiring.entrySet())
+            wired.put(w.getKey(), names[w.getValue()]);
+        return wired;
+    }
+
+    /**
+     * Load the recipe, recording the time taken to do so if startup is being profiled.
+     * 
+     * @param recipe  {@link String} fully qualified name of the recipe class
+     * @param creator {@link Supplier} which creates the recipe
+     * @return {@link AbstractRecipe} that was created, or null if it cannot be created
+     */
+    private AbstractRecipe<?> loadRecipe(String recipe, Supplier<AbstractRecipe<?>> creator) {
+        if (!StartupProfiler.isActive())
+            return creator.get();
+
+        long start = System.nanoTime();
+        try {
+            return creator.get();
+        } finally {
+            StartupProfiler.recipeLoaded(recipe, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Reflectively create the recipe
+     * 
+     * @param recipe {@link String} fully qualified name of the recipe class
+     * @return {@link AbstractRecipe} that was created, or null if it cannot be created
+     */
+    private AbstractRecipe<?> createReflectively(String recipe) {
+        try {
+            return (AbstractRecipe<?>) Class.forName(recipe).getDeclaredConstructor(Engine.class).newInstance(this);
+        } catch (ClassCastException e) {
+            LOGGER.severe(recipe + " is not a proper recipe (does not extend " + AbstractRecipe.class.getName() + ")");
+        } catch (ClassNotFoundException e) {
+            LOGGER.severe("Unable to find class " + recipe);
+        } catch (NoSuchMethodException | InstantiationException | IllegalArgumentException | InvocationTargetException e) {
+            LOGGER.severe("Unable to create " + recipe);
+        } catch (IllegalAccessException | SecurityException e) {
+            LOGGER.severe("Unable to access " + recipe);
+        }
+
+        return null;
+    }
+
+    /**
+     * Register the already created recipe with the engine, with its metadata being determined from its description.
+     * 
+     * @param recipe {@link AbstractRecipe} to register (ignored if null)
+     */
+    private void register(AbstractRecipe<?> recipe) {
+        if (recipe == null)
+            return;
+
+        Set<String> types = new HashSet<>();
+        TypeKeys.collect(recipe.getDescription().getBeanClass(), types);
+        RecipeEntry entry = new RecipeEntry(recipe.getDescription().getName(), types, () -> recipe, null);
+        entry.recipe.set(recipe);
+        register(entry);
+    }
+
+    /**
+     * Register the recipe with the engine, indexing it under its name and every type in the hierarchy of its bean.
+     * 
+     * @param entry {@link RecipeEntry} to register
+     */
+    private void register(RecipeEntry entry) {
+        entries.add(entry);
+        for (String type : entry.types)
+            typeIndex.computeIfAbsent(type, k -> new ArrayList<>()).add(entry);
+
+        if (!entry.name.isBlank())
+            nameIndex.computeIfAbsent(entry.name, k -> new ArrayList<>()).add(entry);
+        resolved.clear();
+        idResolved.clear();
+        generation++;
+    }
+    
+    /**
+     * Get the generation of the registered recipes. This changes every time a recipe is registered, such that anything which has resolved a recipe can determine
+     * whether it must be resolved anew.
+     * 
+     * @return int the current generation
+     */
+    int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Create all singleton beans, rather than waiting for them to be created on first access. Singletons which do not depend on one another are created in parallel, with
+     * each being created only once all of the singletons it depends on have been created.
+     * 
+     * @throws BeanCreationException if the creation of any of the singletons fails
+     */
+    void initSingletons() {
+        new SingletonInitializer(this).createAll();
+    }
+
+    /**
+     * Get all of the recipes that have been registered with the engine. Any recipes which have not yet been created are created.
+     * 
+     * @return {@link List} of {@link AbstractRecipe}s
+     */
+    List<AbstractRecipe<?>> getRecipes() {
+        return Collections.unmodifiableList(toRecipes(entries));
     }
 
     /**
@@ -75,11 +387,105 @@ public class Engine {
      * @return int the number of beans
      */
     public int getBeanCount() {
-        return recipes.size();
+        return entries.size();
     }
 
     /**
-     * Get the bean matching the provided descriptor. The descriptor must resolve to exactly one instance otherwise an exception will be thrown.
+     * Get a snapshot of the metrics of the engine. The bean creation metrics only account for recipes that have been created (i.e.: recipes which have never been looked
+     * up have, by definition, not created any beans).
+     * 
+     * @return {@link EngineMetrics} containing the current metrics
+     */
+    public EngineMetrics getMetrics() {
+        Map<String, Long> lookups = new HashMap<>();
+        resolved.forEach((desc, resolution) -> lookups.put(getLookupName(desc), resolution.lookups().sum()));
+
+        long singletons = 0;
+        long factoryInstances = 0;
+        Map<String, Long> created = new HashMap<>();
+        long[] latency = new long[RecipeMetrics.BUCKETS];
+        for (RecipeEntry entry : entries) {
+            AbstractRecipe<?> recipe = entry.recipe.get();
+            RecipeMetrics metrics = recipe == null ? null : recipe.getMetrics();
+            if (metrics == null)
+                continue;
+
+            long builds = metrics.getBuilds();
+            created.merge(recipe.getClass().getName(), builds, Long::sum);
+            if (recipe instanceof SingletonRecipe)
+                singletons += builds;
+            else if (recipe instanceof FactoryRecipe)
+                factoryInstances += builds;
+            for (int i = 0; i < latency.length; i++)
+                latency[i] += metrics.getLatencyCount(i);
+        }
+
+        return new EngineMetrics(cacheHits.sum(), cacheMisses.sum(), ambiguousLookups.sum(), failedLookups.sum(), lookups, singletons, factoryInstances, created, latency);
+    }
+
+    /**
+     * Get the name under which the lookups of the descriptor are reported in the metrics
+     * 
+     * @param descriptor {@link Descriptor} that was looked up
+     * @return {@link String} name of the lookup
+     */
+    private static String getLookupName(Descriptor<?> descriptor) {
+        StringBuilder str = new StringBuilder(descriptor.getTypeKey());
+        if (!descriptor.getName().isBlank())
+            str.append(" named \"" + descriptor.getName() + "\"");
+        if (!descriptor.getQualifiers().isEmpty())
+            str.append(" qualified by " + descriptor.getQualifiers());
+        return str.toString();
+    }
+
+    /**
+     * Get the bean matching the provided descriptor which has the indicated id. This is equivalent to {@code getBean(descriptor.withId(id))}, however the beans of the
+     * descriptor are indexed by the ordinal of their id such that selecting the bean by its id requires neither a new descriptor nor any comparison of the ids.
+     * 
+     * @param <BEAN_TYPE> indicating the type of bean that is to be retrieved
+     * @param <ID>        the enumeration from which the id comes
+     * @param descriptor  {@link Descriptor} containing the description of the bean that is to be retrieved (aside from its id)
+     * @param id          ID of the bean
+     * 
+     * @return The specific bean that is desired
+     * @throws BeanRetrievalException if there is an issue retrieving the desired bean
+     */
+    @SuppressWarnings("unchecked")
+    public <BEAN_TYPE, ID extends Enum<ID> & BeanId> BEAN_TYPE getBean(Descriptor<BEAN_TYPE> descriptor, ID id) {
+        Map<Class<?>, Object[]> byEnum = idResolved.computeIfAbsent(descriptor, k -> new ConcurrentHashMap<>());
+        Object[] byOrdinal = byEnum.get(id.getDeclaringClass());
+        if (byOrdinal == null)
+            byOrdinal = byEnum.computeIfAbsent(id.getDeclaringClass(), k -> indexByIds(descriptor, id.getDeclaringClass()));
+        
+        if (byOrdinal[id.ordinal()] instanceof AbstractRecipe<?> recipe) {
+            cacheHits.increment();
+            return (BEAN_TYPE) recipe.get();
+        }
+        // Not found or ambiguous, the full lookup provides the appropriate failure
+        return getBean(descriptor.withId(id));
+    }
+    
+    /**
+     * Index the recipes which match the descriptor by the ordinal of their id from the enumeration
+     * 
+     * @param <ID>       the enumeration from which the ids come
+     * @param descriptor {@link Descriptor} which the recipes must match
+     * @param idClass    {@link Class} of the enumeration
+     * @return {@link Object}[] containing the recipe for each ordinal, null if no recipe has the id, or {@link #AMBIGUOUS} if multiple recipes do
+     */
+    private <ID extends Enum<ID>> Object[] indexByIds(Descriptor<?> descriptor, Class<ID> idClass) {
+        Object[] byOrdinal = new Object[idClass.getEnumConstants().length];
+        for (AbstractRecipe<?> recipe : findRecipes(descriptor)) {
+            ID recipeId = recipe.getDescription().getId(idClass);
+            if (recipeId != null)
+                byOrdinal[recipeId.ordinal()] = byOrdinal[recipeId.ordinal()] == null ? recipe : AMBIGUOUS;
+        }
+        return byOrdinal;
+    }
+
+    /**
+     * Get the bean matching the provided descriptor. The descriptor must resolve to exactly one instance otherwise an exception will be thrown. The resolution is captured
+     * in a {@link BeanResolutionEvent}.
      * 
      * @param <BEAN_TYPE> indicating the type of bean that is to be retrieved
      * @param descriptor  {@link Descriptor} containing the description of the bean that is to be retrieved
@@ -88,32 +494,217 @@ public class Engine {
      * @throws BeanRetrievalException if there is an issue retrieving the desired bean
      */
     public <BEAN_TYPE> BEAN_TYPE getBean(Descriptor<BEAN_TYPE> descriptor) {
+        return getRecipe(descriptor).get();
+    }
+
+    /**
+     * Get the indicated number of beans matching the provided descriptor. The descriptor must resolve to exactly one recipe, with the resolution only being performed
+     * once for the whole batch. The beans are retrieved as per the life cycle of the recipe, such that a factory bean produces a distinct instance for each, created in
+     * a single batch. Where the beans are rather required one at a time, a {@link Provider} retrieves each from the resolved recipe as well.
+     * 
+     * @param <BEAN_TYPE> indicating the type of bean that is to be retrieved
+     * @param descriptor  {@link Descriptor} containing the description of the bean that is to be retrieved
+     * @param count       int the number of beans to retrieve
+     * 
+     * @return Unmodifiable {@link List} of the beans
+     * @throws IllegalArgumentException if the count is negative
+     * @throws BeanRetrievalException if there is an issue retrieving the desired bean
+     */
+    public <BEAN_TYPE> List<BEAN_TYPE> getBeans(Descriptor<BEAN_TYPE> descriptor, int count) {
+        if (count < 0)
+            throw new IllegalArgumentException("Cannot retrieve a negative number of beans [" + count + "]");
+        return getRecipe(descriptor).getBeans(count);
+    }
+
+    /**
+     * Get all beans matching the provided descriptor, in the order in which their recipes were registered. Any number of beans may match, including none at all. The
+     * matching recipes are resolved only once per description, with each retrieval merely retrieving the bean from each of them (as per their life cycle).
+     * 
+     * @param <BEAN_TYPE> indicating the type of beans that are to be retrieved
+     * @param descriptor  {@link Descriptor} containing the description of the beans that are to be retrieved
+     * 
+     * @return Unmodifiable {@link List} of all matching beans
+     */
+    @SuppressWarnings("unchecked")
+    public <BEAN_TYPE> List<BEAN_TYPE> getBeanList(Descriptor<BEAN_TYPE> descriptor) {
+        List<AbstractRecipe<BEAN_TYPE>> matchingRecipes = findRecipes(descriptor);
+        Object[] beans = new Object[matchingRecipes.size()];
+        for (int i = 0; i < beans.length; i++)
+            beans[i] = matchingRecipes.get(i).get();
+        return (List<BEAN_TYPE>) Collections.unmodifiableList(Arrays.asList(beans));
+    }
+
+    /**
+     * Get all (distinct) beans matching the provided descriptor, in the order in which their recipes were registered. Any number of beans may match, including none at all.
+     * 
+     * @param <BEAN_TYPE> indicating the type of beans that are to be retrieved
+     * @param descriptor  {@link Descriptor} containing the description of the beans that are to be retrieved
+     * 
+     * @return Unmodifiable {@link Set} of all matching beans
+     */
+    public <BEAN_TYPE> Set<BEAN_TYPE> getBeanSet(Descriptor<BEAN_TYPE> descriptor) {
+        return Collections.unmodifiableSet(new LinkedHashSet<>(getBeanList(descriptor)));
+    }
+
+    /**
+     * Get all beans matching the provided descriptor, mapped by their name, in the order in which their recipes were registered. Beans which have not been named are mapped
+     * by the fully qualified name of their class. Any number of beans may match, including none at all.
+     * 
+     * @param <BEAN_TYPE> indicating the type of beans that are to be retrieved
+     * @param descriptor  {@link Descriptor} containing the description of the beans that are to be retrieved
+     * 
+     * @return Unmodifiable {@link Map} of all matching beans
+     * @throws BeanRetrievalException if more than one of the matching beans has the same name
+     */
+    public <BEAN_TYPE> Map<String, BEAN_TYPE> getBeanMap(Descriptor<BEAN_TYPE> descriptor) {
+        List<AbstractRecipe<BEAN_TYPE>> matchingRecipes = findRecipes(descriptor);
+        Map<String, BEAN_TYPE> beans = new LinkedHashMap<>();
+        for (AbstractRecipe<BEAN_TYPE> recipe : matchingRecipes) {
+            Descriptor<BEAN_TYPE> desc = recipe.getDescription();
+            String name = desc.getName().isBlank() ? desc.getBeanClass().getName() : desc.getName();
+            if (beans.containsKey(name))
+                throw new BeanRetrievalException(descriptor, matchingRecipes);
+            beans.put(name, recipe.get());
+        }
+        return Collections.unmodifiableMap(beans);
+    }
+
+    /**
+     * Get a {@link Provider} for the bean matching the provided descriptor. The bean is not resolved until it is first retrieved from the provider, at which point the
+     * descriptor must resolve to exactly one instance. Providers are shared between all requests for the same description.
+     * 
+     * @param <BEAN_TYPE> indicating the type of bean that is to be provided
+     * @param descriptor  {@link Descriptor} containing the description of the bean that is to be provided
+     * 
+     * @return {@link Provider} of the desired bean
+     */
+    @SuppressWarnings("unchecked")
+    public <BEAN_TYPE> Provider<BEAN_TYPE> getProvider(Descriptor<BEAN_TYPE> descriptor) {
+        return (Provider<BEAN_TYPE>) providers.computeIfAbsent(descriptor, k -> new RecipeProvider<>(this, descriptor));
+    }
+
+    /**
+     * Get the recipe of the bean matching the provided descriptor. The descriptor must resolve to exactly one recipe otherwise an exception will be thrown. The resolution
+     * is captured in a {@link BeanResolutionEvent}.
+     * 
+     * @param <BEAN_TYPE> indicating the type of bean that is to be retrieved
+     * @param descriptor  {@link Descriptor} containing the description of the bean that is to be retrieved
+     * 
+     * @return {@link AbstractRecipe} of the desired bean
+     * @throws BeanRetrievalException if there is not exactly one matching recipe
+     */
+    <BEAN_TYPE> AbstractRecipe<BEAN_TYPE> getRecipe(Descriptor<BEAN_TYPE> descriptor) {
+        BeanResolutionEvent event = new BeanResolutionEvent();
+        event.begin();
         List<AbstractRecipe<BEAN_TYPE>> matchingRecipes = findRecipes(descriptor);
 
+        if (matchingRecipes.isEmpty()) {
+            failedLookups.increment();
+            event.finish(descriptor, null, BeanResolutionEvent.NOT_FOUND);
+            throw new BeanRetrievalException(descriptor);
+        }
+        if (matchingRecipes.size() > 1) {
+            ambiguousLookups.increment();
+            event.finish(descriptor, null, BeanResolutionEvent.AMBIGUOUS);
+            throw new BeanRetrievalException(descriptor, matchingRecipes);
+        }
+
+        AbstractRecipe<BEAN_TYPE> recipe = matchingRecipes.get(0);
+        event.finish(descriptor, recipe.getClass(), TendrilEvent.SUCCESS);
+        return recipe;
+    }
+
+    /**
+     * Return a bean which was retrieved via the provided descriptor, once the consumer is done with it. Where the bean is {@link Pooled} it is returned to its pool, such
+     * that it can be reused by a subsequent retrieval. Beans of any other life cycle are unaffected. As with the retrieval, the descriptor must resolve to exactly one recipe.
+     * 
+     * @param <BEAN_TYPE> indicating the type of bean that is to be returned
+     * @param descriptor  {@link Descriptor} containing the description with which the bean was retrieved
+     * @param bean        BEAN_TYPE instance which is to be returned
+     * @throws BeanRetrievalException if there is not exactly one matching recipe
+     */
+    public <BEAN_TYPE> void releaseBean(Descriptor<BEAN_TYPE> descriptor, BEAN_TYPE bean) {
+        List<AbstractRecipe<BEAN_TYPE>> matchingRecipes = findRecipes(descriptor);
         if (matchingRecipes.isEmpty())
             throw new BeanRetrievalException(descriptor);
         if (matchingRecipes.size() > 1)
             throw new BeanRetrievalException(descriptor, matchingRecipes);
-
-        return matchingRecipes.get(0).get();
+        
+        if (matchingRecipes.get(0) instanceof PooledRecipe<BEAN_TYPE> pooled)
+            pooled.release(bean);
+        else
+            LOGGER.fine(descriptor + " is not pooled, so releasing it has no effect");
     }
 
     /**
      * Get all of the recipes which are available for the desired type. This includes exact matches (i.e.: recipe provides exactly the desired class) as well as classes which can be referenced as the
-     * desired type (i.e.: they are higher in the hierarchy of the desired type).
+     * desired type (i.e.: they are higher in the hierarchy of the desired type). The outcome is memoized, such that the indexes only need to be consulted on the first lookup of any given description.
      * 
-     * @param <BEAN_TYPE>
-     * @param beanClass
-     * @return
+     * @param <BEAN_TYPE> indicating the type of bean that is desired
+     * @param descriptor  {@link Descriptor} describing the desired bean
+     * @return {@link List} of {@link AbstractRecipe}s which match the description
      */
-    @SuppressWarnings("unchecked")
-    private <BEAN_TYPE> List<AbstractRecipe<BEAN_TYPE>> findRecipes(Descriptor<BEAN_TYPE> descriptor) {
-        List<AbstractRecipe<BEAN_TYPE>> foundRecipes = new ArrayList<>();
-        recipes.forEach((r) -> {
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    <BEAN_TYPE> List<AbstractRecipe<BEAN_TYPE>> findRecipes(Descriptor<BEAN_TYPE> descriptor) {
+        Resolution resolution = resolved.get(descriptor);
+        if (resolution == null) {
+            cacheMisses.increment();
+            resolution = resolved.computeIfAbsent(descriptor, k -> new Resolution(resolve(descriptor), new LongAdder()));
+        } else {
+            cacheHits.increment();
+        }
+
+        resolution.lookups().increment();
+        return (List) resolution.recipes();
+    }
+
+    /**
+     * Resolve the recipes matching the descriptor from the indexes. Where a name is specified the (typically far smaller) set of recipes with that name is checked,
+     * otherwise all recipes indexed under the desired type are a match. The type is looked up by its key, such that a parameterized type only matches the beans which
+     * fulfill it with the same type arguments. Only the recipes which match are created. Qualifiers are not indexed, so where the descriptor
+     * is qualified the descriptions of the matching recipes are checked as well.
+     * 
+     * @param descriptor {@link Descriptor} describing the desired bean
+     * @return {@link List} of {@link AbstractRecipe}s which match the description
+     */
+    private List<AbstractRecipe<?>> resolve(Descriptor<?> descriptor) {
+        String type = descriptor.getTypeKey();
+        List<AbstractRecipe<?>> recipes;
+        if (descriptor.getName().isBlank())
+            recipes = toRecipes(typeIndex.getOrDefault(type, Collections.emptyList()));
+        else {
+            List<RecipeEntry> found = new ArrayList<>();
+            for (RecipeEntry e : nameIndex.getOrDefault(descriptor.getName(), Collections.emptyList())) {
+                if (e.types.contains(type))
+                    found.add(e);
+            }
+            recipes = toRecipes(found);
+        }
+        
+        if (descriptor.getQualifiers().isEmpty())
+            return recipes;
+        
+        List<AbstractRecipe<?>> qualified = new ArrayList<>();
+        for (AbstractRecipe<?> r : recipes) {
             if (r.getDescription().matches(descriptor))
-                foundRecipes.add((AbstractRecipe<BEAN_TYPE>) r);
-        });
+                qualified.add(r);
+        }
+        return List.copyOf(qualified);
+    }
 
-        return foundRecipes;
+    /**
+     * Get the recipes of the entries, creating any which have not yet been created. Entries whose recipe cannot be created are omitted.
+     * 
+     * @param found {@link List} of {@link RecipeEntry}s whose recipes are to be retrieved
+     * @return {@link List} of {@link AbstractRecipe}s
+     */
+    private List<AbstractRecipe<?>> toRecipes(List<RecipeEntry> found) {
+        List<AbstractRecipe<?>> recipes = new ArrayList<>(found.size());
+        for (RecipeEntry e : found) {
+            AbstractRecipe<?> r = e.getRecipe();
+            if (r != null)
+                recipes.add(r);
+        }
+        return List.copyOf(recipes);
     }
 }
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2025 Jaroslav Bosak
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/license/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tendril.context;
+
+import java.util.Collections;
+import java.util.Map;
+
+import tendril.bean.recipe.FactoryRecipe;
+import tendril.bean.recipe.RecipeMetrics;
+
+/**
+ * Snapshot of the metrics of an {@link Engine}, as produced by {@link Engine#getMetrics()}. All counts are cumulative from the initialization of the engine, with rates being
+ * determined by comparing two snapshots.
+ */
+public class EngineMetrics {
+    /** When the snapshot was taken (per {@link System#nanoTime()}) */
+    private final long timestamp;
+    /** The number of lookups which were answered from the cache of previous lookups */
+    private final long cacheHits;
+    /** The number of lookups which had to be resolved from the indexes */
+    private final long cacheMisses;
+    /** The number of lookups which matched multiple beans */
+    private final long ambiguousLookups;
+    /** The number of lookups which matched no bean */
+    private final long failedLookups;
+    /** The number of lookups of each description */
+    private final Map<String, Long> lookupsPerDescriptor;
+    /** The number of singleton beans which have been created */
+    private final long singletonsCreated;
+    /** The number of factory bean instances which have been created */
+    private final long factoryInstancesCreated;
+    /** The number of beans created by each recipe */
+    private final Map<String, Long> createdPerRecipe;
+    /** The latency histogram of all bean builds (buckets per {@link RecipeMetrics}) */
+    private final long[] buildLatency;
+
+    /**
+     * CTOR
+     * 
+     * @param cacheHits               long number of lookups answered from the cache
+     * @param cacheMisses             long number of lookups resolved from the indexes
+     * @param ambiguousLookups        long number of lookups which matched multiple beans
+     * @param failedLookups           long number of lookups which matched no bean
+     * @param lookupsPerDescriptor    {@link Map} of the number of lookups of each description
+     * @param singletonsCreated       long number of singleton beans created
+     * @param factoryInstancesCreated long number of factory bean instances created
+     * @param createdPerRecipe        {@link Map} of the number of beans created by each recipe
+     * @param buildLatency            long[] latency histogram of all bean builds
+     */
+    EngineMetrics(long cacheHits, long cacheMisses, long ambiguousLookups, long failedLookups, Map<String, Long> lookupsPerDescriptor, long singletonsCreated,
+            long factoryInstancesCreated, Map<String, Long> createdPerRecipe, long[] buildLatency) {
+        this.timestamp = System.nanoTime();
+        this.cacheHits = cacheHits;
+        this.cacheMisses = cacheMisses;
+        this.ambiguousLookups = ambiguousLookups;
+        this.failedLookups = failedLookups;
+        this.lookupsPerDescriptor = Collections.unmodifiableMap(lookupsPerDescriptor);
+        this.singletonsCreated = singletonsCreated;
+        this.factoryInstancesCreated = factoryInstancesCreated;
+        this.createdPerRecipe = Collections.unmodifiableMap(createdPerRecipe);
+        this.buildLatency = buildLatency;
+    }
+
+    /**
+     * Get the total number of lookups which have been performed
+     * 
+     * @return long the number of lookups
+     */
+    public long getLookups() {
+        return cacheHits + cacheMisses;
+    }
+
+    /**
+     * Get the number of lookups which were answered from the cache of previous lookups
+     * 
+     * @return long the number of cache hits
+     */
+    public long getCacheHits() {
+        return cacheHits;
+    }
+
+    /**
+     * Get the number of lookups which had to be resolved from the indexes
+     * 
+     * @return long the number of cache misses
+     */
+    public long getCacheMisses() {
+        return cacheMisses;
+    }
+
+    /**
+     * Get the fraction of the lookups which were answered from the cache
+     * 
+     * @return double between 0 and 1 (0 if no lookups were performed)
+     */
+    public double getCacheHitRate() {
+        long lookups = getLookups();
+        return lookups == 0 ? 0 : (double) cacheHits / lookups;
+    }
+
+    /**
+     * Get the number of lookups which matched multiple beans
+     * 
+     * @return long the number of ambiguous lookups
+     */
+    public long getAmbiguousLookups() {
+        return ambiguousLookups;
+    }
+
+    /**
+     * Get the number of lookups which matched no bean
+     * 
+     * @return long the number of failed lookups
+     */
+    public long getFailedLookups() {
+        return failedLookups;
+    }
+
+    /**
+     * Get the number of lookups of each description
+     * 
+     * @return {@link Map} of the description to the number of lookups
+     */
+    public Map<String, Long> getLookupsPerDescriptor() {
+        return lookupsPerDescriptor;
+    }
+
+    /**
+     * Get the number of singleton beans which have been created
+     * 
+     * @return long the number of singletons
+     */
+    public long getSingletonsCreated() {
+        return singletonsCreated;
+    }
+
+    /**
+     * Get the number of factory bean instances which have been created
+     * 
+     * @return long the number of instances
+     */
+    public long getFactoryInstancesCreated() {
+        return factoryInstancesCreated;
+    }
+
+    /**
+     * Get the rate at which {@link FactoryRecipe} instances were created between a previous snapshot and this one
+     * 
+     * @param previous {@link EngineMetrics} snapshot taken before this one
+     * @return double the number of instances created per second
+     */
+    public double getFactoryInstancesPerSecond(EngineMetrics previous) {
+        long elapsed = timestamp - previous.timestamp;
+        return elapsed <= 0 ? 0 : (factoryInstancesCreated - previous.factoryInstancesCreated) * 1_000_000_000.0 / elapsed;
+    }
+
+    /**
+     * Get the number of beans which each recipe has created
+     * 
+     * @return {@link Map} of the fully qualified name of the recipe class to the number of beans
+     */
+    public Map<String, Long> getCreatedPerRecipe() {
+        return createdPerRecipe;
+    }
+
+    /**
+     * Get the latency histogram of all bean builds. The bounds of the buckets are available via {@link RecipeMetrics#getBucketUpperBoundMicros(int)}.
+     * 
+     * @return long[] containing the number of builds in each bucket
+     */
+    public long[] getBuildLatency() {
+        return buildLatency.clone();
+    }
+}
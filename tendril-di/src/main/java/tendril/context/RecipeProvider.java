@@ -0,0 +1,91 @@
+/*
+ * Copyright 2025 Jaroslav Bosak
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/license/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tendril.context;
+
+import tendril.bean.Provider;
+import tendril.bean.recipe.AbstractRecipe;
+import tendril.bean.recipe.Descriptor;
+import tendril.bean.recipe.PooledRecipe;
+
+/**
+ * {@link Provider} which resolves the recipe of its bean via the {@link Engine} on the first retrieval, and retrieves all beans directly from that recipe thereafter. Where
+ * the recipes registered with the {@link Engine} change the recipe is resolved anew, such that the provider is always linked to the recipe the {@link Engine} would resolve.
+ * 
+ * @param <BEAN_TYPE> the type of bean which is provided
+ */
+class RecipeProvider<BEAN_TYPE> implements Provider<BEAN_TYPE> {
+    
+    /** The engine through which the recipe is resolved */
+    private final Engine engine;
+    /** Description of the bean which is provided */
+    private final Descriptor<BEAN_TYPE> descriptor;
+    /** The recipe of the bean, along with the generation of the engine when it was resolved (null until it has been resolved) */
+    private volatile Link<BEAN_TYPE> link = null;
+    
+    /**
+     * The recipe to which the provider is linked
+     * 
+     * @param <BEAN_TYPE> the type of bean which is provided
+     * @param recipe     {@link AbstractRecipe} of the bean
+     * @param generation int the generation of the registered recipes of the engine when the recipe was resolved
+     */
+    private record Link<BEAN_TYPE>(AbstractRecipe<BEAN_TYPE> recipe, int generation) {
+    }
+
+    /**
+     * CTOR
+     * 
+     * @param engine {@link Engine} through which the recipe is to be resolved
+     * @param descriptor {@link Descriptor} of the bean which is provided
+     */
+    RecipeProvider(Engine engine, Descriptor<BEAN_TYPE> descriptor) {
+        this.engine = engine;
+        this.descriptor = descriptor;
+    }
+
+    /**
+     * @see tendril.bean.Provider#get()
+     */
+    @Override
+    public BEAN_TYPE get() {
+        return getRecipe().get();
+    }
+
+    /**
+     * @see tendril.bean.Provider#release(java.lang.Object)
+     */
+    @Override
+    public void release(BEAN_TYPE bean) {
+        if (getRecipe() instanceof PooledRecipe<BEAN_TYPE> pooled)
+            pooled.release(bean);
+    }
+    
+    /**
+     * Get the recipe of the bean, resolving it if this is the first time it is required or if the recipes which are registered with the engine have changed since it was
+     * resolved. Concurrent retrievals may resolve it more than once, which is harmless as the resolution always produces the same recipe.
+     * 
+     * @return {@link AbstractRecipe} of the bean
+     */
+    private AbstractRecipe<BEAN_TYPE> getRecipe() {
+        int generation = engine.getGeneration();
+        Link<BEAN_TYPE> resolved = link;
+        if (resolved == null || resolved.generation() != generation) {
+            resolved = new Link<>(engine.getRecipe(descriptor), generation);
+            link = resolved;
+        }
+        return resolved.recipe();
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2025 Jaroslav Bosak
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/license/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tendril.context;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import tendril.bean.recipe.AbstractRecipe;
+
+/**
+ * The scope of a single request, containing the instances of the request scoped beans which have been created within it. A scope is bound for the duration of a task (see
+ * {@link ApplicationContext#runInRequestScope(Runnable)}), with the previous binding (if any) being restored once the task has finished, at which point the scope is ended
+ * and all {@link AutoCloseable} instances created within it are closed. The binding is inherited by any threads which are started from within the task, such that the
+ * subtasks of a request share its instances.
+ */
+public class RequestScope {
+    
+    /** Logger for creating log messages when running */
+    private static Logger LOGGER = Logger.getLogger(RequestScope.class.getSimpleName());
+    /** The scope which is bound to the current thread */
+    private static final InheritableThreadLocal<RequestScope> CURRENT = new InheritableThreadLocal<>();
+
+    /** The instances created within the scope, mapped by the recipe which created them */
+    private final Map<AbstractRecipe<?>, Object> instances = new ConcurrentHashMap<>();
+    /** The instances in the order in which they were created */
+    private final List<Object> created = new ArrayList<>();
+    /** Lock to ensure that only a single instance is created per recipe, when the scope is shared between multiple threads */
+    private final ReentrantLock lock = new ReentrantLock();
+    /** Flag for whether the scope has ended */
+    private volatile boolean ended = false;
+    
+    /**
+     * CTOR
+     */
+    private RequestScope() {
+    }
+    
+    /**
+     * Get the scope which is bound to the current thread
+     * 
+     * @return {@link RequestScope} of the current thread (null if the thread is not within a request scope)
+     */
+    public static RequestScope current() {
+        RequestScope scope = CURRENT.get();
+        // Threads which were started within the scope but outlive it retain the binding, which must no longer be honored
+        return scope == null || scope.ended ? null : scope;
+    }
+    
+    /**
+     * Call the task within a new request scope
+     * 
+     * @param <T> the type of result the task produces
+     * @param task {@link Callable} to call
+     * @return T the result of the task
+     * @throws Exception if the task failed
+     */
+    static <T> T call(Callable<T> task) throws Exception {
+        RequestScope previous = CURRENT.get();
+        RequestScope scope = new RequestScope();
+        CURRENT.set(scope);
+        try {
+            return task.call();
+        } finally {
+            if (previous == null)
+                CURRENT.remove();
+            else
+                CURRENT.set(previous);
+            scope.end();
+        }
+    }
+    
+    /**
+     * Get the instance of the recipe within the scope, creating it if this is the first time it is retrieved within the scope.
+     * 
+     * @param <BEAN_TYPE> the type of bean the recipe creates
+     * @param recipe {@link AbstractRecipe} whose instance is to be retrieved
+     * @param creator {@link Supplier} which creates a new instance
+     * @return BEAN_TYPE instance of the recipe within the scope
+     */
+    @SuppressWarnings("unchecked")
+    public <BEAN_TYPE> BEAN_TYPE getInstance(AbstractRecipe<BEAN_TYPE> recipe, Supplier<BEAN_TYPE> creator) {
+        Object instance = instances.get(recipe);
+        if (instance != null)
+            return (BEAN_TYPE) instance;
+        
+        // The lock is reentrant, such that request scoped dependencies can be created while creating the instance
+        lock.lock();
+        try {
+            instance = instances.get(recipe);
+            if (instance == null) {
+                instance = creator.get();
+                instances.put(recipe, instance);
+                created.add(instance);
+            }
+            return (BEAN_TYPE) instance;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * End the scope, closing all {@link AutoCloseable} instances in the reverse order of their creation (such that instances are closed before their dependencies).
+     */
+    private void end() {
+        lock.lock();
+        try {
+            ended = true;
+            for (int i = created.size() - 1; i >= 0; i--) {
+                if (created.get(i) instanceof AutoCloseable closeable) {
+                    try {
+                        closeable.close();
+                    } catch (Exception e) {
+                        LOGGER.warning("Unable to close request scoped " + closeable.getClass().getName() + ": " + e.getMessage());
+                    }
+                }
+            }
+            created.clear();
+            instances.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
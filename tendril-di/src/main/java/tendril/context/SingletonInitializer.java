@@ -0,0 +1,200 @@
+/*
+ * Copyright 2025 Jaroslav Bosak
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/license/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tendril.context;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import tendril.BeanCreationException;
+import tendril.bean.PostConstruct;
+import tendril.bean.recipe.AbstractRecipe;
+import tendril.bean.recipe.Descriptor;
+import tendril.bean.recipe.SingletonRecipe;
+
+/**
+ * Eagerly creates all of the singleton beans within the {@link Engine}. The dependency graph of the singletons is assembled from the dependencies that each recipe declares,
+ * and the singletons are then created in topological order. Any singleton whose dependencies have all been created is created immediately, allowing independent singletons
+ * (and their {@link PostConstruct} methods) to be created in parallel. Each creation takes place on its own virtual thread, as the bulk of the time spent is expected to be
+ * blocking work (I/O) within the beans themselves.
+ * 
+ * Non-singleton recipes are not created, however their dependencies are followed such that a singleton which depends on a factory bean will only be created after any
+ * singletons that factory bean requires. Singletons which are part of (or depend on) a dependency cycle cannot be ordered, these are created one at a time once all others
+ * have been created, such that the cycle is reported. Where singletons require each other without declaring it (i.e.: via a {@link tendril.bean.Provider} used within
+ * their {@link PostConstruct} methods) they appear independent and are created in parallel, in which case the {@link SingletonRecipe} reports the cycle rather than
+ * waiting on the creation of the other.
+ */
+class SingletonInitializer {
+    /** Logger for the initializer */
+    private static final Logger LOGGER = Logger.getLogger(SingletonInitializer.class.getSimpleName());
+
+    /** The {@link Engine} whose singletons are to be created */
+    private final Engine engine;
+    /** The singletons which each singleton depends on (directly or via non-singleton beans) */
+    private final Map<AbstractRecipe<?>, Set<AbstractRecipe<?>>> dependencies = new HashMap<>();
+    /** The singletons which depend on each singleton */
+    private final Map<AbstractRecipe<?>, List<AbstractRecipe<?>>> dependents = new HashMap<>();
+
+    /**
+     * CTOR
+     * 
+     * @param engine {@link Engine} whose singletons are to be created
+     */
+    SingletonInitializer(Engine engine) {
+        this.engine = engine;
+    }
+
+    /**
+     * Create all of the singletons, blocking until all have been created.
+     * 
+     * @throws BeanCreationException if any of the singletons could not be created
+     */
+    void createAll() {
+        buildGraph();
+
+        List<AbstractRecipe<?>> ordered = sortTopologically();
+        Map<AbstractRecipe<?>, CompletableFuture<?>> created = new HashMap<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (AbstractRecipe<?> recipe : ordered) {
+                CompletableFuture<?>[] prerequisites = dependencies.get(recipe).stream().map(created::get).toArray(CompletableFuture<?>[]::new);
+                created.put(recipe, CompletableFuture.allOf(prerequisites).thenRunAsync(recipe::get, executor));
+            }
+
+            CompletableFuture.allOf(created.values().toArray(CompletableFuture<?>[]::new)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re)
+                throw re;
+            if (e.getCause() instanceof Error err)
+                throw err;
+            throw e;
+        }
+
+        // Whatever remains is part of (or depends on) a cycle, these cannot be created in parallel and the attempt to create them will report the issue
+        Set<AbstractRecipe<?>> unsorted = new HashSet<>(dependencies.keySet());
+        unsorted.removeAll(created.keySet());
+        for (AbstractRecipe<?> recipe : unsorted) {
+            if (isInCycle(recipe, unsorted))
+                LOGGER.warning(recipe.getDescription() + " is part of a dependency cycle");
+            else
+                LOGGER.warning(recipe.getDescription() + " depends on a dependency cycle");
+        }
+        unsorted.forEach(AbstractRecipe::get);
+    }
+
+    /**
+     * Assemble the graph of the dependencies between the singletons
+     */
+    private void buildGraph() {
+        for (AbstractRecipe<?> recipe : engine.getRecipes()) {
+            if (recipe instanceof SingletonRecipe) {
+                dependencies.put(recipe, findSingletonDependencies(recipe));
+                dependents.putIfAbsent(recipe, new ArrayList<>());
+            }
+        }
+
+        dependencies.forEach((recipe, deps) -> deps.forEach(d -> dependents.get(d).add(recipe)));
+    }
+
+    /**
+     * Find all of the singletons which the recipe depends on. Non-singleton recipes that are depended upon are traversed, as they will be created (and their dependencies retrieved)
+     * as part of the creation of the singleton.
+     * 
+     * @param recipe {@link AbstractRecipe} whose dependencies are to be found
+     * @return {@link Set} of the {@link AbstractRecipe}s of the singletons that are depended upon
+     */
+    private Set<AbstractRecipe<?>> findSingletonDependencies(AbstractRecipe<?> recipe) {
+        Set<AbstractRecipe<?>> singletons = new LinkedHashSet<>();
+        Set<AbstractRecipe<?>> visited = new HashSet<>();
+        Deque<AbstractRecipe<?>> toVisit = new ArrayDeque<>();
+        toVisit.push(recipe);
+        
+        while (!toVisit.isEmpty()) {
+            AbstractRecipe<?> current = toVisit.pop();
+            for (Descriptor<?> desc : current.getDependencies()) {
+                for (AbstractRecipe<?> dep : engine.findRecipes(desc)) {
+                    if (dep instanceof SingletonRecipe)
+                        singletons.add(dep);
+                    else if (visited.add(dep))
+                        toVisit.push(dep);
+                }
+            }
+        }
+
+        return singletons;
+    }
+
+    /**
+     * Check whether the singleton is itself part of a dependency cycle, as opposed to merely depending on one. Only the singletons which could not be sorted need
+     * to be considered, as any cycle must be made up solely of them.
+     * 
+     * @param recipe {@link AbstractRecipe} of the singleton to check
+     * @param unsorted {@link Set} of the {@link AbstractRecipe}s of the singletons which could not be sorted
+     * @return {@code true} if the singleton (indirectly) depends on itself
+     */
+    private boolean isInCycle(AbstractRecipe<?> recipe, Set<AbstractRecipe<?>> unsorted) {
+        Set<AbstractRecipe<?>> visited = new HashSet<>();
+        Deque<AbstractRecipe<?>> toVisit = new ArrayDeque<>(dependencies.get(recipe));
+        
+        while (!toVisit.isEmpty()) {
+            AbstractRecipe<?> current = toVisit.pop();
+            if (current == recipe)
+                return true;
+            if (unsorted.contains(current) && visited.add(current))
+                toVisit.addAll(dependencies.get(current));
+        }
+
+        return false;
+    }
+
+    /**
+     * Sort the singletons such that each singleton appears after all of the singletons it depends on. Singletons which are part of a dependency cycle cannot be sorted,
+     * and are omitted.
+     * 
+     * @return {@link List} of the sorted singleton {@link AbstractRecipe}s
+     */
+    private List<AbstractRecipe<?>> sortTopologically() {
+        Map<AbstractRecipe<?>, Integer> remaining = new HashMap<>();
+        Deque<AbstractRecipe<?>> ready = new ArrayDeque<>();
+        dependencies.forEach((recipe, deps) -> {
+            remaining.put(recipe, deps.size());
+            if (deps.isEmpty())
+                ready.add(recipe);
+        });
+
+        List<AbstractRecipe<?>> ordered = new ArrayList<>();
+        while (!ready.isEmpty()) {
+            AbstractRecipe<?> recipe = ready.poll();
+            ordered.add(recipe);
+            for (AbstractRecipe<?> dependent : dependents.get(recipe)) {
+                if (remaining.merge(dependent, -1, Integer::sum) == 0)
+                    ready.add(dependent);
+            }
+        }
+
+        return ordered;
+    }
+}
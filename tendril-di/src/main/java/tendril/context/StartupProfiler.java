@@ -0,0 +1,385 @@
+/*
+ * Copyright 2025 Jaroslav Bosak
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/license/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tendril.context;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import tendril.bean.recipe.AbstractRecipe;
+
+/**
+ * Records the time spent creating each bean while the {@link ApplicationContext} is starting, producing a machine readable (JSON) report of the slowest beans and the critical
+ * path (the chain of nested creations which took the longest). For each bean the time is broken down into the phases of its creation:
+ * 
+ * <ul>
+ *      <li>load - loading the recipe class and creating the recipe</li>
+ *      <li>create - creating the instance of the bean (i.e.: calling its constructor)</li>
+ *      <li>inject - applying the field and method injections</li>
+ *      <li>postConstruct - calling the @PostConstruct methods</li>
+ * </ul>
+ * 
+ * The time reported for each phase is the time spent on the bean itself, with the time spent creating any dependencies which were created as a consequence being attributed
+ * to the dependency. Only a single profiler can be active at a time, as the recipes report to whichever profiler is active rather than to that of their {@link Engine}.
+ */
+public class StartupProfiler {
+
+    /** The maximum number of beans to include in the list of slowest beans */
+    private static final int SLOWEST_COUNT = 20;
+    /** The profiler which is currently active (null if none) */
+    private static volatile StartupProfiler active = null;
+
+    /** The build which is currently in progress on each thread */
+    private final ThreadLocal<Build> current = new ThreadLocal<>();
+    /** All builds which have completed */
+    private final Queue<Build> builds = new ConcurrentLinkedQueue<>();
+    /** The time taken to load each recipe, by recipe class name */
+    private final Map<String, Long> loadNanos = new ConcurrentHashMap<>();
+    /** When the profiler was created */
+    private final long startNanos = System.nanoTime();
+
+    /**
+     * A single creation of a bean
+     */
+    public final class Build {
+        /** The recipe performing the build */
+        private final AbstractRecipe<?> recipe;
+        /** The build during which this build was triggered (null if it was triggered directly) */
+        private final Build parent;
+        /** When the build started */
+        private final long start;
+        /** When the current phase started */
+        private long phaseStart;
+        /** The value of childNanos when the current phase started */
+        private long phaseChildNanos = 0;
+        /** Time spent on the builds of dependencies, and the loading of their recipes, triggered by this build */
+        private long childNanos = 0;
+        /** Time spent on each phase, excluding that spent on dependencies */
+        private long createNanos = 0, injectNanos = 0, postConstructNanos = 0;
+        /** The total time of the build, including that spent on dependencies */
+        private long totalNanos = 0;
+
+        /**
+         * CTOR
+         * 
+         * @param recipe {@link AbstractRecipe} performing the build
+         * @param parent {@link Build} during which this build was triggered
+         */
+        private Build(AbstractRecipe<?> recipe, Build parent) {
+            this.recipe = recipe;
+            this.parent = parent;
+            this.start = System.nanoTime();
+            this.phaseStart = start;
+        }
+
+        /**
+         * Complete the current phase
+         * 
+         * @return long the time spent on the phase, excluding that spent on dependencies
+         */
+        private long endPhase() {
+            long now = System.nanoTime();
+            long self = (now - phaseStart) - (childNanos - phaseChildNanos);
+            phaseStart = now;
+            phaseChildNanos = childNanos;
+            return self;
+        }
+
+        /**
+         * Indicate that the instance of the bean has been created
+         */
+        public void instanceCreated() {
+            createNanos = endPhase();
+        }
+
+        /**
+         * Indicate that the dependencies have been injected into the bean
+         */
+        public void injected() {
+            injectNanos = endPhase();
+        }
+
+        /**
+         * Indicate that the build has completed (successfully or not). Whichever phase is in progress is deemed to be the post construct phase.
+         */
+        public void end() {
+            postConstructNanos = endPhase();
+            totalNanos = System.nanoTime() - start;
+
+            current.set(parent);
+            if (parent != null)
+                parent.childNanos += totalNanos;
+            builds.add(this);
+        }
+
+        /**
+         * Get the time spent on the build, excluding the time spent on dependencies
+         * 
+         * @return long nanoseconds
+         */
+        private long getSelfNanos() {
+            return createNanos + injectNanos + postConstructNanos;
+        }
+
+        /**
+         * Get the chain of beans whose creation triggered this build
+         * 
+         * @return {@link List} of {@link String}s describing the beans, starting from the bean which was created directly
+         */
+        private List<String> getTrigger() {
+            List<String> chain = new ArrayList<>();
+            for (Build b = parent; b != null; b = b.parent)
+                chain.add(0, b.recipe.getDescription().toString());
+            return chain;
+        }
+    }
+
+    /**
+     * CTOR
+     */
+    public StartupProfiler() {
+    }
+
+    /**
+     * Make this the active profiler
+     */
+    void activate() {
+        active = this;
+    }
+
+    /**
+     * Stop this profiler from being the active one
+     */
+    void deactivate() {
+        if (active == this)
+            active = null;
+    }
+
+    /**
+     * Check whether there is an active profiler
+     * 
+     * @return boolean true if beans are being profiled
+     */
+    public static boolean isActive() {
+        return active != null;
+    }
+
+    /**
+     * Begin the profiling of the build of a bean. The build must be ended via {@link Build#end()} from within the same thread.
+     * 
+     * @param recipe {@link AbstractRecipe} which is building the bean
+     * @return {@link Build} tracking the build, null if there is no active profiler
+     */
+    public static Build begin(AbstractRecipe<?> recipe) {
+        StartupProfiler profiler = active;
+        if (profiler == null)
+            return null;
+
+        Build build = profiler.new Build(recipe, profiler.current.get());
+        profiler.current.set(build);
+        return build;
+    }
+
+    /**
+     * Record the time taken to load a recipe. Any build in progress on the calling thread is deemed to have triggered the load.
+     * 
+     * @param recipeClass {@link String} fully qualified name of the recipe class
+     * @param nanos       long nanoseconds taken to load the recipe
+     */
+    static void recipeLoaded(String recipeClass, long nanos) {
+        StartupProfiler profiler = active;
+        if (profiler == null)
+            return;
+
+        profiler.loadNanos.merge(recipeClass, nanos, Long::sum);
+        Build build = profiler.current.get();
+        if (build != null)
+            build.childNanos += nanos;
+    }
+
+    /**
+     * Generate the JSON report of the startup
+     * 
+     * @return {@link String} containing the report
+     */
+    public String generateReport() {
+        List<Build> all = new ArrayList<>(builds);
+
+        // Combine the builds of each bean
+        Map<String, BeanStats> stats = new LinkedHashMap<>();
+        for (Build b : all)
+            stats.computeIfAbsent(b.recipe.getClass().getName(), k -> new BeanStats(b)).add(b);
+        loadNanos.forEach((recipe, nanos) -> {
+            if (stats.containsKey(recipe))
+                stats.get(recipe).loadNanos = nanos;
+        });
+
+        List<BeanStats> slowest = new ArrayList<>(stats.values());
+        slowest.sort(Comparator.comparingLong(BeanStats::getSelfNanos).reversed());
+
+        StringBuilder json = new StringBuilder("{\n");
+        json.append("  \"startupMillis\": ").append(millis(System.nanoTime() - startNanos)).append(",\n");
+        json.append("  \"beanCount\": ").append(stats.size()).append(",\n");
+        json.append("  \"buildCount\": ").append(all.size()).append(",\n");
+        json.append("  \"slowest\": [");
+        for (int i = 0; i < Math.min(SLOWEST_COUNT, slowest.size()); i++) {
+            BeanStats s = slowest.get(i);
+            json.append(i == 0 ? "\n" : ",\n").append("    {\"bean\": ").append(quote(s.bean)).append(", \"recipe\": ").append(quote(s.recipe))
+                .append(", \"builds\": ").append(s.count).append(", \"loadMillis\": ").append(millis(s.loadNanos)).append(", \"createMillis\": ").append(millis(s.createNanos))
+                .append(", \"injectMillis\": ").append(millis(s.injectNanos)).append(", \"postConstructMillis\": ").append(millis(s.postConstructNanos))
+                .append(", \"selfMillis\": ").append(millis(s.getSelfNanos())).append(", \"totalMillis\": ").append(millis(s.loadNanos + s.totalNanos))
+                .append(", \"triggeredBy\": ").append(quote(s.trigger)).append("}");
+        }
+        json.append(slowest.isEmpty() ? "],\n" : "\n  ],\n");
+
+        json.append("  \"criticalPath\": [");
+        List<Build> path = findCriticalPath(all);
+        for (int i = 0; i < path.size(); i++) {
+            Build b = path.get(i);
+            json.append(i == 0 ? "\n" : ",\n").append("    {\"bean\": ").append(quote(b.recipe.getDescription().toString())).append(", \"recipe\": ").append(quote(b.recipe.getClass().getName()))
+                .append(", \"selfMillis\": ").append(millis(b.getSelfNanos())).append(", \"totalMillis\": ").append(millis(b.totalNanos)).append("}");
+        }
+        json.append(path.isEmpty() ? "]\n" : "\n  ]\n");
+
+        return json.append("}\n").toString();
+    }
+
+    /**
+     * Find the critical path, starting from the longest build which was triggered directly and following the longest of the builds it triggered.
+     * 
+     * @param all {@link List} of all {@link Build}s
+     * @return {@link List} of {@link Build}s comprising the path
+     */
+    private List<Build> findCriticalPath(List<Build> all) {
+        Map<Build, List<Build>> children = new HashMap<>();
+        for (Build b : all)
+            children.computeIfAbsent(b.parent, k -> new ArrayList<>()).add(b);
+
+        List<Build> path = new ArrayList<>();
+        for (Build next = longest(children.get(null)); next != null; next = longest(children.get(next)))
+            path.add(next);
+        return path;
+    }
+
+    /**
+     * Find the longest of the builds
+     * 
+     * @param builds {@link List} of {@link Build}s to check (can be null)
+     * @return {@link Build} which took the longest, null if there are none
+     */
+    private Build longest(List<Build> builds) {
+        if (builds == null)
+            return null;
+        return builds.stream().max(Comparator.comparingLong(b -> b.totalNanos)).orElse(null);
+    }
+
+    /**
+     * Convert nanoseconds to the milliseconds representation used in the report
+     * 
+     * @param nanos long nanoseconds
+     * @return {@link String} milliseconds
+     */
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0);
+    }
+
+    /**
+     * Produce a JSON string
+     * 
+     * @param value {@link String} value of the string
+     * @return {@link String} containing the quoted and escaped value
+     */
+    private static String quote(String value) {
+        StringBuilder quoted = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            if (c == '"' || c == '\\')
+                quoted.append('\\').append(c);
+            else if (c < 0x20)
+                quoted.append(String.format("\\u%04x", (int) c));
+            else
+                quoted.append(c);
+        }
+        return quoted.append('"').toString();
+    }
+
+    /**
+     * Produce a JSON array of strings
+     * 
+     * @param values {@link List} of {@link String} values
+     * @return {@link String} containing the array
+     */
+    private static String quote(List<String> values) {
+        List<String> quoted = new ArrayList<>();
+        values.forEach(v -> quoted.add(quote(v)));
+        return "[" + String.join(", ", quoted) + "]";
+    }
+
+    /**
+     * The combined statistics of all builds of a single bean
+     */
+    private static class BeanStats {
+        /** Description of the bean */
+        private final String bean;
+        /** Fully qualified name of the recipe class */
+        private final String recipe;
+        /** The chain of beans which triggered the first build */
+        private final List<String> trigger;
+        /** The number of times the bean was built */
+        private int count = 0;
+        /** Times spent on the bean (summed across all builds) */
+        private long loadNanos = 0, createNanos = 0, injectNanos = 0, postConstructNanos = 0, totalNanos = 0;
+
+        /**
+         * CTOR
+         * 
+         * @param first {@link Build} which was the first of the bean
+         */
+        private BeanStats(Build first) {
+            this.bean = first.recipe.getDescription().toString();
+            this.recipe = first.recipe.getClass().getName();
+            this.trigger = first.getTrigger();
+        }
+
+        /**
+         * Add the build to the statistics
+         * 
+         * @param b {@link Build} to add
+         */
+        private void add(Build b) {
+            count++;
+            createNanos += b.createNanos;
+            injectNanos += b.injectNanos;
+            postConstructNanos += b.postConstructNanos;
+            totalNanos += b.totalNanos;
+        }
+
+        /**
+         * Get the time spent on the bean, excluding the time spent on dependencies
+         * 
+         * @return long nanoseconds
+         */
+        private long getSelfNanos() {
+            return loadNanos + createNanos + injectNanos + postConstructNanos;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2025 Jaroslav Bosak
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/license/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tendril.context;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+
+import tendril.bean.recipe.Descriptor;
+
+/**
+ * Determines the canonical type keys (as per {@link Descriptor}) of the types through which a bean can be retrieved. This is the runtime counterpart of the keys which the
+ * processor places in the registry index, used for the recipes which are not indexed.
+ */
+final class TypeKeys {
+
+    /**
+     * CTOR - hidden, static utility
+     */
+    private TypeKeys() {
+    }
+
+    /**
+     * Collect the keys of the class and all of its super classes and interfaces. Every type is included by its raw name, and where its type arguments resolve to
+     * explicit classes (including via the type variables of the classes lower in the hierarchy) by its parameterized key as well.
+     * 
+     * @param type  {@link Class} whose hierarchy is to be collected
+     * @param types {@link Set} of {@link String}s where the keys of the types are to be placed
+     */
+    static void collect(Class<?> type, Set<String> types) {
+        collect(type, Collections.emptyMap(), types);
+    }
+
+    /**
+     * Collect the keys of the type and its hierarchy
+     * 
+     * @param type     {@link Type} whose hierarchy is to be collected
+     * @param bindings {@link Map} of the type variables of the subclass to the keys to which they resolve (null if they do not resolve to an explicit class)
+     * @param types    {@link Set} of {@link String}s where the keys of the types are to be placed
+     */
+    private static void collect(Type type, Map<TypeVariable<?>, String> bindings, Set<String> types) {
+        Class<?> raw;
+        Map<TypeVariable<?>, String> local = Collections.emptyMap();
+        if (type instanceof Class<?> c) {
+            raw = c;
+        } else if (type instanceof ParameterizedType p && p.getRawType() instanceof Class<?> c) {
+            raw = c;
+            String key = keyOf(p, bindings);
+            if (key != null)
+                types.add(key);
+            
+            // The type arguments are what the type variables of the parent resolve to
+            local = new HashMap<>();
+            TypeVariable<?>[] vars = raw.getTypeParameters();
+            Type[] args = p.getActualTypeArguments();
+            for (int i = 0; i < vars.length && i < args.length; i++)
+                local.put(vars[i], keyOf(args[i], bindings));
+        } else {
+            return;
+        }
+
+        // Interfaces can be reached through multiple paths, only need to traverse them once
+        if (!types.add(raw.getName()))
+            return;
+
+        collect(raw.getGenericSuperclass(), local, types);
+        for (Type iface : raw.getGenericInterfaces())
+            collect(iface, local, types);
+    }
+
+    /**
+     * Get the key of the type
+     * 
+     * @param type     {@link Type} whose key is to be determined
+     * @param bindings {@link Map} of the type variables in scope to the keys to which they resolve
+     * @return {@link String} key of the type, or null if it does not (fully) resolve to explicit classes
+     */
+    private static String keyOf(Type type, Map<TypeVariable<?>, String> bindings) {
+        if (type instanceof Class<?> c)
+            return c.isArray() || c.isPrimitive() ? null : c.getName();
+        if (type instanceof TypeVariable<?> v)
+            return bindings.get(v);
+        if (!(type instanceof ParameterizedType p) || !(p.getRawType() instanceof Class<?> raw))
+            return null;
+
+        StringJoiner key = new StringJoiner(",", raw.getName() + "<", ">");
+        for (Type arg : p.getActualTypeArguments()) {
+            String argKey = keyOf(arg, bindings);
+            if (argKey == null)
+                return null;
+            key.add(argKey);
+        }
+        return key.toString();
+    }
+}
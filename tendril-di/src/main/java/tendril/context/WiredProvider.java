@@ -0,0 +1,71 @@
+/*
+ * Copyright 2025 Jaroslav Bosak
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/license/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tendril.context;
+
+import java.util.function.Supplier;
+
+import tendril.bean.Provider;
+import tendril.bean.recipe.AbstractRecipe;
+import tendril.bean.recipe.PooledRecipe;
+import tendril.bean.recipe.RecipeBootstrap;
+
+/**
+ * {@link Provider} which is wired directly to the recipe of its bean at compile time (see {@link RecipeBootstrap#getWiring(int)}). The recipe is not resolved via the
+ * {@link Engine}, rather it is retrieved directly from its registration, such that it is only created once the first bean is retrieved.
+ * 
+ * @param <BEAN_TYPE> the type of bean which is provided
+ */
+class WiredProvider<BEAN_TYPE> implements Provider<BEAN_TYPE> {
+    
+    /** Retrieves the recipe of the bean (creating it if necessary) */
+    private final Supplier<? extends AbstractRecipe<?>> recipeSupplier;
+    
+    /**
+     * CTOR
+     * 
+     * @param recipeSupplier {@link Supplier} which retrieves the recipe of the bean
+     */
+    WiredProvider(Supplier<? extends AbstractRecipe<?>> recipeSupplier) {
+        this.recipeSupplier = recipeSupplier;
+    }
+
+    /**
+     * @see tendril.bean.Provider#get()
+     */
+    @Override
+    public BEAN_TYPE get() {
+        return getRecipe().get();
+    }
+
+    /**
+     * @see tendril.bean.Provider#release(java.lang.Object)
+     */
+    @Override
+    public void release(BEAN_TYPE bean) {
+        if (getRecipe() instanceof PooledRecipe<BEAN_TYPE> pooled)
+            pooled.release(bean);
+    }
+    
+    /**
+     * Get the recipe of the bean
+     * 
+     * @return {@link AbstractRecipe} of the bean
+     */
+    @SuppressWarnings("unchecked")
+    private AbstractRecipe<BEAN_TYPE> getRecipe() {
+        return (AbstractRecipe<BEAN_TYPE>) recipeSupplier.get();
+    }
+}
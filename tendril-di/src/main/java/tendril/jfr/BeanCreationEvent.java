@@ -0,0 +1,50 @@
+/*
+ * Copyright 2025 Jaroslav Bosak
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/license/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tendril.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import tendril.bean.recipe.AbstractRecipe;
+
+/**
+ * Event for the creation of a bean by its {@link AbstractRecipe}, encompassing the creation of the instance, the injection of its dependencies, and its post construction.
+ * Where a batch of beans is created at once, a single event encompasses the creation of the whole batch.
+ */
+@Name("tendril.BeanCreation")
+@Label("Bean Creation")
+@Description("Creation of a bean instance, including injection and post construction")
+public class BeanCreationEvent extends TendrilEvent {
+
+    /** The number of beans which were created */
+    @Label("Bean Count")
+    int beanCount = 1;
+
+    /**
+     * CTOR
+     */
+    public BeanCreationEvent() {
+    }
+
+    /**
+     * Set the number of beans which are being created
+     * 
+     * @param beanCount int the number of beans
+     */
+    public void setBeanCount(int beanCount) {
+        this.beanCount = beanCount;
+    }
+}
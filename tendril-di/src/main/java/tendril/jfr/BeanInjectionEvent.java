@@ -0,0 +1,53 @@
+/*
+ * Copyright 2025 Jaroslav Bosak
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/license/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tendril.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import tendril.bean.recipe.AbstractRecipe;
+import tendril.bean.recipe.Injector;
+
+/**
+ * Event for the application of a single {@link Injector} to a bean under creation, or of the direct injection which the recipe itself performs (see
+ * {@link AbstractRecipe#injectDependencies(Object, tendril.context.Engine)}). In the latter case the recipe is the injector.
+ */
+@Name("tendril.BeanInjection")
+@Label("Bean Injection")
+@Description("Injection of a dependency into a bean under creation")
+@StackTrace(false)
+public class BeanInjectionEvent extends TendrilEvent {
+
+    /** The injector which was applied */
+    @Label("Injector Class")
+    Class<?> injectorClass;
+
+    /**
+     * CTOR
+     */
+    public BeanInjectionEvent() {
+    }
+
+    /**
+     * Set the injector which is being applied
+     * 
+     * @param injectorClass {@link Class} of the {@link Injector} (or recipe)
+     */
+    public void setInjectorClass(Class<?> injectorClass) {
+        this.injectorClass = injectorClass;
+    }
+}
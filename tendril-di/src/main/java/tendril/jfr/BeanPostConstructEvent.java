@@ -0,0 +1,38 @@
+/*
+ * Copyright 2025 Jaroslav Bosak
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/license/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tendril.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import tendril.bean.PostConstruct;
+
+/**
+ * Event for the calling of the @{@link PostConstruct} methods of a bean under creation
+ */
+@Name("tendril.BeanPostConstruct")
+@Label("Bean Post Construct")
+@Description("Calling of the @PostConstruct methods of a bean under creation")
+@StackTrace(false)
+public class BeanPostConstructEvent extends TendrilEvent {
+
+    /**
+     * CTOR
+     */
+    public BeanPostConstructEvent() {
+    }
+}
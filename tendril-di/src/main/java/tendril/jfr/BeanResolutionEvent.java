@@ -0,0 +1,41 @@
+/*
+ * Copyright 2025 Jaroslav Bosak
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/license/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tendril.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import tendril.context.Engine;
+
+/**
+ * Event for the resolution of a bean by the {@link Engine} (finding the recipe which is to provide the bean). The creation of the bean, where it is necessary, is
+ * captured separately by a {@link BeanCreationEvent}.
+ */
+@Name("tendril.BeanResolution")
+@Label("Bean Resolution")
+@Description("Resolution of the recipe providing a requested bean")
+public class BeanResolutionEvent extends TendrilEvent {
+    /** Outcome where no recipe matches */
+    public static final String NOT_FOUND = "Not found";
+    /** Outcome where multiple recipes match */
+    public static final String AMBIGUOUS = "Ambiguous";
+
+    /**
+     * CTOR
+     */
+    public BeanResolutionEvent() {
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2025 Jaroslav Bosak
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/license/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tendril.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import tendril.bean.recipe.Descriptor;
+
+/**
+ * Base for the Java Flight Recorder events produced by the dependency injection. Events are used per the standard JFR pattern (create, begin, and then finish once the
+ * operation is complete), with the details only being captured where the event is actually to be committed. As such the overhead is negligible where the events are
+ * not enabled in the recording.
+ */
+@Category({ "Tendril", "Dependency Injection" })
+public abstract class TendrilEvent extends Event {
+    /** Outcome where the operation completed successfully */
+    public static final String SUCCESS = "Success";
+    /** Outcome where the operation failed */
+    public static final String FAILURE = "Failure";
+
+    /** Description of the bean */
+    @Label("Descriptor")
+    String descriptor;
+    /** The recipe of the bean */
+    @Label("Recipe Class")
+    Class<?> recipeClass;
+    /** The outcome of the operation */
+    @Label("Outcome")
+    String outcome;
+
+    /**
+     * CTOR
+     */
+    protected TendrilEvent() {
+    }
+
+    /**
+     * Finish the event, committing it if it is enabled and meets the thresholds of the recording
+     * 
+     * @param descriptor  {@link Descriptor} of the bean
+     * @param recipeClass {@link Class} of the recipe of the bean (null if not known)
+     * @param outcome     {@link String} describing the outcome of the operation
+     */
+    public void finish(Descriptor<?> descriptor, Class<?> recipeClass, String outcome) {
+        end();
+        if (shouldCommit()) {
+            this.descriptor = descriptor.toString();
+            this.recipeClass = recipeClass;
+            this.outcome = outcome;
+            commit();
+        }
+    }
+}
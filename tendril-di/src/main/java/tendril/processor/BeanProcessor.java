@@ -19,15 +19,20 @@ import java.lang.annotation.Annotation;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.logging.Logger;
 
+import javax.annotation.processing.ProcessingEnvironment;
 import javax.annotation.processing.Processor;
 import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
 import javax.annotation.processing.SupportedSourceVersion;
 import javax.lang.model.SourceVersion;
+import javax.lang.model.element.TypeElement;
 
 import com.google.auto.service.AutoService;
 
@@ -38,16 +43,27 @@ import tendril.bean.Bean;
 import tendril.bean.Configuration;
 import tendril.bean.Factory;
 import tendril.bean.Inject;
+import tendril.bean.Pooled;
 import tendril.bean.PostConstruct;
+import tendril.bean.Provider;
+import tendril.bean.RequestScoped;
+import tendril.bean.Reset;
 import tendril.bean.Singleton;
+import tendril.bean.ThreadScoped;
+import tendril.bean.qualifier.EnumQualifier;
 import tendril.bean.qualifier.Named;
 import tendril.bean.recipe.AbstractRecipe;
+import tendril.bean.recipe.AggregatedRecipes;
 import tendril.bean.recipe.Applicator;
 import tendril.bean.recipe.Descriptor;
 import tendril.bean.recipe.FactoryRecipe;
 import tendril.bean.recipe.Injector;
+import tendril.bean.recipe.PooledRecipe;
+import tendril.bean.recipe.RecipeAggregate;
 import tendril.bean.recipe.Registry;
+import tendril.bean.recipe.RequestScopedRecipe;
 import tendril.bean.recipe.SingletonRecipe;
+import tendril.bean.recipe.ThreadScopedRecipe;
 import tendril.codegen.JBase;
 import tendril.codegen.VisibilityType;
 import tendril.codegen.annotation.JAnnotation;
@@ -62,18 +78,41 @@ import tendril.codegen.field.JType;
 import tendril.codegen.field.type.ClassType;
 import tendril.codegen.field.type.Type;
 import tendril.codegen.generics.GenericFactory;
+import tendril.codegen.generics.GenericType;
 import tendril.context.Engine;
+import tendril.processor.RecipeAggregateGenerator.AggregatedRecipe;
 import tendril.util.TendrilStringUtil;
 
 /**
  * Processor for the {@link Bean} annotation, which will generate the appropriate Recipe for the specified Provider
+ * 
+ * <p>Where the {@value #AGGREGATE_OPTION} option is set to true, the recipes of the beans of each package are instead generated within a single {@link RecipeAggregate},
+ * each recipe being identified by its id within the aggregate. This reduces the number of classes which are to be loaded when the recipes are created, whereas the
+ * (default) recipe per bean is easier to debug.</p>
  */
 @SupportedAnnotationTypes("tendril.bean.Bean")
 @SupportedSourceVersion(SourceVersion.RELEASE_21)
+@SupportedOptions(BeanProcessor.AGGREGATE_OPTION)
 @AutoService(Processor.class)
 public class BeanProcessor extends AbstractTendrilProccessor {
+    /** Processor option through which the recipes are generated within a {@link RecipeAggregate} per package */
+    public static final String AGGREGATE_OPTION = "tendril.recipes.aggregate";
     /** Logger for the processor */
     private static final Logger LOGGER = Logger.getLogger(BeanProcessor.class.getSimpleName());
+    /** Mapping of the recipes which can be aggregated to the {@link AggregatedRecipes} which implements them */
+    @SuppressWarnings("rawtypes")
+    private static final Map<Class<? extends AbstractRecipe>, Class<? extends AbstractRecipe>> AGGREGATED_RECIPES = Map.of(
+            SingletonRecipe.class, AggregatedRecipes.Singleton.class,
+            FactoryRecipe.class, AggregatedRecipes.Factory.class,
+            PooledRecipe.class, AggregatedRecipes.Pooled.class,
+            ThreadScopedRecipe.class, AggregatedRecipes.ThreadScoped.class,
+            RequestScopedRecipe.class, AggregatedRecipes.RequestScoped.class);
+    /** Mapping of the types of dependencies which are retrieved other than as the bean itself, to the method of the {@link Engine} through which they are retrieved */
+    private static final Map<ClassType, String> RETRIEVALS = Map.of(
+            new ClassType(Provider.class), "getProvider",
+            new ClassType(List.class), "getBeanList",
+            new ClassType(Set.class), "getBeanSet",
+            new ClassType(Map.class), "getBeanMap");
 
     /** Flag for whether the generated recipe is to be annotated with @{@link Registry} */
     private final boolean annotateRegistry;
@@ -86,6 +125,18 @@ public class BeanProcessor extends AbstractTendrilProccessor {
      * part of the class/method/field signature.
      */
     protected final Set<ClassType> externalImports = new HashSet<>();
+    /** The index (in order of declaration) of each dependency which has been declared by the recipe being generated, through which it is retrieved via its link */
+    private final Map<JType<?>, Integer> dependencyIndexes = new IdentityHashMap<>();
+    /** The number of dependencies which have been declared by the recipe being generated */
+    private int dependencyCount = 0;
+    /** Prefix through which the generated code retrieves the dependencies from the recipe (empty where the code is part of the recipe itself) */
+    private String dependencySource = "";
+    /** The constants of the descriptors which are employed by the class being generated */
+    private DescriptorConstants descriptorConstants = new DescriptorConstants();
+    /** Flag for whether the recipes are to be aggregated (per the {@value #AGGREGATE_OPTION} option) */
+    private boolean isAggregating = false;
+    /** The aggregates of the current round, mapped by the package whose recipes they contain */
+    private final Map<String, RecipeAggregateGenerator> aggregates = new LinkedHashMap<>();
 
     /**
      * CTOR - will be annotated as a {@link Registry}
@@ -105,11 +156,23 @@ public class BeanProcessor extends AbstractTendrilProccessor {
     }
 
     /**
-     * Register the life cycle annotations that are to be supported, to the type of recipe that is to be used when it is employed. By default Singleton and Factory are registered and supported.
+     * Register the life cycle annotations that are to be supported, to the type of recipe that is to be used when it is employed. By default Singleton, Factory, Pooled, ThreadScoped, and RequestScoped are registered and supported.
      */
     protected void registerAvailableRecipeTypes() {
         recipeTypeMap.put(Singleton.class, SingletonRecipe.class);
         recipeTypeMap.put(Factory.class, FactoryRecipe.class);
+        recipeTypeMap.put(Pooled.class, PooledRecipe.class);
+        recipeTypeMap.put(ThreadScoped.class, ThreadScopedRecipe.class);
+        recipeTypeMap.put(RequestScoped.class, RequestScopedRecipe.class);
+    }
+    
+    /**
+     * @see javax.annotation.processing.AbstractProcessor#init(javax.annotation.processing.ProcessingEnvironment)
+     */
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        isAggregating = annotateRegistry && Boolean.parseBoolean(processingEnv.getOptions().get(AGGREGATE_OPTION));
     }
     
     /**
@@ -142,23 +205,56 @@ public class BeanProcessor extends AbstractTendrilProccessor {
      */
     @Override
     protected ClassDefinition processType() {
+        @SuppressWarnings("rawtypes")
+        Class<? extends AbstractRecipe> recipeClass = getRecipeClass();
+        if (isAggregated(recipeClass)) {
+            aggregateRecipe(recipeClass);
+            return null;
+        }
+        
         ClassType providerClass = currentClassType.generateFromClassSuffix("Recipe");
-        return new ClassDefinition(providerClass, generateCode(providerClass));
+        return new ClassDefinition(providerClass, generateCode(providerClass, recipeClass));
+    }
+    
+    /**
+     * Check whether the recipe of the bean is to be placed within the {@link RecipeAggregate} of its package, rather than being generated as a class of its own. This
+     * is only the case for the registered life cycles which have an {@link AggregatedRecipes} counterpart, when the {@value #AGGREGATE_OPTION} option is set to true.
+     * 
+     * @param recipeClass {@link Class} of the recipe which is to be employed for the bean
+     * @return boolean true if the recipe is to be aggregated
+     */
+    @SuppressWarnings("rawtypes")
+    private boolean isAggregated(Class<? extends AbstractRecipe> recipeClass) {
+        return isAggregating && AGGREGATED_RECIPES.containsKey(recipeClass);
+    }
+    
+    /**
+     * Reset the state of the generation, such that there is a clean slate for the recipe of the current bean
+     * 
+     * @param source    {@link String} through which the dependencies are retrieved by the generated code
+     * @param constants {@link DescriptorConstants} of the class in which the code is generated
+     */
+    private void resetGeneration(String source, DescriptorConstants constants) {
+        externalImports.clear();
+        dependencyIndexes.clear();
+        dependencyCount = 0;
+        dependencySource = source;
+        descriptorConstants = constants;
     }
 
     /**
      * Generate the code for the recipe that is to act as the provider for the bean
      * 
-     * @param recipe {@link ClassType} for the recipe that is to be generated
-     * @param bean   {@link ClassType} for the bean that is to be provided
+     * @param recipe      {@link ClassType} for the recipe that is to be generated
+     * @param recipeClass {@link Class} of the recipe which the generated recipe is to extend
      * @return {@link String} containing the code for the recipe
      */
-    private String generateCode(ClassType recipe) {
-        // Reset to have a clean slate
-        externalImports.clear();
+    @SuppressWarnings("rawtypes")
+    private String generateCode(ClassType recipe, Class<? extends AbstractRecipe> recipeClass) {
+        resetGeneration("", new DescriptorConstants());
         
         // The parent class
-        JClass parent = ClassBuilder.forConcreteClass(getRecipeClass()).addGeneric(GenericFactory.create(currentClass)).build();
+        JClass parent = ClassBuilder.forConcreteClass(recipeClass).addGeneric(GenericFactory.create(currentClass)).build();
 
         // Configure the basic information about the recipe
         ClassBuilder clsBuilder = ClassBuilder.forConcreteClass(recipe).setVisibility(VisibilityType.PUBLIC).extendsClass(parent);
@@ -166,12 +262,48 @@ public class BeanProcessor extends AbstractTendrilProccessor {
             clsBuilder.addAnnotation(JAnnotationFactory.create(Registry.class));
         
         // Build up the contents of the recipe
-        generateConstructor(clsBuilder);
+        JConstructor creationCtor = findCreationConstructor();
+        generateConstructor(clsBuilder, declareDependencies(creationCtor));
         generateRecipeDescriptor(clsBuilder);
-        generateCreateInstance(clsBuilder);
+        generateCreateInstance(clsBuilder, creationCtor);
+        generateInjectDependencies(clsBuilder);
         processPostConstruct(clsBuilder);
+        processReset(clsBuilder, recipeClass);
+        descriptorConstants.addTo(clsBuilder);
         return clsBuilder.build().generateCode(externalImports);
     }
+    
+    /**
+     * Add the recipe of the bean to the {@link RecipeAggregate} of its package. The aggregate itself is only generated once the round is complete.
+     * 
+     * @param recipeClass {@link Class} of the recipe which is to be employed for the bean
+     */
+    @SuppressWarnings("rawtypes")
+    private void aggregateRecipe(Class<? extends AbstractRecipe> recipeClass) {
+        RecipeAggregateGenerator aggregate = aggregates.computeIfAbsent(currentClassType.getPackageName(), RecipeAggregateGenerator::new);
+        resetGeneration("recipe.", aggregate.getDescriptorConstants());
+        
+        ClassType lifecycle = new ClassType(recipeClass);
+        lifecycle.addGeneric(GenericFactory.create(currentClass));
+        
+        JConstructor creationCtor = findCreationConstructor();
+        List<String> dependencies = declareDependencies(creationCtor);
+        String descriptor = "new " + Descriptor.class.getSimpleName() + "<>(" + currentClassType.getSimpleName() + ".class)" + getRecipeDescriptorCode();
+        AggregatedRecipe recipe = new AggregatedRecipe(currentClassType, lifecycle, AGGREGATED_RECIPES.get(recipeClass), descriptor + getPoolArguments(),
+                dependencies, getCreateInstanceCode(creationCtor), getInjectDependenciesCode(), getPostConstructCode(), getResetCode(recipeClass));
+        
+        aggregate.addRecipe(recipe, externalImports);
+    }
+    
+    /**
+     * @see tendril.annotationprocessor.AbstractTendrilProccessor#roundComplete()
+     */
+    @Override
+    protected void roundComplete() {
+        // The recipes of subsequent rounds are placed in aggregates of their own
+        aggregates.values().forEach(a -> writeCode(a.generate()));
+        aggregates.clear();
+    }
 
     /**
      * Get the recipe class that is to be employed for the indicated bean.
@@ -199,13 +331,13 @@ public class BeanProcessor extends AbstractTendrilProccessor {
      * Generate the constructor for the recipe
      * 
      * @param builder {@link ClassBuilder} where the recipe class is being defined
+     * @param dependencies {@link List} of {@link String} descriptors of the dependencies which the recipe is to declare
      */
-    private void generateConstructor(ClassBuilder builder) {
+    private void generateConstructor(ClassBuilder builder, List<String> dependencies) {
         // CTOR contents
         List<String> ctorCode = new ArrayList<>();
-        ctorCode.add("super(engine, " + currentClassType.getSimpleName() + ".class);");
-        generateFieldConsumers(ctorCode);
-        generateMethodConsumers(ctorCode);
+        ctorCode.add("super(engine, " + currentClassType.getSimpleName() + ".class" + getPoolArguments() + ");");
+        dependencies.forEach(d -> ctorCode.add("declareDependency(" + d + ");"));
         
         builder.buildConstructor().setVisibility(VisibilityType.PUBLIC)
             .buildParameter(new ClassType(Engine.class), "engine").finish()
@@ -214,61 +346,155 @@ public class BeanProcessor extends AbstractTendrilProccessor {
     }
 
     /**
-     * Generate the appropriate code for consumers that are fields within the bean.
+     * Get the additional arguments which are to be passed to the {@link PooledRecipe} constructor, where the bean is {@link Pooled}.
+     * 
+     * @return {@link String} containing the additional arguments (empty if the bean is not pooled)
+     * @throws ProcessingException if the maximum idle size is negative
+     */
+    private String getPoolArguments() {
+        List<JAnnotation> pooled = getElementAnnotations(Pooled.class);
+        if (pooled.isEmpty())
+            return "";
+        
+        int maxIdle = PooledRecipe.DEFAULT_MAX_IDLE;
+        JAnnotation a = pooled.get(0);
+        for (JMethod<?> attribute: a.getAttributes()) {
+            if (attribute.getName().equals("maxIdle"))
+                maxIdle = (Integer) a.getValue(attribute).getValue();
+        }
+        
+        if (maxIdle < 0)
+            throw new ProcessingException(currentClassType.getFullyQualifiedName() + " cannot have a negative maxIdle [" + maxIdle + "]");
+        return ", " + maxIdle;
+    }
+
+    /**
+     * Declare the dependencies of the bean, in the order in which they are to be declared by the recipe: the parameters of the creation constructor, the injected fields,
+     * and then the parameters of the injected methods.
+     * 
+     * @param creationCtor {@link JConstructor} of the bean which the recipe is to use to create the bean
+     * @return {@link List} of {@link String}s containing the code for the descriptor of each dependency
+     */
+    private List<String> declareDependencies(JConstructor creationCtor) {
+        List<String> dependencies = new ArrayList<>();
+        declareParameterDependencies(dependencies, creationCtor.getParameters());
+        declareFieldDependencies(dependencies);
+        for (JMethod<?> method : currentClass.getMethods(Inject.class))
+            declareParameterDependencies(dependencies, method.getParameters());
+        return dependencies;
+    }
+
+    /**
+     * Declare the fields as dependencies of the bean. {@link Provider}s are not declared, as the bean they provide is only retrieved once the bean requires it.
+     * 
+     * @param dependencies {@link List} of {@link String} descriptors of the dependencies which have already been declared
+     */
+    private void declareFieldDependencies(List<String> dependencies) {
+        for (JField<?> field : currentClass.getFields(Inject.class)) {
+            if (!isProvider(field))
+                dependencies.add(declareDependency(field));
+        }
+    }
+    
+    /**
+     * Generate the injectDependencies(consumer, engine) method, through which the injected fields are assigned and the injected methods are called with straight-line
+     * code (i.e.: without any intermediate {@link Applicator} or {@link Injector}). Nothing is generated if the bean has no fields or methods to inject.
+     * 
+     * @param builder {@link ClassBuilder} where the recipe is being defined
+     */
+    private void generateInjectDependencies(ClassBuilder builder) {
+        List<String> lines = getInjectDependenciesCode();
+        if (lines.isEmpty())
+            return;
+        
+        builder.buildMethod("injectDependencies").setVisibility(VisibilityType.PROTECTED).addAnnotation(JAnnotationFactory.create(Override.class))
+            .buildParameter(currentClassType, "consumer").finish()
+            .buildParameter(new ClassType(Engine.class), "engine").finish()
+            .addCode(lines.toArray(new String[lines.size()])).finish();
+    }
+
+    /**
+     * Get the code through which the injected fields are assigned and the injected methods are called
      * 
-     * @param ctorLines       {@link List} of {@link String} lines that are already present in the recipe constructor
+     * @return {@link List} of {@link String} lines of code (empty if there is nothing to inject)
      */
-    private void generateFieldConsumers(List<String> ctorLines) {
+    private List<String> getInjectDependenciesCode() {
+        List<String> lines = new ArrayList<>();
+        generateFieldInjection(lines);
+        generateMethodInjection(lines);
+        return lines;
+    }
+
+    /**
+     * Generate the appropriate code for injecting the consumers that are fields within the bean.
+     * 
+     * @param lines {@link List} of {@link String} lines where the generated code is to be placed
+     */
+    private void generateFieldInjection(List<String> lines) {
         for (JField<?> field : currentClass.getFields(Inject.class)) {
             Type fieldType = field.getType();
             if (fieldType instanceof ClassType)
                 externalImports.add((ClassType) fieldType);
-
-            externalImports.add(new ClassType(Applicator.class));
-            externalImports.add(new ClassType(Descriptor.class));
-
-            ctorLines.add("registerDependency(" + getDependencyDescriptor(field) + ", new " + Applicator.class.getSimpleName() + "<" + currentClassType.getSimpleName() + ", "
-                    + fieldType.getSimpleName() + ">() {");
-            ctorLines.add("    @Override");
-            ctorLines.add("    public void apply(" + currentClassType.getSimpleName() + " consumer, " + fieldType.getSimpleName() + " bean) {");
-            ctorLines.add("        consumer." + field.getName() + " = bean;");
-            ctorLines.add("    }");
-            ctorLines.add("});");
+            
+            // Beans are retrieved via the link to their recipe, providers and collections are assembled by the engine instead
+            if (RETRIEVALS.containsKey(fieldType)) {
+                externalImports.add(new ClassType(Descriptor.class));
+                lines.add("consumer." + field.getName() + " = " + getRetrievalCast(field) + "engine." + getRetrieval(field) + "(" + getDescriptorConstant(field) + ");");
+            } else
+                lines.add("consumer." + field.getName() + " = " + dependencySource + "getDependency(" + dependencyIndexes.get(field) + ");");
         }
     }
 
     /**
-     * Generate the appropriate code for consumers that are methods within the bean.
+     * Generate the appropriate code for injecting the consumers that are methods within the bean. The parameters of each method are retrieved within a block of their
+     * own, such that the parameters of different methods cannot clash.
      * 
-     * @param ctorLines       {@link List} of {@link String} lines that are already present in the recipe constructor
+     * @param lines {@link List} of {@link String} lines where the generated code is to be placed
      */
-    private void generateMethodConsumers(List<String> ctorLines) {
-        boolean isFirst = true;
+    private void generateMethodInjection(List<String> lines) {
         for (JMethod<?> method : currentClass.getMethods(Inject.class)) {
-            // Only include the import, if it's actually used
-            if (isFirst) {
-                externalImports.add(new ClassType(Injector.class));
-                isFirst = false;
-            }
-
             if (!method.getType().isVoid())
                 LOGGER.warning(currentClassType.getSimpleName() + "::" + method.getName() + " consumer has a non-void return type");
 
-            ctorLines.add("registerInjector(new Injector<" + currentClassType.getSimpleName() + ">() {");
-            ctorLines.add("    @Override");
-            ctorLines.add("    public void inject(" + currentClassType.getSimpleName() + " consumer, Engine engine) {");
-
             List<JParameter<?>> params = method.getParameters();
-            if (params.isEmpty())
+            if (params.isEmpty()) {
                 LOGGER.warning(currentClassType.getFullyQualifiedName() + "::" + method.getName() + " has no parameters, this is a meaningless injection. Use @" + PostConstruct.class.getSimpleName()
                         + " instead");
+                lines.add("consumer." + method.getName() + "();");
+                continue;
+            }
 
-            addParameterInjection(ctorLines, method.getParameters(), "        ", "        consumer." + method.getName());
-            ctorLines.add("    }");
-            ctorLines.add("});");
+            lines.add("{");
+            addParameterInjection(lines, params, "    ", "    consumer." + method.getName());
+            lines.add("}");
+        }
+    }
+    
+    /**
+     * Declare the parameters as dependencies of the bean, as they are retrieved directly by the recipe rather than via a registered dependency. {@link Provider}s are not
+     * declared, as the bean they provide is only retrieved once the bean requires it.
+     * 
+     * @param dependencies {@link List} of {@link String} descriptors of the dependencies which have already been declared
+     * @param params {@link List} of {@link JParameter}s that are to be declared
+     */
+    private void declareParameterDependencies(List<String> dependencies, List<JParameter<?>> params) {
+        for (JParameter<?> p : params) {
+            if (!isProvider(p))
+                dependencies.add(declareDependency(p));
         }
     }
     
+    /**
+     * Declare the dependency, recording the index of the declaration such that the dependency can be retrieved via its link.
+     * 
+     * @param dependency {@link JType} which defines the dependency
+     * @return {@link String} containing the code for the descriptor of the dependency
+     */
+    private String declareDependency(JType<?> dependency) {
+        dependencyIndexes.put(dependency, dependencyCount++);
+        return getDescriptorConstant(dependency);
+    }
+    
     /**
      * Generate the necessary code to load the parameters to be injected into separate variables and pass them into the injectee (i.e.: method or constructor).
      * 
@@ -282,7 +508,15 @@ public class BeanProcessor extends AbstractTendrilProccessor {
             Type pType = p.getType();
             if (pType instanceof ClassType)
                 externalImports.add((ClassType)pType);
-            code.add(retrievePrefix + pType.getSimpleName() + p.getGenericsApplicationKeyword(true) + p.getName() + " = " + "engine.getBean(" + getDependencyDescriptor(p) + ");");
+            p.getGenerics().forEach(g -> g.registerImport(externalImports));
+            
+            // Beans are retrieved via the link to their recipe, anything else is assembled by the engine
+            String retrieval;
+            if (!RETRIEVALS.containsKey(pType) && dependencyIndexes.containsKey(p))
+                retrieval = dependencySource + "getDependency(" + dependencyIndexes.get(p) + ")";
+            else
+                retrieval = getRetrievalCast(p) + "engine." + getRetrieval(p) + "(" + getDescriptorConstant(p) + ")";
+            code.add(retrievePrefix + pType.getSimpleName() + p.getGenericsApplicationKeyword(true) + p.getName() + " = " + retrieval + ";");
         }
         code.add(applyPrefix + "(" + TendrilStringUtil.join(params, ", ", p -> p.getName()) + ");");
     }
@@ -296,40 +530,52 @@ public class BeanProcessor extends AbstractTendrilProccessor {
         ClassType descriptorClass = new ClassType(Descriptor.class);
         descriptorClass.addGeneric(GenericFactory.create(currentClass));
         
-        builder.buildMethod("setupDescriptor").addAnnotation(JAnnotationFactory.create(Override.class)).setVisibility(VisibilityType.PUBLIC)
+        builder.buildMethod(descriptorClass, "setupDescriptor").addAnnotation(JAnnotationFactory.create(Override.class)).setVisibility(VisibilityType.PUBLIC)
             .buildParameter(descriptorClass, "descriptor").finish()
-            .addCode(joinLines(getDescriptorLines(currentClass), "descriptor.", ";", "\n"))
+            .addCode("return descriptor" + getRecipeDescriptorCode() + ";")
             .finish();
     }
     
     /**
-     * Generate the createInstance(Engine engine) method where the recipe create the instance for the recipe to provide after it has been processed.
+     * Get the code through which the name and ids of the bean are applied to its descriptor
      * 
-     * @param builder {@link ClassBuilder} where the recipe is being defined
+     * @return {@link String} containing the code to append to the descriptor
      */
-    private void generateCreateInstance(ClassBuilder builder) {
+    private String getRecipeDescriptorCode() {
+        return joinLines(getDescriptorLines(currentClass), ".", "", "");
+    }
+    
+    /**
+     * Find the constructor which the recipe is to use to create the bean.
+     * 
+     * @return {@link JConstructor} which is to be used to create the bean
+     * @throws ProcessingException if there is no single viable constructor
+     */
+    private JConstructor findCreationConstructor() {
         // First check if there are any @Inject annotated constructors
-        if (!attemptGenerateCreateInstance(builder, currentClass.getConstructors(Inject.class), " annotated with @" + Inject.class.getSimpleName())) {
-            // If not, then check any non-annotated constructors
-            if (!attemptGenerateCreateInstance(builder, currentClass.getConstructors(), ", the one to be used must be annotated with @" + Inject.class.getSimpleName()))
-                    // Still not, therefore there are no viable constructors
-                    throw new ProcessingException(currentClass.getType().getFullyQualifiedName() + " has no viable constructors. At least one must be available (and not private).");
-        }
+        JConstructor ctor = findViableConstructor(currentClass.getConstructors(Inject.class), " annotated with @" + Inject.class.getSimpleName());
+        // If not, then check any non-annotated constructors
+        if (ctor == null)
+            ctor = findViableConstructor(currentClass.getConstructors(), ", the one to be used must be annotated with @" + Inject.class.getSimpleName());
+        // Still not, therefore there are no viable constructors
+        if (ctor == null)
+            throw new ProcessingException(currentClass.getType().getFullyQualifiedName() + " has no viable constructors. At least one must be available (and not private).");
+        
+        return ctor;
     }
     
     /**
-     * Attempts to generate the createInstance(Engine engine) method using the list of constructors available. For this to be successful there must be exactly one viable
+     * Attempts to find the constructor to use for the createInstance(Engine engine) method from the list of constructors available. For this to be successful there must be exactly one viable
      * constructor in the list. A viable constructor is considered to be one, which is not private. There can be any number of private constructors, so long as there is
      * exactly one which is not.
      * 
-     * @param builder {@link ClassBuilder} in which the recipe is being defined
      * @param ctors {@link List} of {@link JConstructor} to try and make use of
      * @param errorMessageDetail {@link String} additional error message details to provide in the exception if multiple constructor are deemed viable
      * 
      * @throws ProcessingException if there is more than just a single viable constructor
-     * @return boolean true if a proper constructor was found and the code was generated (false if no constructor and no code generated)
+     * @return {@link JConstructor} the viable constructor (null if no viable constructor is present)
      */
-    private boolean attemptGenerateCreateInstance(ClassBuilder builder, List<JConstructor> ctors, String errorMessageDetail) {
+    private JConstructor findViableConstructor(List<JConstructor> ctors, String errorMessageDetail) {
         // Determine which constructors can actually be used
         List<JConstructor> viable = new ArrayList<>();
         for (JConstructor c: ctors) {
@@ -340,13 +586,9 @@ public class BeanProcessor extends AbstractTendrilProccessor {
         // If there are too many, throw an exception
         if (viable.size() > 1)
             throw new ProcessingException(currentClassType.getFullyQualifiedName() + " has " + ctors.size() + " constructors (" + viable.size() + " viable)" + errorMessageDetail);
-        else if (viable.size() == 1) {
-            // If there is only one viable, then make use of it
-            generateCreateInstance(builder, viable.get(0));
-            return true;
-        }
         
-        return false;
+        // If there is only one viable, then make use of it
+        return viable.isEmpty() ? null : viable.get(0);
     }
     
     /**
@@ -356,16 +598,24 @@ public class BeanProcessor extends AbstractTendrilProccessor {
      * @param ctor {@link JConstructor} which is to be used to create the instance
      */
     private void generateCreateInstance(ClassBuilder builder, JConstructor ctor) {
-        // Build the internals of the method
-        List<String> lines = new ArrayList<>();
-        addParameterInjection(lines, ctor.getParameters(), "", "return new " + currentClassType.getSimpleName());
-        
-        // Add the method to the recipe
+        List<String> lines = getCreateInstanceCode(ctor);
         builder.buildMethod(currentClassType, "createInstance").setVisibility(VisibilityType.PROTECTED).addAnnotation(JAnnotationFactory.create(Override.class))
             .buildParameter(new ClassType(Engine.class), "engine").finish()
             .addCode(lines.toArray(new String[lines.size()])).finish();
     }
     
+    /**
+     * Get the code through which the bean is created via the specified constructor
+     * 
+     * @param ctor {@link JConstructor} which is to be used to create the instance
+     * @return {@link List} of {@link String} lines of code
+     */
+    private List<String> getCreateInstanceCode(JConstructor ctor) {
+        List<String> lines = new ArrayList<>();
+        addParameterInjection(lines, ctor.getParameters(), "", "return new " + currentClassType.getSimpleName());
+        return lines;
+    }
+    
     /**
      * Process the {@link PostConstruct} methods that are in the bean. If at least one is present, the override the postConstruct() method from {@link AbstractRecipe}
      * and add a call of bean.method(), where method() has the {@link PostConstruct} annotation applied to it. The method must however follow a few rules:
@@ -381,42 +631,135 @@ public class BeanProcessor extends AbstractTendrilProccessor {
      * @throws ProcessingException if one of the {@link PostConstruct} annotated method violates {@link PostConstruct} rules
      */
     private void processPostConstruct(ClassBuilder builder) {
-        List<JMethod<?>> postConstructs = currentClass.getMethods(PostConstruct.class);
+        addLifecycleMethod(builder, "postConstruct", getPostConstructCode());
+    }
+    
+    /**
+     * Get the code through which the {@link PostConstruct} methods of the bean are called
+     * 
+     * @return {@link List} of {@link String} lines of code (empty if there are no such methods)
+     * @throws ProcessingException if one of the {@link PostConstruct} annotated method violates {@link PostConstruct} rules
+     */
+    private List<String> getPostConstructCode() {
+        return getLifecycleCode(PostConstruct.class);
+    }
+    
+    /**
+     * Process the {@link Reset} methods that are in the bean. If at least one is present, the override the reset() method from {@link PooledRecipe} and add a call of
+     * bean.method(), where method() has the {@link Reset} annotation applied to it. The same rules apply to the methods as for {@link PostConstruct}, and in addition the
+     * bean must be {@link Pooled}.
+     * 
+     * @param builder {@link ClassBuilder} where the recipe for the bean is being defined
+     * @param recipeClass {@link Class} of the recipe which is being generated
+     * @throws ProcessingException if one of the {@link Reset} annotated method violates {@link Reset} rules
+     */
+    @SuppressWarnings("rawtypes")
+    private void processReset(ClassBuilder builder, Class<? extends AbstractRecipe> recipeClass) {
+        addLifecycleMethod(builder, "reset", getResetCode(recipeClass));
+    }
+    
+    /**
+     * Get the code through which the {@link Reset} methods of the bean are called
+     * 
+     * @param recipeClass {@link Class} of the recipe which is employed for the bean
+     * @return {@link List} of {@link String} lines of code (empty if there are no such methods)
+     * @throws ProcessingException if one of the {@link Reset} annotated method violates {@link Reset} rules
+     */
+    @SuppressWarnings("rawtypes")
+    private List<String> getResetCode(Class<? extends AbstractRecipe> recipeClass) {
+        List<JMethod<?>> resets = currentClass.getMethods(Reset.class);
+        if (!resets.isEmpty() && !PooledRecipe.class.isAssignableFrom(recipeClass))
+            throwLifecycleMethodError(Reset.class, resets.get(0), " can only be applied within a @" + Pooled.class.getSimpleName() + " bean");
+        
+        return getLifecycleCode(Reset.class);
+    }
+    
+    /**
+     * Override the indicated recipe method such that it performs the life cycle code. Nothing is generated if there is no code to perform.
+     * 
+     * @param builder {@link ClassBuilder} where the recipe for the bean is being defined
+     * @param recipeMethod {@link String} name of the recipe method which is to call the annotated methods
+     * @param code {@link List} of {@link String} lines of life cycle code
+     */
+    private void addLifecycleMethod(ClassBuilder builder, String recipeMethod, List<String> code) {
         // Don't do anything if there aren't any
-        if (postConstructs.isEmpty())
+        if (code.isEmpty())
             return;
         
-        // Generate the code for calling the PostConstruct annotated methods
+        builder.buildMethod(recipeMethod).addAnnotation(JAnnotationFactory.create(Override.class)).setVisibility(VisibilityType.PROTECTED)
+            .buildParameter(currentClass.getType(), "bean").finish()
+            .addCode(code.toArray(new String[code.size()])).finish();
+    }
+    
+    /**
+     * Get the code which calls each of the bean methods carrying the life cycle annotation in turn
+     * 
+     * @param annotation {@link Class} of the life cycle annotation
+     * @return {@link List} of {@link String} lines of code (empty if there are no such methods)
+     * @throws ProcessingException if one of the annotated methods is private, not void, or takes parameters
+     */
+    private List<String> getLifecycleCode(Class<? extends Annotation> annotation) {
+        // Generate the code for calling the annotated methods
         List<String> code = new ArrayList<>();
-        for (JMethod<?> m: postConstructs) {
+        for (JMethod<?> m: currentClass.getMethods(annotation)) {
             if (m.getVisibility() == VisibilityType.PRIVATE)
-                throwPostConstructError(m, " cannot be private");
+                throwLifecycleMethodError(annotation, m, " cannot be private");
             if (!m.getType().isVoid())
-                throwPostConstructError(m, " must be void");
+                throwLifecycleMethodError(annotation, m, " must be void");
             if (!m.getParameters().isEmpty())
-                throwPostConstructError(m, " cannot take any parameters");
+                throwLifecycleMethodError(annotation, m, " cannot take any parameters");
             
             code.add("bean." + m.getName() + "();");
         }
-        
-        // Add the method to the recipe
-        builder.buildMethod("postConstruct").addAnnotation(JAnnotationFactory.create(Override.class)).setVisibility(VisibilityType.PROTECTED)
-            .buildParameter(currentClass.getType(), "bean").finish()
-            .addCode(code.toArray(new String[code.size()])).finish();
+        return code;
     }
     
     /**
-     * Helper which generates an error message to be reported by {@link ProcessingException}, triggered by {@link PostConstruct} processing.
+     * Helper which generates an error message to be reported by {@link ProcessingException}, triggered by life cycle method processing.
      * 
-     * @param method {@link JMethod} where {@link PostConstruct} failed
+     * @param annotation {@link Class} of the life cycle annotation which was being processed
+     * @param method {@link JMethod} where the processing failed
      * @param reason {@link String} the cause of the failure
-     * @throws ProcessingException indicating why {@link PostConstruct} processing failed
+     * @throws ProcessingException indicating why the processing failed
      */
-    private void throwPostConstructError(JMethod<?> method, String reason) {
-        throw new ProcessingException("@" + PostConstruct.class.getSimpleName() + " method " + currentClass.getType().getFullyQualifiedName() + "::" + 
+    private void throwLifecycleMethodError(Class<? extends Annotation> annotation, JMethod<?> method, String reason) {
+        throw new ProcessingException("@" + annotation.getSimpleName() + " method " + currentClass.getType().getFullyQualifiedName() + "::" + 
                 method.getName() + "() " + reason);
     }
 
+    /**
+     * Get the constant containing the descriptor that is to be applied to a dependency of the bean defined by this recipe, such that the descriptor is not created
+     * anew each time the dependency is retrieved. Where the class of the bean cannot be determined (i.e.: it is a type parameter) the code creating the descriptor
+     * is used directly instead.
+     * 
+     * @param field {@link JType} which defines the dependency
+     * @return {@link String} containing the code referencing the descriptor
+     */
+    private String getDescriptorConstant(JType<?> field) {
+        String code = getDependencyDescriptor(field);
+        ClassType beanClass = getDependencyClass(field);
+        if (beanClass == null)
+            return code;
+        return descriptorConstants.getConstant(getDependencyGenerics(field).isEmpty() ? beanClass : null, code);
+    }
+    
+    /**
+     * Get the class of the bean which is to be injected into the dependency, without any generics that are applied to it.
+     * 
+     * @param field {@link JType} which defines the dependency
+     * @return {@link ClassType} of the bean, or null if it is not an explicit class
+     */
+    private ClassType getDependencyClass(JType<?> field) {
+        Type type = field.getType();
+        ClassType beanClass = null;
+        if (!RETRIEVALS.containsKey(type))
+            beanClass = type instanceof ClassType ? (ClassType) type : null;
+        else if (!field.getGenerics().isEmpty())
+            beanClass = field.getGenerics().get(field.getGenerics().size() - 1).getExplicitType();
+        
+        return beanClass == null ? null : new ClassType(beanClass.getFullyQualifiedName());
+    }
+    
     /**
      * Get the code for the descriptor that is to be applied to a dependency of the bean defined by this recipe.
      * 
@@ -424,8 +767,116 @@ public class BeanProcessor extends AbstractTendrilProccessor {
      * @return {@link String} containing the code defining the dependency
      */
     private String getDependencyDescriptor(JType<?> field) {
-        String desc = "new " + Descriptor.class.getSimpleName() + "<>(" + field.getType().getSimpleName() + ".class)";
-        return desc + joinLines(getDescriptorLines(field), ".", "", "\n            ");
+        String desc = "new " + Descriptor.class.getSimpleName() + "<>(" + getDependencyType(field) + ".class)";
+        
+        List<String> lines = new ArrayList<>();
+        List<String> typeArguments = getTypeArguments(getDependencyGenerics(field));
+        if (typeArguments != null && !typeArguments.isEmpty())
+            lines.add("withTypeArguments(" + TendrilStringUtil.join(typeArguments, ", ", a -> "\"" + a + "\"") + ")");
+        lines.addAll(getDescriptorLines(field));
+        return desc + joinLines(lines, ".", "", "\n            ");
+    }
+    
+    /**
+     * Get the generics which are applied to the type of bean which is to be injected into the dependency. For a {@link Provider} or collection these are the generics
+     * applied to the type of bean it contains, otherwise those which are applied to the dependency itself.
+     * 
+     * @param field {@link JType} which defines the dependency
+     * @return {@link List} of {@link GenericType}s applied to the type of bean
+     */
+    private List<GenericType> getDependencyGenerics(JType<?> field) {
+        if (!RETRIEVALS.containsKey(field.getType()))
+            return field.getGenerics();
+        
+        List<GenericType> generics = field.getGenerics();
+        ClassType beanType = generics.isEmpty() ? null : generics.get(generics.size() - 1).getExplicitType();
+        return beanType == null ? List.of() : beanType.getGenerics();
+    }
+    
+    /**
+     * Get the canonical type keys (as per {@link Descriptor}) of the generics
+     * 
+     * @param generics {@link List} of {@link GenericType}s whose keys are to be determined
+     * @return {@link List} of {@link String} keys, or null if any of the generics (at any depth) does not explicitly resolve to a class
+     */
+    private List<String> getTypeArguments(List<GenericType> generics) {
+        List<String> keys = new ArrayList<>();
+        for (GenericType g : generics) {
+            ClassType type = g.getExplicitType();
+            if (type == null)
+                return null;
+            
+            TypeElement element = processingEnv.getElementUtils().getTypeElement(type.getFullyQualifiedName());
+            String key = element == null ? type.getFullyQualifiedName() : processingEnv.getElementUtils().getBinaryName(element).toString();
+            if (!type.getGenerics().isEmpty()) {
+                List<String> nested = getTypeArguments(type.getGenerics());
+                if (nested == null)
+                    return null;
+                key += "<" + String.join(",", nested) + ">";
+            }
+            keys.add(key);
+        }
+        return keys;
+    }
+    
+    /**
+     * Get the type of bean which is to be injected into the dependency. For a {@link Provider} or collection this is the type of bean which it contains, otherwise it is
+     * the type of the dependency itself.
+     * 
+     * @param field {@link JType} which defines the dependency
+     * @return {@link String} containing the (simple) name of the type of bean
+     * @throws ProcessingException if the type of bean a {@link Provider} or collection contains is not explicitly indicated, or a {@link Map} is not keyed by {@link String}
+     */
+    private String getDependencyType(JType<?> field) {
+        Type type = field.getType();
+        if (!RETRIEVALS.containsKey(type))
+            return type.getSimpleName();
+        
+        // Maps are keyed by the bean name
+        boolean isMap = type.equals(new ClassType(Map.class));
+        List<GenericType> generics = field.getGenerics();
+        if (generics.size() != (isMap ? 2 : 1))
+            throw new ProcessingException(currentClassType.getFullyQualifiedName() + "::" + field.getName() + " must explicitly indicate the type of bean the " +
+                    type.getSimpleName() + " is to contain");
+        if (isMap && !generics.get(0).isAssignableFrom(new ClassType(String.class)))
+            throw new ProcessingException(currentClassType.getFullyQualifiedName() + "::" + field.getName() + " must be keyed by " + String.class.getSimpleName());
+        
+        GenericType beanType = generics.get(generics.size() - 1);
+        beanType.registerImport(externalImports);
+        // Only the class itself, any generics applied to it are captured by the type arguments of the descriptor
+        ClassType explicit = beanType.getExplicitType();
+        return explicit == null ? beanType.generateApplication() : explicit.getClassName();
+    }
+    
+    /**
+     * Get the method of the {@link Engine} through which the dependency is to be retrieved
+     * 
+     * @param field {@link JType} which defines the dependency
+     * @return {@link String} containing the name of the method
+     */
+    private String getRetrieval(JType<?> field) {
+        return RETRIEVALS.getOrDefault(field.getType(), "getBean");
+    }
+    
+    /**
+     * Get the cast which is to be applied to a {@link Provider} or collection that is retrieved from the {@link Engine}. The descriptor only carries the raw class of
+     * the bean, such that where the type of bean is parameterized the retrieved {@link Provider} or collection must be cast to the raw type in order to be assignable.
+     * 
+     * @param field {@link JType} which defines the dependency
+     * @return {@link String} containing the cast (empty if none is required)
+     */
+    private String getRetrievalCast(JType<?> field) {
+        return getDependencyGenerics(field).isEmpty() ? "" : "(" + field.getType().getSimpleName() + ") ";
+    }
+    
+    /**
+     * Check whether the dependency is a {@link Provider} of the bean, rather than the bean itself.
+     * 
+     * @param field {@link JType} which defines the dependency
+     * @return boolean true if the dependency is a {@link Provider}
+     */
+    private boolean isProvider(JType<?> field) {
+        return field.getType().equals(new ClassType(Provider.class));
     }
 
     /**
@@ -450,24 +901,42 @@ public class BeanProcessor extends AbstractTendrilProccessor {
     }
 
     /**
-     * Get the code through which the name is applied to the Descriptor
+     * Get the code through which the name and ids are applied to the Descriptor
      * 
      * @param element {@link JBase} whose name it being determined
-     * @param names   {@link List} of {@link Named} annotation that have been applied to the element
      * @return {@link List} of {@link String}s containing the code with the appropriate descriptor update
-     * @throws ProcessingException if more than one name is applied to the bean
      */
     private List<String> getDescriptorLines(JBase element) {
         List<String> lines = new ArrayList<>();
 
         for (JAnnotation a : element.getAnnotations()) {
             if (a.getType().equals(new ClassType(Named.class))) {
-                lines.add("setName(\"" + a.getValue(a.getAttributes().get(0)).getValue() + "\")");
+                lines.add("withName(\"" + a.getValue(a.getAttributes().get(0)).getValue() + "\")");
+            } else if (isEnumQualifier(a.getType())) {
+                lines.add("withId(" + a.getValue(a.getAttributes().get(0)).generate(externalImports) + ")");
             }
         }
 
         return lines;
     }
+    
+    /**
+     * Check whether the annotation is an {@link EnumQualifier}, through which an enum id is applied. Annotations which are already compiled are checked directly, whereas
+     * those which are part of the current compilation can only be checked via their element.
+     * 
+     * @param annotation {@link ClassType} of the annotation
+     * @return boolean true if it is an {@link EnumQualifier}
+     */
+    private boolean isEnumQualifier(ClassType annotation) {
+        try {
+            return Class.forName(annotation.getFullyQualifiedName(), false, getClass().getClassLoader()).isAnnotationPresent(EnumQualifier.class);
+        } catch (ClassNotFoundException e) {
+            // Not yet compiled
+        }
+        
+        TypeElement element = processingEnv.getElementUtils().getTypeElement(annotation.getFullyQualifiedName());
+        return element != null && element.getAnnotation(EnumQualifier.class) != null;
+    }
 
     /**
      * @see tendril.annotationprocessor.AbstractTendrilProccessor#processMethod()
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2025 Jaroslav Bosak
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/license/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tendril.processor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import tendril.bean.recipe.Descriptor;
+import tendril.codegen.VisibilityType;
+import tendril.codegen.classes.ClassBuilder;
+import tendril.codegen.field.type.ClassType;
+import tendril.codegen.field.value.JValueFactory;
+import tendril.codegen.generics.GenericFactory;
+
+/**
+ * The {@link Descriptor}s which are employed by a generated class, hoisted into {@code private static final} constants such that they are only created once rather than
+ * each time they are used. The constants are canonical, with all identical descriptors sharing the same constant (and therefore instance).
+ */
+class DescriptorConstants {
+    /** Prefix of the names of the constants, the index of the constant forming the suffix */
+    private static final String PREFIX = "DESCRIPTOR_";
+    
+    /** The code of each descriptor mapped to the constant which contains it */
+    private final Map<String, String> constants = new LinkedHashMap<>();
+    /** The type of each constant, mapped by its name */
+    private final Map<String, ClassType> types = new LinkedHashMap<>();
+    
+    /**
+     * CTOR
+     */
+    DescriptorConstants() {
+    }
+    
+    /**
+     * Get the constant which contains the descriptor, creating it if this is the first time the descriptor is employed
+     * 
+     * @param beanClass {@link ClassType} of the bean the descriptor describes, or null where the bean is parameterized (the descriptor can only carry the raw class of
+     *                  such a bean, so the constant is declared as {@code Descriptor<?>} rather than referring to the raw type)
+     * @param code      {@link String} containing the code which creates the descriptor
+     * @return {@link String} name of the constant
+     */
+    String getConstant(ClassType beanClass, String code) {
+        return constants.computeIfAbsent(code, c -> {
+            String name = PREFIX + types.size();
+            ClassType type = new ClassType(Descriptor.class);
+            type.addGeneric(beanClass == null ? GenericFactory.createWildcard() : GenericFactory.create(beanClass));
+            types.put(name, type);
+            return name;
+        });
+    }
+    
+    /**
+     * Add the constants to the class
+     * 
+     * @param builder {@link ClassBuilder} where the class is being defined
+     */
+    void addTo(ClassBuilder builder) {
+        for (Map.Entry<String, String> c : constants.entrySet()) {
+            ClassType type = types.get(c.getValue());
+            builder.buildField(type, c.getValue()).setVisibility(VisibilityType.PRIVATE).setStatic(true).setFinal(true)
+                .setValue(JValueFactory.createExpression(type, c.getKey())).finish();
+        }
+    }
+}
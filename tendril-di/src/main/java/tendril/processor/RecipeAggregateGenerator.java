@@ -0,0 +1,270 @@
+/*
+ * Copyright 2025 Jaroslav Bosak
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/license/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tendril.processor;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import tendril.annotationprocessor.ClassDefinition;
+import tendril.bean.recipe.AbstractRecipe;
+import tendril.bean.recipe.Descriptor;
+import tendril.bean.recipe.RecipeAggregate;
+import tendril.bean.recipe.Registry;
+import tendril.codegen.VisibilityType;
+import tendril.codegen.annotation.JAnnotationFactory;
+import tendril.codegen.classes.ClassBuilder;
+import tendril.codegen.classes.MethodBuilder;
+import tendril.codegen.field.type.ArrayType;
+import tendril.codegen.field.type.ClassType;
+import tendril.codegen.field.type.PrimitiveType;
+import tendril.codegen.field.type.VoidType;
+import tendril.codegen.generics.GenericFactory;
+import tendril.context.Engine;
+import tendril.util.TendrilStringUtil;
+
+/**
+ * Generator of the {@link RecipeAggregate} of a package, which contains the recipes of all beans of the package that were processed within the same round. The aggregate
+ * must be in the same package as the beans, as the generated code accesses their package-private members.
+ */
+class RecipeAggregateGenerator {
+    
+    /**
+     * The recipe of a bean which is to be placed within the aggregate
+     * 
+     * @param bean          {@link ClassType} of the bean the recipe creates
+     * @param lifecycle     {@link ClassType} of the life cycle recipe of the bean (i.e.: SingletonRecipe&lt;Bean&gt;)
+     * @param recipeClass   {@link Class} of the {@link tendril.bean.recipe.AggregatedRecipes} which is to be created for the bean
+     * @param arguments     {@link String} containing the code for the descriptor of the bean, and any additional arguments of the recipe constructor
+     * @param dependencies  {@link List} of {@link String}s containing the code for the descriptor of each dependency of the bean
+     * @param create        {@link List} of {@link String} lines of code through which the bean is created
+     * @param inject        {@link List} of {@link String} lines of code through which the dependencies are injected into the bean (the consumer)
+     * @param postConstruct {@link List} of {@link String} lines of code through which the post construction of the bean is performed
+     * @param reset         {@link List} of {@link String} lines of code through which the bean is reset
+     */
+    @SuppressWarnings("rawtypes")
+    record AggregatedRecipe(ClassType bean, ClassType lifecycle, Class<? extends AbstractRecipe> recipeClass, String arguments, List<String> dependencies,
+            List<String> create, List<String> inject, List<String> postConstruct, List<String> reset) {
+    }
+    
+    /** The package in which the aggregate is generated */
+    private final String packageName;
+    /** The recipes which are to be placed in the aggregate, in the order of their ids */
+    private final List<AggregatedRecipe> recipes = new ArrayList<>();
+    /** The types which the code of the recipes requires to be imported */
+    private final Set<ClassType> imports = new HashSet<>();
+    /** The constants of the descriptors which are employed by the recipes (shared by all recipes of the aggregate) */
+    private final DescriptorConstants descriptorConstants = new DescriptorConstants();
+
+    /**
+     * CTOR
+     * 
+     * @param packageName {@link String} the package in which the aggregate is generated
+     */
+    RecipeAggregateGenerator(String packageName) {
+        this.packageName = packageName;
+    }
+    
+    /**
+     * Get the constants of the descriptors which are employed by the recipes
+     * 
+     * @return {@link DescriptorConstants} of the aggregate
+     */
+    DescriptorConstants getDescriptorConstants() {
+        return descriptorConstants;
+    }
+    
+    /**
+     * Add the recipe to the aggregate
+     * 
+     * @param recipe  {@link AggregatedRecipe} which is to be added
+     * @param imports {@link Set} of {@link ClassType}s which the code of the recipe requires to be imported
+     */
+    void addRecipe(AggregatedRecipe recipe, Set<ClassType> imports) {
+        recipes.add(recipe);
+        this.imports.addAll(imports);
+        this.imports.add(recipe.bean());
+        this.imports.add(new ClassType(recipe.recipeClass().getDeclaringClass()));
+    }
+    
+    /**
+     * Generate the aggregate. Its name is derived from the beans it contains to keep it distinct from the aggregates of other rounds and modules.
+     * 
+     * @return {@link ClassDefinition} of the generated aggregate
+     */
+    ClassDefinition generate() {
+        ClassType aggregate = new ClassType(packageName, "TendrilRecipes" + Integer.toUnsignedString(TendrilStringUtil.join(recipes, ",", r -> r.bean().getFullyQualifiedName()).hashCode(), 36));
+        imports.add(new ClassType(Descriptor.class));
+        
+        ClassBuilder builder = ClassBuilder.forConcreteClass(aggregate).setVisibility(VisibilityType.PUBLIC)
+                .implementsInterface(ClassBuilder.forInterface(RecipeAggregate.class).build())
+                .addAnnotation(JAnnotationFactory.create(Registry.class));
+        generateBootstrap(builder, aggregate);
+        generateDependencies(builder);
+        generateCreateInstance(builder);
+        generateBeanMethod(builder, "injectDependencies", "inject", "consumer", true, AggregatedRecipe::inject);
+        generateBeanMethod(builder, "postConstruct", "postConstruct", "bean", false, AggregatedRecipe::postConstruct);
+        generateBeanMethod(builder, "reset", "reset", "bean", false, AggregatedRecipe::reset);
+        generateRecipes(builder);
+        descriptorConstants.addTo(builder);
+        return new ClassDefinition(aggregate, builder.build().generateCode(imports));
+    }
+    
+    /**
+     * Generate the {@link tendril.bean.recipe.RecipeBootstrap} methods of the aggregate, through which the recipes are created by their id
+     * 
+     * @param builder   {@link ClassBuilder} where the aggregate is being defined
+     * @param aggregate {@link ClassType} of the aggregate
+     */
+    private void generateBootstrap(ClassBuilder builder, ClassType aggregate) {
+        List<String> namesCode = new ArrayList<>();
+        namesCode.add("return new String[] {");
+        for (int i = 0; i < recipes.size(); i++)
+            namesCode.add("    \"" + RecipeAggregate.getRecipeName(aggregate.getFullyQualifiedName(), i) + "\",");
+        namesCode.add("};");
+        
+        List<String> createCode = new ArrayList<>();
+        createCode.add("return switch (index) {");
+        for (int i = 0; i < recipes.size(); i++)
+            createCode.add("    case " + i + " -> " + RecipeAggregate.RECIPE_METHOD_PREFIX + i + "(engine);");
+        createCode.add("    default -> throw new IndexOutOfBoundsException(index);");
+        createCode.add("};");
+        
+        builder.buildMethod(new ArrayType<>(new ClassType(String.class)), "getRecipeNames").addAnnotation(JAnnotationFactory.create(Override.class)).setVisibility(VisibilityType.PUBLIC)
+            .addCode(namesCode.toArray(new String[namesCode.size()])).finish();
+        builder.buildMethod(getWildcardType(AbstractRecipe.class), "createRecipe").addAnnotation(JAnnotationFactory.create(Override.class)).setVisibility(VisibilityType.PUBLIC)
+            .buildParameter(PrimitiveType.INT, "index").finish()
+            .buildParameter(new ClassType(Engine.class), "engine").finish()
+            .addCode(createCode.toArray(new String[createCode.size()])).finish();
+    }
+    
+    /**
+     * Generate the getDependencies(id) method, through which the dependencies of each recipe are declared
+     * 
+     * @param builder {@link ClassBuilder} where the aggregate is being defined
+     */
+    private void generateDependencies(ClassBuilder builder) {
+        List<String> code = new ArrayList<>();
+        code.add("return switch (id) {");
+        for (int i = 0; i < recipes.size(); i++) {
+            List<String> dependencies = recipes.get(i).dependencies();
+            if (!dependencies.isEmpty())
+                code.add("    case " + i + " -> new Descriptor<?>[] {" + String.join(", ", dependencies) + "};");
+        }
+        code.add("    default -> new Descriptor<?>[0];");
+        code.add("};");
+        
+        builder.buildMethod(new ArrayType<>(getWildcardType(Descriptor.class)), "getDependencies").addAnnotation(JAnnotationFactory.create(Override.class)).setVisibility(VisibilityType.PUBLIC)
+            .buildParameter(PrimitiveType.INT, "id").finish()
+            .addCode(code.toArray(new String[code.size()])).finish();
+    }
+    
+    /**
+     * Generate the createInstance(id, recipe, engine) method, along with the method through which each bean is created
+     * 
+     * @param builder {@link ClassBuilder} where the aggregate is being defined
+     */
+    private void generateCreateInstance(ClassBuilder builder) {
+        List<String> code = new ArrayList<>();
+        code.add("return switch (id) {");
+        for (int i = 0; i < recipes.size(); i++) {
+            AggregatedRecipe r = recipes.get(i);
+            code.add("    case " + i + " -> create" + i + "(recipe, engine);");
+            builder.buildMethod(r.bean(), "create" + i).setVisibility(VisibilityType.PRIVATE).setStatic(true)
+                .buildParameter(getWildcardType(AbstractRecipe.class), "recipe").finish()
+                .buildParameter(new ClassType(Engine.class), "engine").finish()
+                .addCode(r.create().toArray(new String[r.create().size()])).finish();
+        }
+        code.add("    default -> throw new IndexOutOfBoundsException(id);");
+        code.add("};");
+        
+        builder.buildMethod(new ClassType(Object.class), "createInstance").addAnnotation(JAnnotationFactory.create(Override.class)).setVisibility(VisibilityType.PUBLIC)
+            .buildParameter(PrimitiveType.INT, "id").finish()
+            .buildParameter(getWildcardType(AbstractRecipe.class), "recipe").finish()
+            .buildParameter(new ClassType(Engine.class), "engine").finish()
+            .addCode(code.toArray(new String[code.size()])).finish();
+    }
+    
+    /**
+     * Generate a method which performs a step of building the bean, along with the method through which each recipe performs the step. Recipes which have no code for the
+     * step are skipped.
+     * 
+     * @param builder    {@link ClassBuilder} where the aggregate is being defined
+     * @param name       {@link String} name of the {@link RecipeAggregate} method which is to be generated
+     * @param prefix     {@link String} prefix of the name of the method of each recipe (the id of the recipe forming the suffix)
+     * @param beanName   {@link String} name of the parameter containing the bean
+     * @param isInjected boolean true if the step retrieves dependencies (i.e.: requires the recipe and engine)
+     * @param step       {@link Function} which retrieves the code of the step from the recipe
+     */
+    private void generateBeanMethod(ClassBuilder builder, String name, String prefix, String beanName, boolean isInjected,
+            Function<AggregatedRecipe, List<String>> step) {
+        String arguments = isInjected ? ", recipe, engine" : "";
+        List<String> code = new ArrayList<>();
+        code.add("switch (id) {");
+        for (int i = 0; i < recipes.size(); i++) {
+            AggregatedRecipe r = recipes.get(i);
+            List<String> lines = step.apply(r);
+            if (lines.isEmpty())
+                continue;
+            
+            code.add("    case " + i + " -> " + prefix + i + "((" + r.bean().getSimpleName() + ") " + beanName + arguments + ");");
+            MethodBuilder<VoidType> method = builder.buildMethod(prefix + i).setVisibility(VisibilityType.PRIVATE).setStatic(true)
+                .buildParameter(r.bean(), beanName).finish();
+            if (isInjected)
+                method.buildParameter(getWildcardType(AbstractRecipe.class), "recipe").finish().buildParameter(new ClassType(Engine.class), "engine").finish();
+            method.addCode(lines.toArray(new String[lines.size()])).finish();
+        }
+        code.add("    default -> {}");
+        code.add("}");
+        
+        MethodBuilder<VoidType> method = builder.buildMethod(name).addAnnotation(JAnnotationFactory.create(Override.class)).setVisibility(VisibilityType.PUBLIC)
+            .buildParameter(PrimitiveType.INT, "id").finish()
+            .buildParameter(new ClassType(Object.class), beanName).finish();
+        if (isInjected)
+            method.buildParameter(getWildcardType(AbstractRecipe.class), "recipe").finish().buildParameter(new ClassType(Engine.class), "engine").finish();
+        method.addCode(code.toArray(new String[code.size()])).finish();
+    }
+    
+    /**
+     * Generate the method through which each recipe is created. The method returns the life cycle recipe of the bean, such that the bean and its life cycle can be
+     * determined from its signature.
+     * 
+     * @param builder {@link ClassBuilder} where the aggregate is being defined
+     */
+    private void generateRecipes(ClassBuilder builder) {
+        for (int i = 0; i < recipes.size(); i++) {
+            AggregatedRecipe r = recipes.get(i);
+            String recipeClass = r.recipeClass().getDeclaringClass().getSimpleName() + "." + r.recipeClass().getSimpleName();
+            builder.buildMethod(r.lifecycle(), RecipeAggregate.RECIPE_METHOD_PREFIX + i).setVisibility(VisibilityType.PUBLIC)
+                .buildParameter(new ClassType(Engine.class), "engine").finish()
+                .addCode("return new " + recipeClass + "<>(engine, this, " + i + ", " + r.arguments() + ");").finish();
+        }
+    }
+    
+    /**
+     * Get the type with a wildcard generic applied to it (i.e.: Type&lt;?&gt;)
+     * 
+     * @param klass {@link Class} of the type
+     * @return {@link ClassType} of the type with the wildcard
+     */
+    private static ClassType getWildcardType(Class<?> klass) {
+        ClassType type = new ClassType(klass);
+        type.addGeneric(GenericFactory.createWildcard());
+        return type;
+    }
+}
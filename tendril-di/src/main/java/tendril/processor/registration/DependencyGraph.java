@@ -0,0 +1,213 @@
+/*
+ * Copyright 2025 Jaroslav Bosak
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/license/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tendril.processor.registration;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import tendril.processor.registration.RegistryIndex.Dependency;
+import tendril.processor.registration.RegistryIndex.DependencyKind;
+import tendril.processor.registration.RegistryIndex.Entry;
+
+/**
+ * The graph of the dependencies between the beans of the {@link RegistryIndex} entries, through which the dependencies of the beans can be validated ahead of runtime.
+ * A dependency is an issue if:
+ * 
+ * <ul>
+ *      <li>No bean matches it (unless all matching beans are to be injected). This is only a warning, as the bean may be provided by a module which is not visible</li>
+ *      <li>Multiple beans match it (unless all matching beans are to be injected)</li>
+ *      <li>It is part of a cycle, as creating any bean in the cycle requires that the bean itself has already been created. Cycles can be broken by injecting a
+ *          {@link tendril.bean.Provider} rather than the bean itself</li>
+ * </ul>
+ */
+public class DependencyGraph {
+    
+    /**
+     * An issue which was found with the dependencies of a bean
+     * 
+     * @param entry   {@link Entry} of the bean whose dependencies have the issue
+     * @param message {@link String} describing the issue
+     * @param error   boolean true if the issue is an error, false if it is merely a warning
+     */
+    public record Issue(Entry entry, String message, boolean error) {
+    }
+
+    /** All beans within the graph */
+    private final List<Entry> entries;
+    /** The beans indexed by each of the types through which they can be retrieved */
+    private final Map<String, List<Entry>> byType = new HashMap<>();
+    
+    /**
+     * CTOR
+     * 
+     * @param entries {@link Collection} of {@link Entry}s of all beans which are available
+     */
+    public DependencyGraph(Collection<Entry> entries) {
+        this.entries = new ArrayList<>(entries);
+        for (Entry e : this.entries) {
+            for (String type : e.types())
+                byType.computeIfAbsent(type, k -> new ArrayList<>()).add(e);
+        }
+    }
+    
+    /**
+     * Find all beans which match the dependency (of the type, with the name if one is specified, and with all of the qualifiers)
+     * 
+     * @param dependency {@link Dependency} which is to be matched
+     * @return {@link List} of {@link Entry}s of the matching beans
+     */
+    public List<Entry> resolve(Dependency dependency) {
+        List<Entry> matches = new ArrayList<>();
+        for (Entry e : byType.getOrDefault(dependency.type(), List.of())) {
+            if ((dependency.name().isEmpty() || dependency.name().equals(e.name())) && e.qualifiers().containsAll(dependency.qualifiers()))
+                matches.add(e);
+        }
+        return matches;
+    }
+    
+    /**
+     * Validate the dependencies of the indicated beans. Any cycles are reported against each of the indicated beans which is part of them.
+     * 
+     * @param toValidate {@link Collection} of {@link Entry}s of the beans which are to be validated (must be part of the graph)
+     * @return {@link List} of {@link Issue}s that were found
+     */
+    public List<Issue> validate(Collection<Entry> toValidate) {
+        List<Issue> issues = new ArrayList<>();
+        for (Entry e : toValidate) {
+            for (Dependency d : e.dependencies()) {
+                if (d.kind() == DependencyKind.COLLECTION)
+                    continue;
+                
+                List<Entry> matches = resolve(d);
+                if (matches.isEmpty())
+                    issues.add(new Issue(e, describe(e) + " depends on " + describe(d) + " which is not available", false));
+                else if (matches.size() > 1)
+                    issues.add(new Issue(e, describe(e) + " depends on " + describe(d) + " which is ambiguous, matching " +
+                            String.join(", ", matches.stream().map(Entry::beanClass).toList()), true));
+            }
+        }
+        
+        Set<Entry> validating = new HashSet<>(toValidate);
+        for (List<Entry> cycle : findCycles()) {
+            List<String> path = cycle.stream().map(this::describe).toList();
+            for (Entry e : cycle.subList(0, cycle.size() - 1)) {
+                if (validating.contains(e))
+                    issues.add(new Issue(e, describe(e) + " is part of a dependency cycle: " + String.join(" -> ", path), true));
+            }
+        }
+        return issues;
+    }
+    
+    /**
+     * Find all of the cycles within the graph. Only dependencies on the beans themselves are followed, as a {@link tendril.bean.Provider} does not retrieve its bean until
+     * after the bean it is injected into has been created. Each cycle is reported once, starting and ending with the same bean.
+     * 
+     * @return {@link List} of the cycles, each a {@link List} of the {@link Entry}s that comprise it
+     */
+    List<List<Entry>> findCycles() {
+        List<List<Entry>> cycles = new ArrayList<>();
+        Set<Set<Entry>> reported = new HashSet<>();
+        Set<Entry> done = new HashSet<>();
+        
+        for (Entry root : entries) {
+            if (done.contains(root))
+                continue;
+            
+            // Depth first search with an explicit stack, as the graph may well be deeper than the call stack allows
+            Deque<Entry> path = new ArrayDeque<>();
+            Deque<ArrayDeque<Entry>> pending = new ArrayDeque<>();
+            Set<Entry> onPath = new HashSet<>();
+            path.push(root);
+            onPath.add(root);
+            pending.push(new ArrayDeque<>(getCreationDependencies(root)));
+            
+            while (!path.isEmpty()) {
+                ArrayDeque<Entry> next = pending.peek();
+                if (next.isEmpty()) {
+                    Entry finished = path.pop();
+                    pending.pop();
+                    onPath.remove(finished);
+                    done.add(finished);
+                    continue;
+                }
+                
+                Entry dep = next.pop();
+                if (onPath.contains(dep)) {
+                    List<Entry> cycle = new ArrayList<>();
+                    for (Entry e : path) {
+                        cycle.add(0, e);
+                        if (e == dep)
+                            break;
+                    }
+                    if (reported.add(new HashSet<>(cycle))) {
+                        cycle.add(dep);
+                        cycles.add(cycle);
+                    }
+                } else if (!done.contains(dep)) {
+                    path.push(dep);
+                    onPath.add(dep);
+                    pending.push(new ArrayDeque<>(getCreationDependencies(dep)));
+                }
+            }
+        }
+        
+        return cycles;
+    }
+    
+    /**
+     * Get the beans which must be retrieved in order to create the bean
+     * 
+     * @param entry {@link Entry} of the bean
+     * @return {@link Set} of {@link Entry}s of the beans which are retrieved during its creation
+     */
+    private Set<Entry> getCreationDependencies(Entry entry) {
+        Set<Entry> deps = new TreeSet<>((a, b) -> a.recipeClass().compareTo(b.recipeClass()));
+        for (Dependency d : entry.dependencies()) {
+            if (d.kind() != DependencyKind.PROVIDER)
+                deps.addAll(resolve(d));
+        }
+        return deps;
+    }
+    
+    /**
+     * Describe the bean for reporting
+     * 
+     * @param entry {@link Entry} of the bean
+     * @return {@link String} description of the bean
+     */
+    private String describe(Entry entry) {
+        return entry.name().isEmpty() ? entry.beanClass() : entry.beanClass() + " \"" + entry.name() + "\"";
+    }
+    
+    /**
+     * Describe the dependency for reporting
+     * 
+     * @param dependency {@link Dependency} to describe
+     * @return {@link String} description of the dependency
+     */
+    private String describe(Dependency dependency) {
+        String desc = dependency.name().isEmpty() ? dependency.type() : dependency.type() + " \"" + dependency.name() + "\"";
+        return dependency.qualifiers().isEmpty() ? desc : desc + " " + dependency.qualifiers();
+    }
+}
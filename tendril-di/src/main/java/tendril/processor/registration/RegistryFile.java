@@ -25,6 +25,7 @@ import java.util.Enumeration;
 import java.util.HashSet;
 import java.util.Set;
 
+import tendril.bean.recipe.RecipeBootstrap;
 import tendril.context.ApplicationContext;
 import tendril.context.Engine;
 
@@ -35,6 +36,8 @@ public class RegistryFile {
 
     /** The path where to find the registry file */
     public static String PATH = "META-INF/tendril/registry";
+    /** The path of the service file through which the generated {@link RecipeBootstrap}s are discovered */
+    public static String BOOTSTRAP_SERVICE_PATH = "META-INF/services/" + RecipeBootstrap.class.getName();
 
     /**
      * Reads the registry file and returns a list of all recipes that have been registered
@@ -0,0 +1,280 @@
+/*
+ * Copyright 2025 Jaroslav Bosak
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/license/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tendril.processor.registration;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import tendril.context.ApplicationContext;
+import tendril.context.Engine;
+
+/**
+ * Class for writing and reading the binary registry index. Where the {@link RegistryFile} merely lists the recipes, the index additionally captures the metadata of the bean
+ * each recipe provides, allowing the lookup tables of the {@link Engine} to be built on {@link ApplicationContext} start without having to load any recipe class.
+ * 
+ * The index is structured as:
+ * <ul>
+ *      <li>int magic number</li>
+ *      <li>short format version</li>
+ *      <li>string table - int count followed by each (UTF) string. All names within the index are stored only once, in this table</li>
+ *      <li>entries - int count followed by each entry, as string table indexes of the recipe class, bean class, lifecycle, name, short count followed by the qualifiers
+ *          of the bean, short count followed by the types of the bean, and short count followed by the dependencies of the bean (string table indexes of the type and
+ *          name, short count followed by the qualifiers, and the byte ordinal of the {@link DependencyKind})</li>
+ * </ul>
+ * 
+ * Only indexes of the current format version can be read.
+ */
+public class RegistryIndex {
+
+    /** The path where to find the registry index */
+    public static String PATH = "META-INF/tendril/registry.idx";
+    /** Magic number with which the index starts ("TDRL") */
+    private static final int MAGIC = 0x5444524C;
+    /** The version of the format in which the index is written */
+    private static final short VERSION = 1;
+    
+    /**
+     * The manner in which a bean depends on another
+     */
+    public enum DependencyKind {
+        /** The bean itself is injected, exactly one bean must match */
+        BEAN,
+        /** A {@link tendril.bean.Provider} of the bean is injected, exactly one bean must match but it is only retrieved later */
+        PROVIDER,
+        /** A collection of all matching beans is injected, any number of beans may match */
+        COLLECTION
+    }
+    
+    /**
+     * A single dependency of a bean
+     * 
+     * @param type       {@link String} fully qualified (binary) name of the type of bean which is depended upon
+     * @param name       {@link String} name of the bean which is depended upon (empty if any name matches)
+     * @param qualifiers {@link List} of {@link String} qualifiers which the bean that is depended upon must have
+     * @param kind       {@link DependencyKind} indicating how the bean is depended upon
+     */
+    public record Dependency(String type, String name, List<String> qualifiers, DependencyKind kind) {
+        
+        /**
+         * CTOR - for a dependency without any qualifiers
+         * 
+         * @param type {@link String} fully qualified (binary) name of the type of bean which is depended upon
+         * @param name {@link String} name of the bean which is depended upon (empty if any name matches)
+         * @param kind {@link DependencyKind} indicating how the bean is depended upon
+         */
+        public Dependency(String type, String name, DependencyKind kind) {
+            this(type, name, List.of(), kind);
+        }
+    }
+
+    /**
+     * Metadata of a single registered recipe
+     * 
+     * @param recipeClass {@link String} fully qualified (binary) name of the recipe class
+     * @param beanClass   {@link String} fully qualified (binary) name of the class of the bean the recipe provides
+     * @param lifecycle   {@link String} fully qualified name of the recipe class defining the lifecycle of the bean
+     * @param name        {@link String} name that is applied to the bean (empty if it has none)
+     * @param qualifiers  {@link List} of {@link String} qualifiers that are applied to the bean (as {@code <enum binary name>.<constant>} for enum ids)
+     * @param types       {@link List} of {@link String}s containing the fully qualified (binary) names of all types (the bean class, its super classes, and interfaces)
+     *                    through which the bean can be retrieved
+     * @param dependencies {@link List} of {@link Dependency}s of the bean
+     */
+    public record Entry(String recipeClass, String beanClass, String lifecycle, String name, List<String> qualifiers, List<String> types, List<Dependency> dependencies) {
+        
+        /**
+         * CTOR - for an entry whose dependencies are not known
+         * 
+         * @param recipeClass {@link String} fully qualified (binary) name of the recipe class
+         * @param beanClass   {@link String} fully qualified (binary) name of the class of the bean the recipe provides
+         * @param lifecycle   {@link String} fully qualified name of the recipe class defining the lifecycle of the bean
+         * @param name        {@link String} name that is applied to the bean (empty if it has none)
+         * @param types       {@link List} of {@link String}s containing the fully qualified (binary) names of all types through which the bean can be retrieved
+         */
+        public Entry(String recipeClass, String beanClass, String lifecycle, String name, List<String> types) {
+            this(recipeClass, beanClass, lifecycle, name, List.of(), types, List.of());
+        }
+    }
+
+    /**
+     * Reads the registry indexes of all modules on the classpath. Each index is read in a single bulk operation.
+     * 
+     * @return {@link List} of {@link Entry} with the metadata of all recipes which have been indexed
+     * @throws IOException if there is an issue reading an index
+     */
+    public static List<Entry> read() throws IOException {
+        List<Entry> entries = new ArrayList<>();
+
+        Enumeration<URL> resEnum = Engine.class.getClassLoader().getResources(PATH);
+        for (URL url : Collections.list(resEnum)) {
+            try (InputStream ios = url.openStream()) {
+                entries.addAll(parse(ios.readAllBytes()));
+            }
+        }
+
+        return entries;
+    }
+
+    /**
+     * Parse the entries from the raw contents of an index
+     * 
+     * @param data byte[] containing the contents of the index
+     * @return {@link List} of {@link Entry} contained within the index
+     * @throws IOException if the data is not a valid index
+     */
+    static List<Entry> parse(byte[] data) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+        if (in.readInt() != MAGIC)
+            throw new IOException("Not a registry index");
+        short version = in.readShort();
+        if (version != VERSION)
+            throw new IOException("Unsupported registry index version " + version);
+
+        String[] strings = new String[in.readInt()];
+        for (int i = 0; i < strings.length; i++)
+            strings[i] = in.readUTF();
+
+        int count = in.readInt();
+        List<Entry> entries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String recipe = strings[in.readInt()];
+            String bean = strings[in.readInt()];
+            String lifecycle = strings[in.readInt()];
+            String name = strings[in.readInt()];
+            List<String> qualifiers = readStrings(in, strings);
+            List<String> types = readStrings(in, strings);
+            
+            Dependency[] dependencies = new Dependency[in.readShort()];
+            for (int d = 0; d < dependencies.length; d++) {
+                String depType = strings[in.readInt()];
+                String depName = strings[in.readInt()];
+                List<String> depQualifiers = readStrings(in, strings);
+                dependencies[d] = new Dependency(depType, depName, depQualifiers, DependencyKind.values()[in.readByte()]);
+            }
+            entries.add(new Entry(recipe, bean, lifecycle, name, qualifiers, types, List.of(dependencies)));
+        }
+
+        return entries;
+    }
+    
+    /**
+     * Read a list of strings, as a short count followed by the string table index of each
+     * 
+     * @param in      {@link DataInputStream} from which to read
+     * @param strings {@link String}[] string table
+     * @return {@link List} of {@link String}s that were read
+     * @throws IOException if the list cannot be read
+     */
+    private static List<String> readStrings(DataInputStream in, String[] strings) throws IOException {
+        String[] read = new String[in.readShort()];
+        for (int i = 0; i < read.length; i++)
+            read[i] = strings[in.readInt()];
+        return List.of(read);
+    }
+
+    /**
+     * Write the index containing the provided entries
+     * 
+     * @param entries {@link List} of {@link Entry} which are to be written
+     * @param out     {@link OutputStream} where the index is to be written
+     * @throws IOException if there is an issue writing the index
+     */
+    public static void write(List<Entry> entries, OutputStream out) throws IOException {
+        // Build up the string table, such that the common types (i.e.: Object) are only stored once
+        Map<String, Integer> ids = new HashMap<>();
+        List<String> strings = new ArrayList<>();
+        for (Entry e : entries) {
+            addString(e.recipeClass(), ids, strings);
+            addString(e.beanClass(), ids, strings);
+            addString(e.lifecycle(), ids, strings);
+            addString(e.name(), ids, strings);
+            e.qualifiers().forEach(q -> addString(q, ids, strings));
+            e.types().forEach(t -> addString(t, ids, strings));
+            for (Dependency d : e.dependencies()) {
+                addString(d.type(), ids, strings);
+                addString(d.name(), ids, strings);
+                d.qualifiers().forEach(q -> addString(q, ids, strings));
+            }
+        }
+
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeShort(VERSION);
+        data.writeInt(strings.size());
+        for (String s : strings)
+            data.writeUTF(s);
+
+        data.writeInt(entries.size());
+        for (Entry e : entries) {
+            data.writeInt(ids.get(e.recipeClass()));
+            data.writeInt(ids.get(e.beanClass()));
+            data.writeInt(ids.get(e.lifecycle()));
+            data.writeInt(ids.get(e.name()));
+            writeStrings(data, e.qualifiers(), ids);
+            writeStrings(data, e.types(), ids);
+            data.writeShort(e.dependencies().size());
+            for (Dependency d : e.dependencies()) {
+                data.writeInt(ids.get(d.type()));
+                data.writeInt(ids.get(d.name()));
+                writeStrings(data, d.qualifiers(), ids);
+                data.writeByte(d.kind().ordinal());
+            }
+        }
+        data.flush();
+    }
+
+    /**
+     * Write a list of strings, as a short count followed by the string table index of each
+     * 
+     * @param data   {@link DataOutputStream} where to write
+     * @param values {@link List} of {@link String}s to write
+     * @param ids    {@link Map} of the strings to their index within the table
+     * @throws IOException if the list cannot be written
+     */
+    private static void writeStrings(DataOutputStream data, List<String> values, Map<String, Integer> ids) throws IOException {
+        data.writeShort(values.size());
+        for (String v : values)
+            data.writeInt(ids.get(v));
+    }
+
+    /**
+     * Add the string to the string table, if it is not already present
+     * 
+     * @param s       {@link String} to add
+     * @param ids     {@link Map} of the strings to their index within the table
+     * @param strings {@link List} of {@link String}s comprising the table
+     */
+    private static void addString(String s, Map<String, Integer> ids, List<String> strings) {
+        if (ids.putIfAbsent(s, strings.size()) == null)
+            strings.add(s);
+    }
+
+    /**
+     * CTOR - should only ever be used as a static class
+     */
+    private RegistryIndex() {
+    }
+}
@@ -15,29 +15,118 @@
  */
 package tendril.processor.registration;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 
 import javax.annotation.processing.Processor;
 import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
 import javax.annotation.processing.SupportedSourceVersion;
 import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
 
 import com.google.auto.service.AutoService;
 
 import tendril.annotationprocessor.AbstractTendrilProccessor;
 import tendril.annotationprocessor.ClassDefinition;
+import tendril.bean.Inject;
+import tendril.bean.Provider;
+import tendril.bean.qualifier.EnumQualifier;
+import tendril.bean.qualifier.Named;
+import tendril.bean.recipe.AbstractRecipe;
+import tendril.bean.recipe.Descriptor;
+import tendril.bean.recipe.RecipeAggregate;
+import tendril.bean.recipe.RecipeBootstrap;
 import tendril.bean.recipe.Registry;
+import tendril.codegen.VisibilityType;
+import tendril.codegen.annotation.JAnnotationFactory;
+import tendril.codegen.classes.ClassBuilder;
+import tendril.codegen.field.type.ArrayType;
+import tendril.codegen.field.type.ClassType;
+import tendril.codegen.field.type.PrimitiveType;
+import tendril.codegen.field.value.JValueFactory;
+import tendril.codegen.generics.GenericFactory;
+import tendril.context.BeanAccessor;
+import tendril.context.BeanAccessors;
+import tendril.context.Engine;
+import tendril.processor.registration.RegistryIndex.Dependency;
+import tendril.processor.registration.RegistryIndex.DependencyKind;
 
 /**
- * Annotation processor for recipes which are annotated with @{@link Registry} and are to be added to the recipe registry
+ * Annotation processor for recipes which are annotated with @{@link Registry} and are to be added to the recipe registry. In addition to the registry file, a {@link RecipeBootstrap}
+ * is generated for the module, allowing the recipes to be created without reflection, and a {@link RegistryIndex} containing the metadata of the beans the recipes provide.
+ * The bootstrap is generated at the end of the round in which the recipes are registered, such that it is still processed as part of the compilation. Recipes which are
+ * only registered in a later round (as their generation was deferred) are added to a further bootstrap of their own.
+ * 
+ * <p>Once all recipes are known, the {@link DependencyGraph} of the beans (including those indexed by the modules on the classpath) is validated, such that ambiguous and
+ * cyclic dependencies are reported as compile errors. Missing dependencies are only reported as warnings, as the providing module may not be visible at compile time, unless
+ * the {@value #STRICT_OPTION} option is set to true.</p>
+ * 
+ * <p>Where the {@value #DIRECT_WIRING_OPTION} option is set to true, the dependencies which the graph resolves to exactly one recipe of the same bootstrap are wired to that
+ * recipe in the bootstrap (see {@link RecipeBootstrap#getWiring(int)}), such that they are linked to it directly rather than being resolved at runtime. Dependencies on beans of
+ * other modules are always resolved at runtime. Note that the wiring is fixed at compile time, such that beans which only become available at runtime (i.e.: via modules
+ * which are not on the compile time classpath) do not affect the wired dependencies.</p>
+ * 
+ * <p>Where the {@value #ACCESSORS_OPTION} option is set, a class of that name is generated containing a static accessor for each bean of this module (i.e.:
+ * {@code Beans.orderService()}), which retrieves the bean via a {@code static final} {@link BeanAccessor} (see {@link BeanAccessors}). The accessor is named after
+ * the bean (its name where it is named, otherwise its class), and is only generated for public beans which are not generic and whose description resolves to only
+ * themselves. The accessors are generated once a round completes without any further beans having been registered (or once the beans are registered, where no further round is
+ * certain to follow), beans which are only registered after this are noted as having no accessor.</p>
+ * 
+ * <p>A {@link RecipeAggregate} is registered via the recipes it contains, each of which is indexed by its name within the aggregate. The aggregate is loaded as a
+ * bootstrap of its own, and the dependencies of its recipes are not wired directly.</p>
  */
 @SupportedAnnotationTypes("tendril.bean.recipe.Registry")
 @SupportedSourceVersion(SourceVersion.RELEASE_21)
+@SupportedOptions({ RegistryProcessor.STRICT_OPTION, RegistryProcessor.DIRECT_WIRING_OPTION, RegistryProcessor.ACCESSORS_OPTION })
 @AutoService(Processor.class)
 public class RegistryProcessor extends AbstractTendrilProccessor {
+    /** Processor option through which missing dependencies are reported as errors */
+    public static final String STRICT_OPTION = "tendril.validation.strict";
+    /** Processor option through which the dependencies on beans of the same module are wired at compile time */
+    public static final String DIRECT_WIRING_OPTION = "tendril.wiring.direct";
+    /** Processor option containing the fully qualified name of the class of static bean accessors which is to be generated for the module */
+    public static final String ACCESSORS_OPTION = "tendril.accessors.class";
+    /** Map of the generic collections which can be injected, to the index of their generic parameter which contains the type of bean */
+    private static final Map<String, Integer> COLLECTIONS = Map.of(List.class.getName(), 0, Set.class.getName(), 0, Map.class.getName(), 1);
+    
     /** List of all recipes that are to be registered */
     private final List<String> registers = new ArrayList<>();
+    /** The index entries of the recipes that are to be registered */
+    private final List<RegistryIndex.Entry> indexEntries = new ArrayList<>();
+    /** The bean elements of the index entries, against which any issues are to be reported */
+    private final Map<RegistryIndex.Entry, Element> entryElements = new HashMap<>();
+    /** The binary names of the {@link RecipeAggregate}s which are to be loaded as bootstraps */
+    private final List<String> aggregates = new ArrayList<>();
+    /** The recipe classes which have been registered in the current round, and are yet to be added to a bootstrap */
+    private final List<String> unbootstrapped = new ArrayList<>();
+    /** The fully qualified names of the bootstraps which have been generated */
+    private final List<String> bootstraps = new ArrayList<>();
+    /** The number of index entries as of the end of the previous round */
+    private int roundEntryCount = 0;
+    /** The number of index entries for which the accessors have been considered (-1 until the accessors have been generated) */
+    private int accessorEntryCount = -1;
 
     /**
      * CTOR
@@ -50,9 +139,213 @@ public class RegistryProcessor extends AbstractTendrilProccessor {
      */
     @Override
     protected ClassDefinition processType() {
-        registers.add(currentClassType.getFullyQualifiedName());
+        String name = currentClassType.getFullyQualifiedName();
+        TypeElement type = processingEnv.getElementUtils().getTypeElement(name);
+        if (type != null && isTypeOf(type, RecipeAggregate.class)) {
+            processAggregate(type);
+            return null;
+        }
+        
+        registers.add(name);
+        unbootstrapped.add(name);
+        if (type != null)
+            addIndexEntry(getBinaryName(type), type.getSuperclass());
         return null;
     }
+    
+    /**
+     * Process the {@link RecipeAggregate}, indexing each of the recipes it contains. The recipes are not added to the registry file, as they can only be created via
+     * the aggregate (which is loaded as a {@link RecipeBootstrap}).
+     * 
+     * @param aggregate {@link TypeElement} of the aggregate class
+     */
+    private void processAggregate(TypeElement aggregate) {
+        String name = getBinaryName(aggregate);
+        aggregates.add(name);
+        
+        for (Element e : aggregate.getEnclosedElements()) {
+            String method = e.getSimpleName().toString();
+            if (e.getKind() == ElementKind.METHOD && method.matches(RecipeAggregate.RECIPE_METHOD_PREFIX + "\\d+")) {
+                int id = Integer.parseInt(method.substring(RecipeAggregate.RECIPE_METHOD_PREFIX.length()));
+                addIndexEntry(RecipeAggregate.getRecipeName(name, id), ((ExecutableElement) e).getReturnType());
+            }
+        }
+    }
+    
+    /**
+     * Add the index entry of the recipe, where its bean can be determined
+     * 
+     * @param recipe    {@link String} name of the recipe (binary name of the recipe class)
+     * @param lifecycle {@link TypeMirror} of the life cycle recipe which the recipe is (i.e.: SingletonRecipe&lt;Bean&gt;)
+     */
+    private void addIndexEntry(String recipe, TypeMirror lifecycle) {
+        RegistryIndex.Entry entry = createIndexEntry(recipe, lifecycle);
+        if (entry != null) {
+            indexEntries.add(entry);
+            entryElements.put(entry, processingEnv.getElementUtils().getTypeElement(entry.beanClass().replace('$', '.')));
+        }
+    }
+    
+    /**
+     * Create the index entry for the recipe. The bean is determined from the generic parameter of the life cycle recipe (i.e.: SingletonRecipe&lt;Bean&gt;),
+     * with the life cycle recipe itself defining the lifecycle of the bean.
+     * 
+     * @param recipe    {@link String} name of the recipe (binary name of the recipe class)
+     * @param lifecycle {@link TypeMirror} of the life cycle recipe which the recipe is (for a recipe class, its parent)
+     * @return {@link RegistryIndex.Entry} for the recipe, or null if its bean cannot be determined (in which case it is only available via the registry file)
+     */
+    private RegistryIndex.Entry createIndexEntry(String recipe, TypeMirror lifecycle) {
+        if (!(lifecycle instanceof DeclaredType parent) || parent.getTypeArguments().size() != 1)
+            return null;
+        if (!(parent.getTypeArguments().get(0) instanceof DeclaredType beanType))
+            return null;
+        
+        TypeElement bean = (TypeElement) beanType.asElement();
+        Set<String> types = new LinkedHashSet<>();
+        collectTypes(beanType, types);
+        
+        Named named = bean.getAnnotation(Named.class);
+        return new RegistryIndex.Entry(recipe, getBinaryName(bean), ((TypeElement) parent.asElement()).getQualifiedName().toString(),
+                named == null ? "" : named.value(), getQualifiers(bean), List.copyOf(types), getDependencies(bean));
+    }
+    
+    /**
+     * Get the qualifiers which are applied to the element, via the {@link EnumQualifier} annotations that are applied to it. The qualifier is the enum id, as
+     * {@code <enum binary name>.<constant>}.
+     * 
+     * @param element {@link Element} whose qualifiers are to be retrieved
+     * @return {@link List} of {@link String} qualifiers
+     */
+    private List<String> getQualifiers(Element element) {
+        List<String> qualifiers = new ArrayList<>();
+        for (AnnotationMirror m : element.getAnnotationMirrors()) {
+            if (m.getAnnotationType().asElement().getAnnotation(EnumQualifier.class) == null)
+                continue;
+            
+            for (AnnotationValue value : m.getElementValues().values()) {
+                if (value.getValue() instanceof VariableElement id)
+                    qualifiers.add(getBinaryName((TypeElement) id.getEnclosingElement()) + "." + id.getSimpleName());
+            }
+        }
+        return qualifiers;
+    }
+    
+    /**
+     * Get the dependencies of the bean, as determined by the parameters of its creation constructor and any injected fields and methods
+     * 
+     * @param bean {@link TypeElement} of the bean class
+     * @return {@link List} of {@link Dependency}s of the bean
+     */
+    private List<Dependency> getDependencies(TypeElement bean) {
+        List<Dependency> dependencies = new ArrayList<>();
+        
+        List<ExecutableElement> ctors = new ArrayList<>();
+        List<ExecutableElement> injectCtors = new ArrayList<>();
+        for (Element e : bean.getEnclosedElements()) {
+            if (e.getKind() == ElementKind.CONSTRUCTOR && !e.getModifiers().contains(Modifier.PRIVATE)) {
+                ctors.add((ExecutableElement) e);
+                if (e.getAnnotation(Inject.class) != null)
+                    injectCtors.add((ExecutableElement) e);
+            } else if (e.getAnnotation(Inject.class) != null) {
+                if (e.getKind() == ElementKind.FIELD)
+                    addDependency((VariableElement) e, dependencies);
+                else if (e.getKind() == ElementKind.METHOD)
+                    ((ExecutableElement) e).getParameters().forEach(p -> addDependency(p, dependencies));
+            }
+        }
+        
+        // The same constructor as is used by the recipe (the BeanProcessor has already verified that it is unique)
+        List<ExecutableElement> creation = injectCtors.isEmpty() ? ctors : injectCtors;
+        if (creation.size() == 1)
+            creation.get(0).getParameters().forEach(p -> addDependency(p, dependencies));
+        
+        return dependencies;
+    }
+    
+    /**
+     * Add the dependency which is represented by the injected field or parameter
+     * 
+     * @param variable     {@link VariableElement} of the field or parameter into which a bean is injected
+     * @param dependencies {@link List} of {@link Dependency}s where the dependency is to be added
+     */
+    private void addDependency(VariableElement variable, List<Dependency> dependencies) {
+        if (!(variable.asType() instanceof DeclaredType type))
+            return;
+        
+        DependencyKind kind = DependencyKind.BEAN;
+        String typeName = getBinaryName((TypeElement) type.asElement());
+        if (typeName.equals(Provider.class.getName()) || COLLECTIONS.containsKey(typeName)) {
+            int index = typeName.equals(Provider.class.getName()) ? 0 : COLLECTIONS.get(typeName);
+            if (type.getTypeArguments().size() <= index || !(type.getTypeArguments().get(index) instanceof DeclaredType beanType))
+                return;
+            
+            kind = typeName.equals(Provider.class.getName()) ? DependencyKind.PROVIDER : DependencyKind.COLLECTION;
+            type = beanType;
+        }
+        
+        Named named = variable.getAnnotation(Named.class);
+        String key = getTypeKey(type);
+        dependencies.add(new Dependency(key == null ? getBinaryName((TypeElement) type.asElement()) : key, named == null ? "" : named.value(), getQualifiers(variable), kind));
+    }
+    
+    /**
+     * Collect the keys of the type and all of its super classes and interfaces. Every type is included by its name, and where its type arguments resolve to explicit
+     * classes by its parameterized key as well.
+     * 
+     * @param type  {@link TypeMirror} whose hierarchy is to be collected
+     * @param types {@link Set} of {@link String}s where the keys of the types are to be placed
+     */
+    private void collectTypes(TypeMirror type, Set<String> types) {
+        if (type.getKind() != TypeKind.DECLARED)
+            return;
+        
+        DeclaredType declared = (DeclaredType) type;
+        String key = getTypeKey(declared);
+        if (key != null && !declared.getTypeArguments().isEmpty())
+            types.add(key);
+        
+        // Interfaces can be reached through multiple paths, only need to traverse them once
+        TypeElement element = (TypeElement) declared.asElement();
+        if (!types.add(getBinaryName(element)))
+            return;
+        
+        for (TypeMirror parent : processingEnv.getTypeUtils().directSupertypes(type))
+            collectTypes(parent, types);
+    }
+    
+    /**
+     * Get the canonical key of the type (as per {@link tendril.bean.recipe.Descriptor}), being its binary name followed by the keys of its type arguments
+     * 
+     * @param type {@link TypeMirror} whose key is to be determined
+     * @return {@link String} key of the type, or null if it (or any of its type arguments) is not a declared type
+     */
+    private String getTypeKey(TypeMirror type) {
+        if (!(type instanceof DeclaredType declared))
+            return null;
+        
+        String name = getBinaryName((TypeElement) declared.asElement());
+        if (declared.getTypeArguments().isEmpty())
+            return name;
+        
+        List<String> args = new ArrayList<>();
+        for (TypeMirror arg : declared.getTypeArguments()) {
+            String argKey = getTypeKey(arg);
+            if (argKey == null)
+                return null;
+            args.add(argKey);
+        }
+        return name + "<" + String.join(",", args) + ">";
+    }
+    
+    /**
+     * Get the binary name of the type, matching that which is provided by {@link Class#getName()}
+     * 
+     * @param element {@link TypeElement} whose name is to be retrieved
+     * @return {@link String} binary name of the type
+     */
+    private String getBinaryName(TypeElement element) {
+        return processingEnv.getElementUtils().getBinaryName(element).toString();
+    }
 
     /**
      * @see tendril.annotationprocessor.AbstractTendrilProccessor#processMethod()
@@ -68,14 +361,311 @@ public class RegistryProcessor extends AbstractTendrilProccessor {
      */
     @Override
     protected void errorRaised() {
-        processingOver();
+        writeRegistry();
+    }
+
+    /**
+     * Generate the code for the recipes which were registered in the round, such that it is still compiled (and processed) as part of the compilation. The recipes are
+     * added to a bootstrap of their own, and the accessors are generated once all beans appear to have been registered. Typically all recipes are registered in a single
+     * round, with later rounds only registering recipes whose generation was deferred.
+     * 
+     * @see tendril.annotationprocessor.AbstractTendrilProccessor#roundComplete()
+     */
+    @Override
+    protected void roundComplete() {
+        boolean isBootstrapped = !unbootstrapped.isEmpty();
+        if (isBootstrapped) {
+            unbootstrapped.sort(String::compareTo);
+            boolean isWired = Boolean.parseBoolean(processingEnv.getOptions().get(DIRECT_WIRING_OPTION));
+            ClassDefinition bootstrap = generateBootstrap(unbootstrapped, isWired ? wireDependencies(new DependencyGraph(getAvailableEntries()), unbootstrapped) : Map.of());
+            writeCode(bootstrap);
+            bootstraps.add(bootstrap.getType().getFullyQualifiedName());
+            unbootstrapped.clear();
+        }
+        
+        int entryCount = indexEntries.size();
+        boolean isRegistering = entryCount != roundEntryCount;
+        roundEntryCount = entryCount;
+        String accessors = processingEnv.getOptions().get(ACCESSORS_OPTION);
+        if (accessors == null || accessors.isBlank() || entryCount == 0)
+            return;
+        
+        if (accessorEntryCount < 0) {
+            // Further beans may still be registered, wait for the next round where the bootstrap guarantees there is one
+            if (isRegistering && isBootstrapped)
+                return;
+            writeCode(generateAccessors(new ClassType(accessors.trim()), new DependencyGraph(getAvailableEntries())));
+        } else {
+            // The accessors have already been generated, so cannot be extended with the beans which were registered since
+            for (RegistryIndex.Entry e : indexEntries.subList(accessorEntryCount, entryCount))
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "No static accessor is generated for " + e.beanClass() + " as it was registered after the accessors were generated",
+                        entryElements.get(e));
+        }
+        accessorEntryCount = entryCount;
     }
 
     /**
+     * Only the resources are written once processing is over, as any code generated now would not be processed.
+     * 
      * @see tendril.annotationprocessor.AbstractTendrilProccessor#processingOver()
      */
     @Override
     protected void processingOver() {
+        validateDependencies(new DependencyGraph(getAvailableEntries()));
+        writeRegistry();
+        
+        // The aggregates are bootstraps in their own right
+        List<String> services = new ArrayList<>(aggregates);
+        services.addAll(bootstraps);
+        if (!services.isEmpty())
+            writeResourceFile(RegistryFile.BOOTSTRAP_SERVICE_PATH, services);
+    }
+    
+    /**
+     * Get the index entries of all beans which are available to this module, being those of this module along with those indexed by the modules on the classpath
+     * 
+     * @return {@link List} of {@link RegistryIndex.Entry}s of the available beans
+     */
+    private List<RegistryIndex.Entry> getAvailableEntries() {
+        List<RegistryIndex.Entry> available = new ArrayList<>(indexEntries);
+        Set<String> local = new HashSet<>();
+        indexEntries.forEach(e -> local.add(e.recipeClass()));
+        try {
+            // A stale index of this module may be visible as well, the current recipes take precedence
+            for (RegistryIndex.Entry e : RegistryIndex.read()) {
+                if (local.add(e.recipeClass()))
+                    available.add(e);
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "Unable to read the registry indexes of the dependencies: " + e.getMessage());
+        }
+        return available;
+    }
+    
+    /**
+     * Validate the dependencies of the beans of this module, against all beans which are available to it. Any issues that are found are reported against the offending
+     * bean.
+     * 
+     * @param graph {@link DependencyGraph} of all beans which are available to this module
+     */
+    private void validateDependencies(DependencyGraph graph) {
+        boolean strict = Boolean.parseBoolean(processingEnv.getOptions().get(STRICT_OPTION));
+        for (DependencyGraph.Issue issue : graph.validate(indexEntries)) {
+            boolean isError = issue.error() || strict;
+            processingEnv.getMessager().printMessage(isError ? Diagnostic.Kind.ERROR : Diagnostic.Kind.WARNING, issue.message(), entryElements.get(issue.entry()));
+        }
+    }
+    
+    /**
+     * Wire the dependencies of the recipes of this module which resolve to exactly one recipe, where that recipe is part of this module as well. Collections are never
+     * wired, as they are not retrieved via a single recipe.
+     * 
+     * @param graph   {@link DependencyGraph} of all beans which are available to this module
+     * @param recipes {@link List} of {@link String}s containing the fully qualified names of the recipe classes of the bootstrap
+     * @return {@link Map} of the index of each wired recipe to the wiring keys of its dependencies and the indexes of the recipes to which they are wired
+     */
+    private Map<Integer, Map<String, Integer>> wireDependencies(DependencyGraph graph, List<String> recipes) {
+        Map<Integer, Map<String, Integer>> wiring = new TreeMap<>();
+        for (RegistryIndex.Entry e : indexEntries) {
+            int index = recipes.indexOf(e.recipeClass());
+            if (index < 0)
+                continue;
+            
+            for (Dependency d : e.dependencies()) {
+                if (d.kind() == DependencyKind.COLLECTION)
+                    continue;
+                
+                List<RegistryIndex.Entry> matches = graph.resolve(d);
+                int target = matches.size() == 1 ? recipes.indexOf(matches.get(0).recipeClass()) : -1;
+                if (target >= 0)
+                    wiring.computeIfAbsent(index, k -> new TreeMap<>()).put(RecipeBootstrap.getWiringKey(d.type(), d.name(), d.qualifiers()), target);
+            }
+        }
+        return wiring;
+    }
+    
+    /**
+     * Write the registry file and index
+     */
+    private void writeRegistry() {
         writeResourceFile(RegistryFile.PATH, registers);
+        
+        try {
+            FileObject fileObject = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", RegistryIndex.PATH);
+            try (OutputStream out = fileObject.openOutputStream()) {
+                RegistryIndex.write(indexEntries, out);
+            }
+        } catch (IOException e) {
+            System.err.println("Unable to create file " + RegistryIndex.PATH);
+        }
+    }
+    
+    /**
+     * Generate the {@link RecipeBootstrap} for the recipes. The bootstrap is placed in the package of the first recipe, and its name is derived from the recipes
+     * it contains to keep it distinct from the bootstraps of other modules.
+     * 
+     * @param recipes {@link List} of {@link String}s containing the fully qualified names of the recipe classes
+     * @param wiring  {@link Map} of the index of each wired recipe to the wiring keys of its dependencies and the indexes of the recipes to which they are wired
+     * @return {@link ClassDefinition} of the generated bootstrap
+     */
+    private ClassDefinition generateBootstrap(List<String> recipes, Map<Integer, Map<String, Integer>> wiring) {
+        ClassType firstRecipe = new ClassType(recipes.get(0));
+        ClassType bootstrapType = new ClassType(firstRecipe.getPackageName(), "TendrilBootstrap" + Integer.toUnsignedString(recipes.hashCode(), 36));
+        
+        List<String> namesCode = new ArrayList<>();
+        namesCode.add("return new String[] {");
+        for (String r : recipes)
+            namesCode.add("    \"" + r + "\",");
+        namesCode.add("};");
+        
+        List<String> createCode = new ArrayList<>();
+        createCode.add("return switch (index) {");
+        for (int i = 0; i < recipes.size(); i++)
+            createCode.add("    case " + i + " -> asRecipe(new " + recipes.get(i) + "(engine));");
+        createCode.add("    default -> throw new IndexOutOfBoundsException(index);");
+        createCode.add("};");
+        
+        ClassType recipeType = new ClassType(AbstractRecipe.class);
+        recipeType.addGeneric(GenericFactory.createWildcard());
+        ClassBuilder builder = ClassBuilder.forConcreteClass(bootstrapType).setVisibility(VisibilityType.PUBLIC)
+                .implementsInterface(ClassBuilder.forInterface(RecipeBootstrap.class).build());
+        builder.buildMethod(new ArrayType<>(new ClassType(String.class)), "getRecipeNames").addAnnotation(JAnnotationFactory.create(Override.class)).setVisibility(VisibilityType.PUBLIC)
+            .addCode(namesCode.toArray(new String[namesCode.size()])).finish();
+        builder.buildMethod(recipeType, "createRecipe").addAnnotation(JAnnotationFactory.create(Override.class)).setVisibility(VisibilityType.PUBLIC)
+            .buildParameter(PrimitiveType.INT, "index").finish()
+            .buildParameter(new ClassType(Engine.class), "engine").finish()
+            .addCode(createCode.toArray(new String[createCode.size()])).finish();
+        // Passing the recipes as Object keeps the verifier from loading every recipe class when the bootstrap is loaded
+        builder.buildMethod(recipeType, "asRecipe").setVisibility(VisibilityType.PRIVATE).setStatic(true)
+            .buildParameter(new ClassType(Object.class), "recipe").finish()
+            .addCode("return (" + AbstractRecipe.class.getSimpleName() + "<?>) recipe;").finish();
+        
+        if (!wiring.isEmpty()) {
+            List<String> wiringCode = new ArrayList<>();
+            wiringCode.add("return switch (index) {");
+            for (Map.Entry<Integer, Map<String, Integer>> recipe : wiring.entrySet()) {
+                List<String> wired = new ArrayList<>();
+                recipe.getValue().forEach((key, target) -> wired.add("Map.entry(\"" + escape(key) + "\", " + target + ")"));
+                wiringCode.add("    case " + recipe.getKey() + " -> Map.ofEntries(" + String.join(", ", wired) + ");");
+            }
+            wiringCode.add("    default -> Map.of();");
+            wiringCode.add("};");
+            
+            ClassType wiringType = new ClassType(Map.class);
+            wiringType.addGeneric(GenericFactory.create(new ClassType(String.class)));
+            wiringType.addGeneric(GenericFactory.create(new ClassType(Integer.class)));
+            builder.buildMethod(wiringType, "getWiring").addAnnotation(JAnnotationFactory.create(Override.class)).setVisibility(VisibilityType.PUBLIC)
+                .buildParameter(PrimitiveType.INT, "index").finish()
+                .addCode(wiringCode.toArray(new String[wiringCode.size()])).finish();
+        }
+        
+        return new ClassDefinition(bootstrapType, builder.build().generateCode());
+    }
+    
+    /**
+     * Generate the class of static accessors for the beans of this module. Beans which cannot be accessed in this manner are skipped with a note explaining why.
+     * 
+     * @param accessors {@link ClassType} of the accessor class which is to be generated
+     * @param graph     {@link DependencyGraph} of all beans which are available to this module
+     * @return {@link ClassDefinition} of the generated accessors
+     */
+    private ClassDefinition generateAccessors(ClassType accessors, DependencyGraph graph) {
+        ClassBuilder builder = ClassBuilder.forConcreteClass(accessors).setVisibility(VisibilityType.PUBLIC).setFinal(true);
+        builder.buildConstructor().setVisibility(VisibilityType.PRIVATE).addCode().finish();
+        Set<ClassType> imports = new HashSet<>(List.of(new ClassType(BeanAccessor.class), new ClassType(Descriptor.class)));
+        
+        List<RegistryIndex.Entry> entries = new ArrayList<>(indexEntries);
+        entries.sort((a, b) -> a.recipeClass().compareTo(b.recipeClass()));
+        Set<String> accessorNames = new HashSet<>();
+        for (RegistryIndex.Entry e : entries) {
+            Element bean = entryElements.get(e);
+            String name = getAccessorName(e);
+            String reason = null;
+            if (!(bean instanceof TypeElement type) || !isAccessible(type) || !type.getTypeParameters().isEmpty())
+                reason = "it is not a public, non-generic class";
+            else if (graph.resolve(new Dependency(e.beanClass(), e.name(), e.qualifiers(), DependencyKind.BEAN)).size() != 1)
+                reason = "its description is matched by other beans as well";
+            else if (!accessorNames.add(name))
+                reason = "another bean has the accessor " + name + "()";
+            
+            if (reason != null) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "No static accessor is generated for " + e.beanClass() + " as " + reason, bean);
+                continue;
+            }
+            
+            ClassType beanType = new ClassType(((TypeElement) bean).getQualifiedName().toString());
+            ClassType accessorType = new ClassType(BeanAccessor.class);
+            accessorType.addGeneric(GenericFactory.create(beanType));
+            imports.add(beanType);
+            
+            String constant = getConstantName(name);
+            String descriptor = "new " + Descriptor.class.getSimpleName() + "<>(" + beanType.getClassName() + ".class)" + (e.name().isEmpty() ? "" : ".withName(\"" + escape(e.name()) + "\")");
+            for (String id : e.qualifiers())
+                descriptor += ".withId(" + id.replace('$', '.') + ")";
+            
+            builder.buildField(accessorType, constant).setVisibility(VisibilityType.PRIVATE).setStatic(true).setFinal(true)
+                .setValue(JValueFactory.createExpression(accessorType, "new " + BeanAccessor.class.getSimpleName() + "<>(" + descriptor + ")")).finish();
+            builder.buildMethod(beanType, name).setVisibility(VisibilityType.PUBLIC).setStatic(true)
+                .addCode("return " + constant + ".get();").finish();
+        }
+        
+        return new ClassDefinition(accessors, builder.build().generateCode(imports));
+    }
+    
+    /**
+     * Get the name of the accessor of the bean, being the name of the bean where it is named (and the name is a valid method name), otherwise its class name. The
+     * name always starts in lower case.
+     * 
+     * @param entry {@link RegistryIndex.Entry} of the bean
+     * @return {@link String} name of the accessor
+     */
+    private static String getAccessorName(RegistryIndex.Entry entry) {
+        String beanName = entry.name();
+        if (!SourceVersion.isIdentifier(beanName))
+            beanName = entry.beanClass().substring(Math.max(entry.beanClass().lastIndexOf('.'), entry.beanClass().lastIndexOf('$')) + 1);
+        
+        String name = Character.toLowerCase(beanName.charAt(0)) + beanName.substring(1);
+        return SourceVersion.isKeyword(name) ? name + "Bean" : name;
+    }
+    
+    /**
+     * Get the name of the constant for the accessor (i.e.: orderService becomes ORDER_SERVICE)
+     * 
+     * @param accessor {@link String} name of the accessor
+     * @return {@link String} name of the constant
+     */
+    private static String getConstantName(String accessor) {
+        StringBuilder constant = new StringBuilder();
+        for (int i = 0; i < accessor.length(); i++) {
+            char c = accessor.charAt(i);
+            if (i > 0 && Character.isUpperCase(c) && !Character.isUpperCase(accessor.charAt(i - 1)))
+                constant.append('_');
+            constant.append(Character.toUpperCase(c));
+        }
+        return constant.toString();
+    }
+    
+    /**
+     * Check whether the type can be accessed from outside of its package, being the case when it and all of the types it is nested within are public
+     * 
+     * @param type {@link TypeElement} to check
+     * @return boolean true if it is accessible
+     */
+    private static boolean isAccessible(TypeElement type) {
+        for (Element e = type; e instanceof TypeElement; e = e.getEnclosingElement()) {
+            if (!e.getModifiers().contains(Modifier.PUBLIC))
+                return false;
+        }
+        return true;
+    }
+    
+    /**
+     * Escape the value such that it can be placed within a string literal of the generated code
+     * 
+     * @param value {@link String} to escape
+     * @return {@link String} escaped value
+     */
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
     }
 }
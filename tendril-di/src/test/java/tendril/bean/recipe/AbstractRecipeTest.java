@@ -15,16 +15,30 @@
  */
 package tendril.bean.recipe;
 
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
 import org.apache.commons.lang3.NotImplementedException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
 import tendril.BeanCreationException;
+import tendril.bean.Provider;
 import tendril.context.Engine;
+import tendril.jfr.BeanInjectionEvent;
+import tendril.jfr.TendrilEvent;
 import tendril.test.AbstractUnitTest;
 import tendril.test.bean.SingleCtorBean;
 
@@ -40,6 +54,8 @@ public class AbstractRecipeTest extends AbstractUnitTest {
 
         private boolean isDescriptorSetup;
         private int timesCreateInstanceCalled = 0;
+        private int timesInjectDependenciesCalled = 0;
+        private SingleCtorBean injectedBean = null;
         private int timesPostConstructCalled = 0;
         private SingleCtorBean postConstructBean = null;
 
@@ -54,9 +70,10 @@ public class AbstractRecipeTest extends AbstractUnitTest {
          * @see tendril.bean.recipe.AbstractRecipe#setupDescriptor(tendril.bean.recipe.Descriptor)
          */
         @Override
-        protected void setupDescriptor(Descriptor<SingleCtorBean> descriptor) {
+        protected Descriptor<SingleCtorBean> setupDescriptor(Descriptor<SingleCtorBean> descriptor) {
             Assertions.assertFalse(isDescriptorSetup);
             isDescriptorSetup = true;
+            return descriptor;
         }
 
         @Override
@@ -83,6 +100,21 @@ public class AbstractRecipeTest extends AbstractUnitTest {
             Assertions.assertEquals(timesExpected, timesCreateInstanceCalled);
         }
         
+        /**
+         * @see tendril.bean.recipe.AbstractRecipe#injectDependencies(java.lang.Object, tendril.context.Engine)
+         */
+        @Override
+        protected void injectDependencies(SingleCtorBean consumer, Engine engine) {
+            Assertions.assertEquals(mockEngine, engine);
+            timesInjectDependenciesCalled++;
+            injectedBean = consumer;
+        }
+        
+        public void assertTimesInjectDependenciesCalled(int timesExpected, SingleCtorBean expectedBean) {
+            Assertions.assertEquals(timesExpected, timesInjectDependenciesCalled);
+            Assertions.assertEquals(expectedBean, injectedBean);
+        }
+        
         /**
          * @see tendril.bean.recipe.AbstractRecipe#postConstruct(java.lang.Object)
          */
@@ -121,6 +153,10 @@ public class AbstractRecipeTest extends AbstractUnitTest {
     private Injector<SingleCtorBean> mockInjector2;
     @Mock
     private Injector<SingleCtorBean> mockInjector3;
+    @Mock
+    private Provider<String> mockStringProvider;
+    @Mock
+    private Provider<Integer> mockIntProvider;
     
     // Instance to test
     private TestRecipe recipe;
@@ -170,9 +206,53 @@ public class AbstractRecipeTest extends AbstractUnitTest {
         SingleCtorBean instance = recipe.buildBean();
         Assertions.assertNotNull(instance);
         recipe.assertTimesCreateInstanceCalled(1);
+        recipe.assertTimesInjectDependenciesCalled(1, instance);
         recipe.assertTimesPostConstructCalled(1, instance);
     }
     
+    /**
+     * Verify that the dependencies are injected directly once the registered injectors have been applied
+     */
+    @Test
+    public void testBuildDirectInjection() {
+        recipe.registerInjector((consumer, engine) -> Assertions.assertEquals(recipe.timesCreateInstanceCalled - 1, recipe.timesInjectDependenciesCalled));
+        
+        SingleCtorBean first = recipe.buildBean();
+        recipe.assertTimesInjectDependenciesCalled(1, first);
+        recipe.assertTimesPostConstructCalled(1, first);
+        
+        SingleCtorBean second = recipe.buildBean();
+        recipe.assertTimesCreateInstanceCalled(2);
+        recipe.assertTimesInjectDependenciesCalled(2, second);
+        recipe.assertTimesPostConstructCalled(2, second);
+    }
+    
+    /**
+     * Verify that the direct injection (as performed by generated recipes) is captured in a {@link BeanInjectionEvent}, with the recipe as the injector
+     * 
+     * @throws IOException if the recording cannot be written or read
+     */
+    @Test
+    public void testBuildDirectInjectionEvent() throws IOException {
+        Path file = Files.createTempFile("tendril", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(BeanInjectionEvent.class).withoutThreshold();
+            recording.start();
+            SingleCtorBean instance = recipe.buildBean();
+            recording.stop();
+            recording.dump(file);
+            recipe.assertTimesInjectDependenciesCalled(1, instance);
+            
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream().filter(e -> e.getEventType().getName().equals("tendril.BeanInjection")).toList();
+            Assertions.assertEquals(1, events.size());
+            Assertions.assertEquals(TestRecipe.class.getName(), events.get(0).getClass("injectorClass").getName());
+            Assertions.assertEquals(TestRecipe.class.getName(), events.get(0).getClass("recipeClass").getName());
+            Assertions.assertEquals(TendrilEvent.SUCCESS, events.get(0).getString("outcome"));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+    
     /**
      * Verify that the bean can be built if one Applicator is specified
      */
@@ -279,5 +359,79 @@ public class AbstractRecipeTest extends AbstractUnitTest {
         verify(mockInjector2).inject(instance, mockEngine);
         verify(mockInjector3).inject(instance, mockEngine);
     }
-
+    
+    /**
+     * Verify that once linked the dependencies are retrieved via their links
+     */
+    @Test
+    public void testLinked() {
+        recipe.registerDependency(mockStringDescriptor, mockStringApplicator);
+        recipe.declareDependency(mockIntDescriptor);
+        
+        when(mockEngine.getProvider(mockStringDescriptor)).thenReturn(mockStringProvider);
+        when(mockEngine.getProvider(mockIntDescriptor)).thenReturn(mockIntProvider);
+        recipe.link();
+        recipe.link();
+        // Once for the injection, once for the declared dependency
+        verify(mockEngine, times(2)).getProvider(mockStringDescriptor);
+        verify(mockEngine).getProvider(mockIntDescriptor);
+        
+        when(mockStringProvider.get()).thenReturn("abc123");
+        when(mockIntProvider.get()).thenReturn(123);
+        SingleCtorBean instance = recipe.buildBean();
+        verify(mockStringProvider).get();
+        verify(mockStringApplicator).apply(instance, "abc123");
+        recipe.assertTimesCreateInstanceCalled(1);
+        recipe.assertTimesPostConstructCalled(1, instance);
+        
+        Assertions.assertEquals("abc123", recipe.getDependency(0));
+        Assertions.assertEquals(Integer.valueOf(123), recipe.getDependency(1));
+        verify(mockStringProvider, times(2)).get();
+        verify(mockIntProvider).get();
+    }
+    
+    /**
+     * Verify that the dependencies which are wired are linked to the wired providers, rather than being resolved via the engine
+     */
+    @Test
+    public void testLinkedWired() {
+        Descriptor<String> stringDescriptor = new Descriptor<>(String.class);
+        Descriptor<Integer> intDescriptor = new Descriptor<>(Integer.class).withName("abc");
+        recipe.registerDependency(stringDescriptor, mockStringApplicator);
+        recipe.declareDependency(stringDescriptor);
+        recipe.declareDependency(intDescriptor);
+        
+        when(mockEngine.getProvider(intDescriptor)).thenReturn(mockIntProvider);
+        recipe.link(Map.of(RecipeBootstrap.getWiringKey(String.class.getName(), "", List.of()), mockStringProvider));
+        // Only the dependency which is not wired is resolved via the engine
+        verify(mockEngine).getProvider(intDescriptor);
+        
+        when(mockStringProvider.get()).thenReturn("abc123");
+        when(mockIntProvider.get()).thenReturn(123);
+        SingleCtorBean instance = recipe.buildBean();
+        verify(mockStringProvider).get();
+        verify(mockStringApplicator).apply(instance, "abc123");
+        recipe.assertTimesCreateInstanceCalled(1);
+        recipe.assertTimesPostConstructCalled(1, instance);
+        
+        Assertions.assertEquals("abc123", recipe.getDependency(1));
+        Assertions.assertEquals(Integer.valueOf(123), recipe.getDependency(2));
+        verify(mockStringProvider, times(2)).get();
+        verify(mockIntProvider).get();
+    }
+    
+    /**
+     * Verify that retrieving a dependency links the recipe if this has not yet been done
+     */
+    @Test
+    public void testGetDependencyLinks() {
+        recipe.declareDependency(mockIntDescriptor);
+        when(mockEngine.getProvider(mockIntDescriptor)).thenReturn(mockIntProvider);
+        when(mockIntProvider.get()).thenReturn(123);
+        
+        Assertions.assertEquals(Integer.valueOf(123), recipe.getDependency(0));
+        Assertions.assertEquals(Integer.valueOf(123), recipe.getDependency(0));
+        verify(mockEngine).getProvider(mockIntDescriptor);
+        verify(mockIntProvider, times(2)).get();
+    }
 }
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2025 Jaroslav Bosak
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/license/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tendril.bean.recipe;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import tendril.bean.Provider;
+import tendril.context.Engine;
+import tendril.test.AbstractUnitTest;
+import tendril.test.bean.SingleCtorBean;
+
+/**
+ * Test case for the {@link AggregatedRecipes}
+ */
+public class AggregatedRecipesTest extends AbstractUnitTest {
+    
+    // Mocks to use for testing
+    @Mock
+    private Engine mockEngine;
+    @Mock
+    private RecipeAggregate mockAggregate;
+    @Mock
+    private Provider<Integer> mockProvider;
+    
+    // The description of the bean
+    private Descriptor<SingleCtorBean> descriptor;
+    // The dependency of the bean
+    private Descriptor<Integer> dependency;
+
+    /**
+     * @see tendril.test.AbstractUnitTest#prepareTest()
+     */
+    @Override
+    protected void prepareTest() {
+        descriptor = new Descriptor<>(SingleCtorBean.class).withName("abc123");
+        dependency = new Descriptor<>(Integer.class);
+    }
+    
+    /**
+     * Verify that the singleton recipe delegates the building of the bean to the aggregate
+     */
+    @Test
+    public void testSingleton() {
+        when(mockAggregate.getDependencies(3)).thenReturn(new Descriptor<?>[] { dependency });
+        AbstractRecipe<SingleCtorBean> recipe = new AggregatedRecipes.Singleton<>(mockEngine, mockAggregate, 3, descriptor);
+        verify(mockAggregate).getDependencies(3);
+        Assertions.assertEquals(descriptor, recipe.getDescription());
+        Assertions.assertEquals(List.of(dependency), recipe.getDependencies());
+        
+        SingleCtorBean bean = new SingleCtorBean();
+        when(mockAggregate.createInstance(3, recipe, mockEngine)).thenReturn(bean);
+        Assertions.assertSame(bean, recipe.get());
+        Assertions.assertSame(bean, recipe.get());
+        verify(mockAggregate).createInstance(3, recipe, mockEngine);
+        verify(mockAggregate).injectDependencies(3, bean, recipe, mockEngine);
+        verify(mockAggregate).postConstruct(3, bean);
+    }
+    
+    /**
+     * Verify that the dependencies are retrieved via the links of the recipe
+     */
+    @Test
+    public void testDependency() {
+        when(mockAggregate.getDependencies(0)).thenReturn(new Descriptor<?>[] { dependency });
+        AbstractRecipe<SingleCtorBean> recipe = new AggregatedRecipes.Factory<>(mockEngine, mockAggregate, 0, descriptor);
+        verify(mockAggregate).getDependencies(0);
+        
+        when(mockEngine.getProvider(dependency)).thenReturn(mockProvider);
+        when(mockProvider.get()).thenReturn(123);
+        Assertions.assertEquals(Integer.valueOf(123), recipe.getDependency(0));
+        verify(mockEngine).getProvider(dependency);
+        verify(mockProvider).get();
+    }
+    
+    /**
+     * Verify that the factory recipe builds a new bean for each retrieval
+     */
+    @Test
+    public void testFactory() {
+        when(mockAggregate.getDependencies(1)).thenReturn(new Descriptor<?>[0]);
+        AbstractRecipe<SingleCtorBean> recipe = new AggregatedRecipes.Factory<>(mockEngine, mockAggregate, 1, descriptor);
+        verify(mockAggregate).getDependencies(1);
+        Assertions.assertTrue(recipe.getDependencies().isEmpty());
+        
+        when(mockAggregate.createInstance(1, recipe, mockEngine)).thenReturn(new SingleCtorBean(), new SingleCtorBean());
+        Assertions.assertNotSame(recipe.get(), recipe.get());
+        verify(mockAggregate, times(2)).createInstance(1, recipe, mockEngine);
+        verify(mockAggregate, times(2)).injectDependencies(eq(1), any(SingleCtorBean.class), eq(recipe), eq(mockEngine));
+        verify(mockAggregate, times(2)).postConstruct(eq(1), any(SingleCtorBean.class));
+    }
+    
+    /**
+     * Verify that the pooled recipe resets the bean via the aggregate when it is released
+     */
+    @Test
+    public void testPooled() {
+        when(mockAggregate.getDependencies(2)).thenReturn(new Descriptor<?>[0]);
+        PooledRecipe<SingleCtorBean> recipe = new AggregatedRecipes.Pooled<>(mockEngine, mockAggregate, 2, descriptor, 1);
+        verify(mockAggregate).getDependencies(2);
+        
+        SingleCtorBean bean = new SingleCtorBean();
+        when(mockAggregate.createInstance(2, recipe, mockEngine)).thenReturn(bean);
+        Assertions.assertSame(bean, recipe.get());
+        verify(mockAggregate).createInstance(2, recipe, mockEngine);
+        verify(mockAggregate).injectDependencies(2, bean, recipe, mockEngine);
+        verify(mockAggregate).postConstruct(2, bean);
+        
+        recipe.release(bean);
+        verify(mockAggregate).reset(2, bean);
+        Assertions.assertEquals(1, recipe.getIdleCount());
+        Assertions.assertSame(bean, recipe.get());
+    }
+    
+    /**
+     * Verify that the thread scoped and request scoped recipes are described by the aggregate
+     */
+    @Test
+    public void testScoped() {
+        when(mockAggregate.getDependencies(4)).thenReturn(new Descriptor<?>[0]);
+        when(mockAggregate.getDependencies(5)).thenReturn(new Descriptor<?>[] { dependency });
+        
+        AbstractRecipe<SingleCtorBean> threadScoped = new AggregatedRecipes.ThreadScoped<>(mockEngine, mockAggregate, 4, descriptor);
+        verify(mockAggregate).getDependencies(4);
+        Assertions.assertEquals(descriptor, threadScoped.getDescription());
+        Assertions.assertTrue(threadScoped.getDependencies().isEmpty());
+        
+        AbstractRecipe<SingleCtorBean> requestScoped = new AggregatedRecipes.RequestScoped<>(mockEngine, mockAggregate, 5, descriptor);
+        verify(mockAggregate).getDependencies(5);
+        Assertions.assertEquals(descriptor, requestScoped.getDescription());
+        Assertions.assertEquals(List.of(dependency), requestScoped.getDependencies());
+    }
+    
+    /**
+     * Verify that the names of the recipes are derived from the aggregate and their id
+     */
+    @Test
+    public void testRecipeName() {
+        Assertions.assertEquals("a.b.Aggregate#0", RecipeAggregate.getRecipeName("a.b.Aggregate", 0));
+        Assertions.assertEquals("a.b.Aggregate#12", RecipeAggregate.getRecipeName("a.b.Aggregate", 12));
+    }
+}
@@ -16,12 +16,17 @@
 package tendril.bean.recipe;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import tendril.test.AbstractUnitTest;
 import tendril.test.bean.SingleCtorBean;
+import tendril.test.bean.TestId;
 import tendril.test.recipe.Double1TestRecipe;
 import tendril.test.recipe.Double2TestRecipe;
 import tendril.test.recipe.IntTestRecipe;
@@ -53,13 +58,32 @@ public class DescriptorTest extends AbstractUnitTest {
     }
 
     /**
-     * Verify that the name can be updated
+     * Verify that the name can be applied, without altering the original descriptor
      */
     @Test
     public void testUpdateName() {
-        descriptor.setName("SomeBeanName");
-        Assertions.assertEquals(SingleCtorBean.class, descriptor.getBeanClass());
-        Assertions.assertEquals("SomeBeanName", descriptor.getName());
+        Descriptor<SingleCtorBean> named = descriptor.withName("SomeBeanName");
+        Assertions.assertEquals(SingleCtorBean.class, named.getBeanClass());
+        Assertions.assertEquals("SomeBeanName", named.getName());
+        Assertions.assertEquals("", descriptor.getName());
+        
+        // The name is interned
+        Assertions.assertSame("SomeBeanName", descriptor.withName(new String("SomeBeanName")).getName());
+    }
+    
+    /**
+     * Verify that qualifiers can be applied, without altering the original descriptor
+     */
+    @Test
+    public void testQualifiers() {
+        Assertions.assertEquals(Collections.emptyList(), descriptor.getQualifiers());
+        
+        Descriptor<SingleCtorBean> qualified = descriptor.withQualifier("b").withQualifier("a").withQualifier("b");
+        Assertions.assertEquals(Arrays.asList("a", "b"), qualified.getQualifiers());
+        Assertions.assertTrue(qualified.hasQualifier("a"));
+        Assertions.assertTrue(qualified.hasQualifier("b"));
+        Assertions.assertFalse(qualified.hasQualifier("c"));
+        Assertions.assertEquals(Collections.emptyList(), descriptor.getQualifiers());
     }
     
     /**
@@ -71,25 +95,41 @@ public class DescriptorTest extends AbstractUnitTest {
         // Must be the same type
         Assertions.assertFalse(new Descriptor<>(Double1TestRecipe.class).equals(new String("")));
         
-        // So long as it's assignable, it will pass
+        // Must be exactly the same class
         Assertions.assertTrue(new Descriptor<>(Double1TestRecipe.class).equals(new Descriptor<>(Double1TestRecipe.class)));
-        Assertions.assertTrue(new Descriptor<>(Double1TestRecipe.class).equals(new Descriptor<>(AbstractRecipe.class)));
-        Assertions.assertTrue(new Descriptor<>(Double1TestRecipe.class).equals(new Descriptor<>(Object.class)));
-        
-        // So long as it's assignable and the exact same name, it will pass
-        Assertions.assertTrue(new Descriptor<>(Double1TestRecipe.class).setName("qwerty").setName("qwerty").equals(new Descriptor<>(Double1TestRecipe.class).setName("qwerty")));
-        Assertions.assertTrue(new Descriptor<>(Double1TestRecipe.class).setName("qwerty").equals(new Descriptor<>(AbstractRecipe.class).setName("qwerty")));
-        Assertions.assertTrue(new Descriptor<>(Double1TestRecipe.class).setName("qwerty").equals(new Descriptor<>(Object.class).setName("qwerty")));
-        
-        // Assignable but with a different name fails
-        Assertions.assertFalse(new Descriptor<>(Double1TestRecipe.class).setName("qwerty").setName("qwerty").equals(new Descriptor<>(Double2TestRecipe.class).setName("qwerty")));
-        Assertions.assertFalse(new Descriptor<>(Double1TestRecipe.class).setName("qwerty").equals(new Descriptor<>(StringTestRecipe.class).setName("qwerty")));
-        Assertions.assertFalse(new Descriptor<>(Double1TestRecipe.class).setName("qwerty").equals(new Descriptor<>(IntTestRecipe.class).setName("qwerty")));
-        
-        // If it is not assignable, it will fail
+        Assertions.assertFalse(new Descriptor<>(Double1TestRecipe.class).equals(new Descriptor<>(AbstractRecipe.class)));
+        Assertions.assertFalse(new Descriptor<>(AbstractRecipe.class).equals(new Descriptor<>(Double1TestRecipe.class)));
         Assertions.assertFalse(new Descriptor<>(Double1TestRecipe.class).equals(new Descriptor<>(Double2TestRecipe.class)));
         Assertions.assertFalse(new Descriptor<>(Double1TestRecipe.class).equals(new Descriptor<>(StringTestRecipe.class)));
         Assertions.assertFalse(new Descriptor<>(Double1TestRecipe.class).equals(new Descriptor<>(IntTestRecipe.class)));
+        
+        // With exactly the same name
+        Assertions.assertTrue(new Descriptor<>(Double1TestRecipe.class).withName("qwerty").withName("qwerty").equals(new Descriptor<>(Double1TestRecipe.class).withName(new String("qwerty"))));
+        Assertions.assertFalse(new Descriptor<>(Double1TestRecipe.class).withName("qwerty").equals(new Descriptor<>(Double1TestRecipe.class).withName("asdf")));
+        Assertions.assertFalse(new Descriptor<>(Double1TestRecipe.class).withName("qwerty").equals(new Descriptor<>(Double1TestRecipe.class)));
+        Assertions.assertFalse(new Descriptor<>(Double1TestRecipe.class).withName("qwerty").equals(new Descriptor<>(Object.class).withName("qwerty")));
+        
+        // And exactly the same qualifiers, in any order
+        Assertions.assertTrue(new Descriptor<>(Double1TestRecipe.class).withQualifier("a").withQualifier("b").equals(new Descriptor<>(Double1TestRecipe.class).withQualifier("b").withQualifier("a")));
+        Assertions.assertFalse(new Descriptor<>(Double1TestRecipe.class).withQualifier("a").withQualifier("b").equals(new Descriptor<>(Double1TestRecipe.class).withQualifier("a")));
+        Assertions.assertFalse(new Descriptor<>(Double1TestRecipe.class).withQualifier("a").equals(new Descriptor<>(Double1TestRecipe.class).withQualifier("b")));
+    }
+    
+    /**
+     * Verify that equal descriptors have the same hash, such that they can be used as keys
+     */
+    @Test
+    public void testHashCode() {
+        Assertions.assertEquals(new Descriptor<>(Double1TestRecipe.class).hashCode(), new Descriptor<>(Double1TestRecipe.class).hashCode());
+        Assertions.assertEquals(new Descriptor<>(Double1TestRecipe.class).withName("qwerty").hashCode(), new Descriptor<>(Double1TestRecipe.class).withName(new String("qwerty")).hashCode());
+        Assertions.assertEquals(new Descriptor<>(Double1TestRecipe.class).withQualifier("a").withQualifier("b").hashCode(),
+                new Descriptor<>(Double1TestRecipe.class).withQualifier("b").withQualifier("a").hashCode());
+        
+        Map<Descriptor<?>, String> map = new HashMap<>();
+        map.put(new Descriptor<>(Double1TestRecipe.class).withName("qwerty"), "value");
+        Assertions.assertEquals("value", map.get(new Descriptor<>(Double1TestRecipe.class).withName("qwerty")));
+        Assertions.assertNull(map.get(new Descriptor<>(Double1TestRecipe.class)));
+        Assertions.assertNull(map.get(new Descriptor<>(Object.class).withName("qwerty")));
     }
     
     /**
@@ -99,14 +139,14 @@ public class DescriptorTest extends AbstractUnitTest {
     public void testMatchesNoName() {
         // Matches that pass, if no name and in the same hierarchy
         Descriptor<Double1TestRecipe> lhs = new Descriptor<>(Double1TestRecipe.class);
-        Assertions.assertTrue(lhs.matches(new Descriptor<>(Double1TestRecipe.class).setName("")));
+        Assertions.assertTrue(lhs.matches(new Descriptor<>(Double1TestRecipe.class).withName("")));
         Assertions.assertTrue(lhs.matches(new Descriptor<>(AbstractRecipe.class)));
-        Assertions.assertTrue(lhs.matches(new Descriptor<>(Object.class).setName("")));
+        Assertions.assertTrue(lhs.matches(new Descriptor<>(Object.class).withName("")));
         
         // Fails if a name is applied
-        Assertions.assertFalse(lhs.matches(new Descriptor<>(Double1TestRecipe.class).setName("abc123")));
-        Assertions.assertFalse(lhs.matches(new Descriptor<>(AbstractRecipe.class).setName("321cba")));
-        Assertions.assertFalse(lhs.matches(new Descriptor<>(Object.class).setName("qwerty")));
+        Assertions.assertFalse(lhs.matches(new Descriptor<>(Double1TestRecipe.class).withName("abc123")));
+        Assertions.assertFalse(lhs.matches(new Descriptor<>(AbstractRecipe.class).withName("321cba")));
+        Assertions.assertFalse(lhs.matches(new Descriptor<>(Object.class).withName("qwerty")));
         
         // Fails if a different type is requested
         Assertions.assertFalse(lhs.matches(new Descriptor<>(Double2TestRecipe.class)));
@@ -120,22 +160,22 @@ public class DescriptorTest extends AbstractUnitTest {
     @Test
     public void testMatchesWithName() {
         // Matches that pass, if no name and in the same hierarchy
-        Descriptor<Double1TestRecipe> lhs = new Descriptor<>(Double1TestRecipe.class).setName("abc123");
+        Descriptor<Double1TestRecipe> lhs = new Descriptor<>(Double1TestRecipe.class).withName("abc123");
         
         // Pass if the exact name is applied
-        Assertions.assertTrue(lhs.matches(new Descriptor<>(Double1TestRecipe.class).setName("abc123")));
-        Assertions.assertTrue(lhs.matches(new Descriptor<>(AbstractRecipe.class).setName("abc123")));
-        Assertions.assertTrue(lhs.matches(new Descriptor<>(Object.class).setName("abc123")));
+        Assertions.assertTrue(lhs.matches(new Descriptor<>(Double1TestRecipe.class).withName("abc123")));
+        Assertions.assertTrue(lhs.matches(new Descriptor<>(AbstractRecipe.class).withName("abc123")));
+        Assertions.assertTrue(lhs.matches(new Descriptor<>(Object.class).withName("abc123")));
         
         // Pass if no name is applied
-        Assertions.assertTrue(lhs.matches(new Descriptor<>(Double1TestRecipe.class).setName("")));
+        Assertions.assertTrue(lhs.matches(new Descriptor<>(Double1TestRecipe.class).withName("")));
         Assertions.assertTrue(lhs.matches(new Descriptor<>(AbstractRecipe.class)));
-        Assertions.assertTrue(lhs.matches(new Descriptor<>(Object.class).setName("")));
+        Assertions.assertTrue(lhs.matches(new Descriptor<>(Object.class).withName("")));
         
         // Fails if a different name is applied
-        Assertions.assertFalse(lhs.matches(new Descriptor<>(Double1TestRecipe.class).setName("ABC123")));
-        Assertions.assertFalse(lhs.matches(new Descriptor<>(AbstractRecipe.class).setName("321cba")));
-        Assertions.assertFalse(lhs.matches(new Descriptor<>(Object.class).setName("qwerty")));
+        Assertions.assertFalse(lhs.matches(new Descriptor<>(Double1TestRecipe.class).withName("ABC123")));
+        Assertions.assertFalse(lhs.matches(new Descriptor<>(AbstractRecipe.class).withName("321cba")));
+        Assertions.assertFalse(lhs.matches(new Descriptor<>(Object.class).withName("qwerty")));
         
         // Fails if a different type is requested
         Assertions.assertFalse(lhs.matches(new Descriptor<>(Double2TestRecipe.class)));
@@ -143,6 +183,25 @@ public class DescriptorTest extends AbstractUnitTest {
         Assertions.assertFalse(lhs.matches(new Descriptor<>(ArrayList.class)));
     }
     
+    /**
+     * Verify that the matching is done properly
+     */
+    @Test
+    public void testMatchesWithQualifiers() {
+        Descriptor<Double1TestRecipe> lhs = new Descriptor<>(Double1TestRecipe.class).withName("abc123").withQualifier("a").withQualifier("b");
+        
+        // Pass if all requested qualifiers are present
+        Assertions.assertTrue(lhs.matches(new Descriptor<>(Double1TestRecipe.class)));
+        Assertions.assertTrue(lhs.matches(new Descriptor<>(Double1TestRecipe.class).withQualifier("a")));
+        Assertions.assertTrue(lhs.matches(new Descriptor<>(AbstractRecipe.class).withQualifier("b").withName("abc123")));
+        Assertions.assertTrue(lhs.matches(new Descriptor<>(Object.class).withQualifier("b").withQualifier("a")));
+        
+        // Fails if any requested qualifier is missing
+        Assertions.assertFalse(lhs.matches(new Descriptor<>(Double1TestRecipe.class).withQualifier("c")));
+        Assertions.assertFalse(lhs.matches(new Descriptor<>(Double1TestRecipe.class).withQualifier("a").withQualifier("c")));
+        Assertions.assertFalse(new Descriptor<>(Double1TestRecipe.class).matches(new Descriptor<>(Double1TestRecipe.class).withQualifier("a")));
+    }
+    
     /**
      * Verify that the toString provides the full details of the bean description
      */
@@ -153,7 +212,75 @@ public class DescriptorTest extends AbstractUnitTest {
         Assertions.assertEquals("Bean type " + StringTestRecipe.class.getSimpleName(), new Descriptor<>(StringTestRecipe.class).toString());
         
         // With a concrete name
-        Assertions.assertEquals("Bean type " + Double1TestRecipe.class.getSimpleName() + " named \"abc123\"", new Descriptor<>(Double1TestRecipe.class).setName("abc123").toString());
-        Assertions.assertEquals("Bean type " + StringTestRecipe.class.getSimpleName() + " named \"qwerty\"", new Descriptor<>(StringTestRecipe.class).setName("qwerty").toString());
+        Assertions.assertEquals("Bean type " + Double1TestRecipe.class.getSimpleName() + " named \"abc123\"", new Descriptor<>(Double1TestRecipe.class).withName("abc123").toString());
+        Assertions.assertEquals("Bean type " + StringTestRecipe.class.getSimpleName() + " named \"qwerty\"", new Descriptor<>(StringTestRecipe.class).withName("qwerty").toString());
+        
+        // With qualifiers
+        Assertions.assertEquals("Bean type " + StringTestRecipe.class.getSimpleName() + " named \"qwerty\" qualified by [a, b]",
+                new Descriptor<>(StringTestRecipe.class).withQualifier("b").withName("qwerty").withQualifier("a").toString());
+    }
+
+    /**
+     * Verify that an enum id is applied as a qualifier and can be retrieved
+     */
+    @Test
+    public void testIds() {
+        Assertions.assertNull(descriptor.getId(TestId.class));
+        
+        Descriptor<SingleCtorBean> first = descriptor.withId(TestId.FIRST);
+        Assertions.assertNotSame(descriptor, first);
+        Assertions.assertNull(descriptor.getId(TestId.class));
+        Assertions.assertEquals(TestId.FIRST, first.getId(TestId.class));
+        Assertions.assertTrue(first.hasQualifier(TestId.class.getName() + ".FIRST"));
+        Assertions.assertEquals(Arrays.asList(TestId.FIRST.getId()), first.getQualifiers());
+        
+        // Applying the same id again changes nothing
+        Assertions.assertSame(first, first.withId(TestId.FIRST));
+        
+        // Equal to the same id applied in any other way
+        Assertions.assertEquals(first, new Descriptor<>(SingleCtorBean.class).withId(TestId.FIRST));
+        Assertions.assertEquals(first.hashCode(), new Descriptor<>(SingleCtorBean.class).withId(TestId.FIRST).hashCode());
+        Assertions.assertEquals(first, descriptor.withQualifier(TestId.FIRST.getId()));
+        Assertions.assertNotEquals(first, descriptor.withId(TestId.SECOND));
+        
+        // Id retained when the name or further qualifiers are applied
+        Assertions.assertEquals(TestId.FIRST, first.withName("abc").withQualifier("q").getId(TestId.class));
+        
+        // Only a single id from the same enum
+        Assertions.assertThrows(IllegalArgumentException.class, () -> first.withId(TestId.SECOND));
+    }
+
+    /**
+     * Verify that type arguments are applied to the type key, and distinguish otherwise identical descriptions
+     */
+    @Test
+    public void testTypeArguments() {
+        Assertions.assertEquals(SingleCtorBean.class.getName(), descriptor.getTypeKey());
+        
+        Descriptor<SingleCtorBean> str = descriptor.withTypeArguments("java.lang.String");
+        Assertions.assertEquals(SingleCtorBean.class.getName() + "<java.lang.String>", str.getTypeKey());
+        Assertions.assertEquals(SingleCtorBean.class.getName(), descriptor.getTypeKey());
+        Assertions.assertEquals(SingleCtorBean.class.getName() + "<java.lang.String,java.util.List<java.lang.Integer>>",
+                descriptor.withTypeArguments("java.lang.String", "java.util.List<java.lang.Integer>").getTypeKey());
+        
+        // Equality
+        Assertions.assertEquals(str, new Descriptor<>(SingleCtorBean.class).withTypeArguments("java.lang.String"));
+        Assertions.assertEquals(str.hashCode(), new Descriptor<>(SingleCtorBean.class).withTypeArguments("java.lang.String").hashCode());
+        Assertions.assertEquals(descriptor.withTypeArguments("java.lang.String", "java.lang.Integer"), descriptor.withTypeArguments("java.lang.String, java.lang.Integer"));
+        Assertions.assertEquals(descriptor, str.withTypeArguments());
+        Assertions.assertNotEquals(descriptor, str);
+        Assertions.assertNotEquals(str, descriptor.withTypeArguments("java.lang.Integer"));
+        
+        // Retained when the name or qualifiers are applied
+        Assertions.assertEquals(str.getTypeKey(), str.withName("abc").withQualifier("q").getTypeKey());
+        
+        // Matching of the same class requires the same type arguments, the raw type matches all
+        Assertions.assertTrue(str.matches(descriptor));
+        Assertions.assertTrue(str.matches(new Descriptor<>(SingleCtorBean.class).withTypeArguments("java.lang.String")));
+        Assertions.assertFalse(str.matches(descriptor.withTypeArguments("java.lang.Integer")));
+        Assertions.assertFalse(descriptor.matches(str));
+        Assertions.assertTrue(str.matches(new Descriptor<>(Object.class)));
+        
+        Assertions.assertEquals("Bean type " + SingleCtorBean.class.getSimpleName() + "<java.lang.String> named \"abc\"", str.withName("abc").toString());
     }
 }
@@ -15,6 +15,8 @@
  */
 package tendril.bean.recipe;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -43,7 +45,8 @@ public class FactoryRecipeTest extends AbstractUnitTest {
         recipe = new FactoryRecipe<>(mockEngine, SingleCtorBean.class) {
 
             @Override
-            protected void setupDescriptor(Descriptor<SingleCtorBean> descriptor) {
+            protected Descriptor<SingleCtorBean> setupDescriptor(Descriptor<SingleCtorBean> descriptor) {
+                return descriptor;
             }
 
             @Override
@@ -64,4 +67,24 @@ public class FactoryRecipeTest extends AbstractUnitTest {
         Assertions.assertTrue(bean != recipe.get());
         Assertions.assertTrue(bean != recipe.get());
     }
+
+    /**
+     * Verify that a batch of new instances can be created
+     */
+    @Test
+    public void testGetBeans() {
+        Assertions.assertTrue(recipe.getBeans(0).isEmpty());
+        Assertions.assertNull(recipe.getMetrics());
+        
+        List<SingleCtorBean> beans = recipe.getBeans(3);
+        Assertions.assertEquals(3, beans.size());
+        Assertions.assertTrue(beans.get(0) != beans.get(1));
+        Assertions.assertTrue(beans.get(0) != beans.get(2));
+        Assertions.assertTrue(beans.get(1) != beans.get(2));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> beans.add(new SingleCtorBean()));
+        Assertions.assertEquals(3, recipe.getMetrics().getBuilds());
+        
+        recipe.get();
+        Assertions.assertEquals(4, recipe.getMetrics().getBuilds());
+    }
 }
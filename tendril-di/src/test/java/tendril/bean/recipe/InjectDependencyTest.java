@@ -15,12 +15,15 @@
  */
 package tendril.bean.recipe;
 
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 
+import tendril.bean.Provider;
 import tendril.context.Engine;
 import tendril.test.AbstractUnitTest;
 import tendril.test.bean.HiddenCtorBean;
@@ -42,6 +45,8 @@ public class InjectDependencyTest extends AbstractUnitTest {
     private SingleCtorBean mockBean;
     @Mock
     private HiddenCtorBean mockDependency;
+    @Mock
+    private Provider<HiddenCtorBean> mockProvider;
 
     // Instance to test
     private InjectDependency<SingleCtorBean, HiddenCtorBean> dep;
@@ -66,5 +71,36 @@ public class InjectDependencyTest extends AbstractUnitTest {
         verify(mockEngine).getBean(mockDescriptor);
         verify(mockApplicator).apply(mockBean, mockDependency);
     }
-
+    
+    /**
+     * Verify that once linked the dependency is retrieved via the link rather than looked up via the engine
+     */
+    @Test
+    public void testConsumeLinked() {
+        when(mockEngine.getProvider(mockDescriptor)).thenReturn(mockProvider);
+        when(mockProvider.get()).thenReturn(mockDependency);
+        
+        dep.link(mockEngine);
+        verify(mockEngine).getProvider(mockDescriptor);
+        
+        dep.inject(mockBean, mockEngine);
+        dep.inject(mockBean, mockEngine);
+        verify(mockProvider, times(2)).get();
+        verify(mockApplicator, times(2)).apply(mockBean, mockDependency);
+    }
+    
+    /**
+     * Verify that the dependency is retrieved from the provider to which it is linked
+     */
+    @Test
+    public void testConsumeLinkedProvider() {
+        when(mockProvider.get()).thenReturn(mockDependency);
+        
+        dep.link(mockProvider);
+        Assertions.assertEquals(mockDescriptor, dep.getDescriptor());
+        
+        dep.inject(mockBean, mockEngine);
+        verify(mockProvider).get();
+        verify(mockApplicator).apply(mockBean, mockDependency);
+    }
 }
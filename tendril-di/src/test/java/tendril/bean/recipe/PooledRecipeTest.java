@@ -0,0 +1,231 @@
+/*
+ * Copyright 2025 Jaroslav Bosak
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/license/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tendril.bean.recipe;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import tendril.context.Engine;
+import tendril.test.AbstractUnitTest;
+
+/**
+ * Test case for the {@link PooledRecipe}
+ */
+public class PooledRecipeTest extends AbstractUnitTest {
+    
+    /**
+     * Bean which tracks when it is reset and closed
+     */
+    private static class PooledBean implements AutoCloseable {
+        /** The number of times the bean has been reset */
+        private int resets = 0;
+        /** Flag for whether the bean has been closed */
+        private boolean closed = false;
+
+        /**
+         * @see java.lang.AutoCloseable#close()
+         */
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+    
+    /**
+     * Recipe for the pooled test bean
+     */
+    private class TestPooledRecipe extends PooledRecipe<PooledBean> {
+        /** Flag for whether the reset is to fail */
+        private boolean failReset = false;
+        
+        /**
+         * CTOR
+         * 
+         * @param maxIdle int the maximum number of idle instances
+         */
+        private TestPooledRecipe(int maxIdle) {
+            super(mockEngine, PooledBean.class, maxIdle);
+        }
+
+        /**
+         * @see tendril.bean.recipe.AbstractRecipe#setupDescriptor(tendril.bean.recipe.Descriptor)
+         */
+        @Override
+        protected Descriptor<PooledBean> setupDescriptor(Descriptor<PooledBean> descriptor) {
+            return descriptor;
+        }
+
+        /**
+         * @see tendril.bean.recipe.AbstractRecipe#createInstance(tendril.context.Engine)
+         */
+        @Override
+        protected PooledBean createInstance(Engine engine) {
+            return new PooledBean();
+        }
+        
+        /**
+         * @see tendril.bean.recipe.PooledRecipe#reset(java.lang.Object)
+         */
+        @Override
+        protected void reset(PooledBean bean) {
+            if (failReset)
+                throw new IllegalStateException();
+            bean.resets++;
+        }
+    }
+    
+    // Mocks to use for testing
+    @Mock
+    private Engine mockEngine;
+
+    /**
+     * @see tendril.test.AbstractUnitTest#prepareTest()
+     */
+    @Override
+    protected void prepareTest() {
+    }
+
+    /**
+     * Verify that a new instance is created when there are no idle instances
+     */
+    @Test
+    public void testCreateWhenEmpty() {
+        TestPooledRecipe recipe = new TestPooledRecipe(2);
+        PooledBean first = recipe.get();
+        PooledBean second = recipe.get();
+        Assertions.assertNotNull(first);
+        Assertions.assertNotNull(second);
+        Assertions.assertTrue(first != second);
+        Assertions.assertEquals(0, recipe.getIdleCount());
+        Assertions.assertEquals(2, recipe.getMetrics().getBuilds());
+    }
+
+    /**
+     * Verify that a returned instance is reset and reused
+     */
+    @Test
+    public void testReuseReleased() {
+        TestPooledRecipe recipe = new TestPooledRecipe(2);
+        PooledBean bean = recipe.get();
+        recipe.release(bean);
+        Assertions.assertEquals(1, bean.resets);
+        Assertions.assertEquals(1, recipe.getIdleCount());
+        
+        Assertions.assertTrue(bean == recipe.get());
+        Assertions.assertEquals(0, recipe.getIdleCount());
+        Assertions.assertEquals(1, recipe.getMetrics().getBuilds());
+        Assertions.assertFalse(bean.closed);
+    }
+
+    /**
+     * Verify that instances returned to a full pool are discarded
+     */
+    @Test
+    public void testMaxIdle() {
+        TestPooledRecipe recipe = new TestPooledRecipe(2);
+        List<PooledBean> beans = new ArrayList<>();
+        for (int i = 0; i < 3; i++)
+            beans.add(recipe.get());
+        for (PooledBean b: beans)
+            recipe.release(b);
+        
+        Assertions.assertEquals(2, recipe.getIdleCount());
+        Assertions.assertFalse(beans.get(0).closed);
+        Assertions.assertFalse(beans.get(1).closed);
+        Assertions.assertTrue(beans.get(2).closed);
+        
+        // Nothing is retained without idle space
+        TestPooledRecipe unpooled = new TestPooledRecipe(0);
+        PooledBean bean = unpooled.get();
+        unpooled.release(bean);
+        Assertions.assertEquals(0, unpooled.getIdleCount());
+        Assertions.assertTrue(bean.closed);
+    }
+
+    /**
+     * Verify that instances which fail to reset are discarded
+     */
+    @Test
+    public void testResetFailure() {
+        TestPooledRecipe recipe = new TestPooledRecipe(2);
+        recipe.failReset = true;
+        PooledBean bean = recipe.get();
+        recipe.release(bean);
+        Assertions.assertEquals(0, recipe.getIdleCount());
+        Assertions.assertTrue(bean.closed);
+        Assertions.assertTrue(bean != recipe.get());
+    }
+
+    /**
+     * Verify that returning the same instance twice does not place it in the pool twice, such that it is never handed out to two borrowers at the same time
+     */
+    @Test
+    public void testDoubleRelease() {
+        TestPooledRecipe recipe = new TestPooledRecipe(2);
+        PooledBean bean = recipe.get();
+        recipe.release(bean);
+        recipe.release(bean);
+        Assertions.assertEquals(1, bean.resets);
+        Assertions.assertEquals(1, recipe.getIdleCount());
+        
+        Assertions.assertTrue(bean == recipe.get());
+        Assertions.assertTrue(bean != recipe.get());
+        Assertions.assertEquals(2, recipe.getMetrics().getBuilds());
+    }
+
+    /**
+     * Verify that an instance which was not borrowed from the pool is not accepted into it
+     */
+    @Test
+    public void testReleaseNotBorrowed() {
+        TestPooledRecipe recipe = new TestPooledRecipe(2);
+        PooledBean bean = new PooledBean();
+        recipe.release(bean);
+        Assertions.assertEquals(0, bean.resets);
+        Assertions.assertEquals(0, recipe.getIdleCount());
+        Assertions.assertFalse(bean.closed);
+        Assertions.assertTrue(bean != recipe.get());
+    }
+
+    /**
+     * Verify that the pool never exceeds its maximum when instances are borrowed and returned concurrently
+     * 
+     * @throws InterruptedException not expected
+     */
+    @Test
+    public void testConcurrentBorrowAndReturn() throws InterruptedException {
+        TestPooledRecipe recipe = new TestPooledRecipe(4);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    PooledBean bean = recipe.get();
+                    Assertions.assertFalse(bean.closed);
+                    recipe.release(bean);
+                }
+            }));
+        }
+        for (Thread t: threads)
+            t.join();
+        
+        Assertions.assertTrue(recipe.getIdleCount() <= 4);
+        Assertions.assertTrue(recipe.getIdleCount() > 0);
+    }
+}
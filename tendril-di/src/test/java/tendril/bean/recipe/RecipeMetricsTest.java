@@ -0,0 +1,93 @@
+/*
+ * Copyright 2025 Jaroslav Bosak
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/license/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tendril.bean.recipe;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import tendril.test.AbstractUnitTest;
+
+/**
+ * Test case for the {@link RecipeMetrics}
+ */
+public class RecipeMetricsTest extends AbstractUnitTest {
+    
+    // Instance to test
+    private RecipeMetrics metrics;
+
+    /**
+     * @see tendril.test.AbstractUnitTest#prepareTest()
+     */
+    @Override
+    protected void prepareTest() {
+        metrics = new RecipeMetrics();
+    }
+
+    /**
+     * Verify that the latencies are placed in the appropriate buckets
+     */
+    @Test
+    public void testBuckets() {
+        Assertions.assertEquals(0, RecipeMetrics.getBucket(0));
+        Assertions.assertEquals(0, RecipeMetrics.getBucket(999));
+        Assertions.assertEquals(1, RecipeMetrics.getBucket(1_000));
+        Assertions.assertEquals(1, RecipeMetrics.getBucket(1_999));
+        Assertions.assertEquals(2, RecipeMetrics.getBucket(2_000));
+        Assertions.assertEquals(2, RecipeMetrics.getBucket(3_999));
+        Assertions.assertEquals(11, RecipeMetrics.getBucket(1_500_000));
+        Assertions.assertEquals(RecipeMetrics.BUCKETS - 1, RecipeMetrics.getBucket(Long.MAX_VALUE));
+
+        for (int i = 0; i < RecipeMetrics.BUCKETS - 1; i++) {
+            long bound = RecipeMetrics.getBucketUpperBoundMicros(i);
+            Assertions.assertEquals(i, RecipeMetrics.getBucket(bound * 1_000 - 1));
+            Assertions.assertEquals(i + 1, RecipeMetrics.getBucket(bound * 1_000));
+        }
+        Assertions.assertEquals(Long.MAX_VALUE, RecipeMetrics.getBucketUpperBoundMicros(RecipeMetrics.BUCKETS - 1));
+    }
+
+    /**
+     * Verify that the builds are recorded
+     */
+    @Test
+    public void testRecordBuild() {
+        Assertions.assertEquals(0, metrics.getBuilds());
+        
+        metrics.recordBuild(500);
+        metrics.recordBuild(1_500);
+        metrics.recordBuild(1_600);
+        
+        Assertions.assertEquals(3, metrics.getBuilds());
+        Assertions.assertEquals(3_600, metrics.getTotalNanos());
+        Assertions.assertEquals(1, metrics.getLatencyCount(0));
+        Assertions.assertEquals(2, metrics.getLatencyCount(1));
+        Assertions.assertEquals(0, metrics.getLatencyCount(2));
+    }
+
+    /**
+     * Verify that batches of builds are recorded at their average latency
+     */
+    @Test
+    public void testRecordBuilds() {
+        metrics.recordBuilds(4, 2_000);
+        metrics.recordBuild(1_500);
+        
+        Assertions.assertEquals(5, metrics.getBuilds());
+        Assertions.assertEquals(3_500, metrics.getTotalNanos());
+        Assertions.assertEquals(4, metrics.getLatencyCount(0));
+        Assertions.assertEquals(1, metrics.getLatencyCount(1));
+        Assertions.assertEquals(0, metrics.getLatencyCount(2));
+    }
+}
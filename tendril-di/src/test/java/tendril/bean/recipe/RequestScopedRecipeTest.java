@@ -0,0 +1,161 @@
+/*
+ * Copyright 2025 Jaroslav Bosak
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/license/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tendril.bean.recipe;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import tendril.BeanCreationException;
+import tendril.context.ApplicationContext;
+import tendril.context.Engine;
+import tendril.test.AbstractUnitTest;
+import tendril.test.bean.SingleCtorBean;
+
+/**
+ * Test case for the {@link RequestScopedRecipe}
+ */
+public class RequestScopedRecipeTest extends AbstractUnitTest {
+    
+    /**
+     * Bean which tracks when it is closed
+     */
+    private static class CloseableBean implements AutoCloseable {
+        /** Flag for whether the bean has been closed */
+        private boolean closed = false;
+
+        /**
+         * @see java.lang.AutoCloseable#close()
+         */
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+    
+    // Mocks to use for testing
+    @Mock
+    private Engine mockEngine;
+    
+    // Instance to test
+    private RequestScopedRecipe<SingleCtorBean> recipe;
+    private ApplicationContext ctx;
+
+    /**
+     * @see tendril.test.AbstractUnitTest#prepareTest()
+     */
+    @Override
+    protected void prepareTest() {
+        recipe = new RequestScopedRecipe<>(mockEngine, SingleCtorBean.class) {
+
+            @Override
+            protected Descriptor<SingleCtorBean> setupDescriptor(Descriptor<SingleCtorBean> descriptor) {
+                return descriptor;
+            }
+
+            @Override
+            protected SingleCtorBean createInstance(Engine engine) {
+                return new SingleCtorBean();
+            }
+        };
+        ctx = new ApplicationContext();
+    }
+
+    /**
+     * Verify that the bean cannot be retrieved outside of a request scope
+     */
+    @Test
+    public void testOutsideScope() {
+        Assertions.assertThrows(BeanCreationException.class, () -> recipe.get());
+    }
+
+    /**
+     * Verify that the same instance is always returned within a scope
+     */
+    @Test
+    public void testSameScopeInstance() {
+        ctx.runInRequestScope(() -> {
+            SingleCtorBean bean = recipe.get();
+            Assertions.assertTrue(bean == recipe.get());
+            Assertions.assertTrue(bean == recipe.get());
+        });
+    }
+
+    /**
+     * Verify that each scope receives its own instance, with the outer scope being restored when a nested scope ends
+     * 
+     * @throws Exception not expected
+     */
+    @Test
+    public void testInstancePerScope() throws Exception {
+        SingleCtorBean first = ctx.callInRequestScope(() -> recipe.get());
+        SingleCtorBean second = ctx.callInRequestScope(() -> recipe.get());
+        Assertions.assertNotNull(first);
+        Assertions.assertNotNull(second);
+        Assertions.assertTrue(first != second);
+        
+        ctx.runInRequestScope(() -> {
+            SingleCtorBean outer = recipe.get();
+            ctx.runInRequestScope(() -> Assertions.assertTrue(outer != recipe.get()));
+            Assertions.assertTrue(outer == recipe.get());
+        });
+        Assertions.assertThrows(BeanCreationException.class, () -> recipe.get());
+    }
+
+    /**
+     * Verify that threads started within a scope share its instance
+     * 
+     * @throws Exception not expected
+     */
+    @Test
+    public void testInheritedByChildThread() throws Exception {
+        ctx.callInRequestScope(() -> {
+            SingleCtorBean bean = recipe.get();
+            AtomicReference<SingleCtorBean> childBean = new AtomicReference<>();
+            Thread.ofVirtual().start(() -> childBean.set(recipe.get())).join();
+            Assertions.assertTrue(bean == childBean.get());
+            return null;
+        });
+    }
+
+    /**
+     * Verify that closeable instances are closed once their scope has ended
+     */
+    @Test
+    public void testCloseOnScopeEnd() {
+        RequestScopedRecipe<CloseableBean> closeableRecipe = new RequestScopedRecipe<>(mockEngine, CloseableBean.class) {
+
+            @Override
+            protected Descriptor<CloseableBean> setupDescriptor(Descriptor<CloseableBean> descriptor) {
+                return descriptor;
+            }
+
+            @Override
+            protected CloseableBean createInstance(Engine engine) {
+                return new CloseableBean();
+            }
+        };
+        
+        AtomicReference<CloseableBean> bean = new AtomicReference<>();
+        ctx.runInRequestScope(() -> {
+            bean.set(closeableRecipe.get());
+            Assertions.assertFalse(bean.get().closed);
+        });
+        Assertions.assertTrue(bean.get().closed);
+    }
+}
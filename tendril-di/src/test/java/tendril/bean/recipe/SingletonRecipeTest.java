@@ -15,10 +15,19 @@
  */
 package tendril.bean.recipe;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 
+import tendril.BeanCreationException;
 import tendril.context.Engine;
 import tendril.test.AbstractUnitTest;
 import tendril.test.bean.SingleCtorBean;
@@ -32,6 +41,9 @@ public class SingletonRecipeTest extends AbstractUnitTest {
     @Mock
     private Engine mockEngine;
     
+    // Number of times that the bean was created
+    private final AtomicInteger timesCreated = new AtomicInteger();
+    
     // Instance to test
     private SingletonRecipe<SingleCtorBean> recipe;
 
@@ -40,14 +52,17 @@ public class SingletonRecipeTest extends AbstractUnitTest {
      */
     @Override
     protected void prepareTest() {
+        timesCreated.set(0);
         recipe = new SingletonRecipe<>(mockEngine, SingleCtorBean.class) {
 
             @Override
-            protected void setupDescriptor(Descriptor<SingleCtorBean> descriptor) {
+            protected Descriptor<SingleCtorBean> setupDescriptor(Descriptor<SingleCtorBean> descriptor) {
+                return descriptor;
             }
 
             @Override
             protected SingleCtorBean createInstance(Engine engine) {
+                timesCreated.incrementAndGet();
                 return new SingleCtorBean();
             }
         };
@@ -63,5 +78,60 @@ public class SingletonRecipeTest extends AbstractUnitTest {
         Assertions.assertTrue(bean == recipe.get());
         Assertions.assertTrue(bean == recipe.get());
         Assertions.assertTrue(bean == recipe.get());
+        Assertions.assertEquals(1, timesCreated.get());
+    }
+    
+    /**
+     * Verify that only a single instance is created when it is first accessed from multiple threads at once
+     */
+    @Test
+    public void testSingletonInstanceConcurrentAccess() throws Exception {
+        final int numThreads = 32;
+        CountDownLatch startLatch = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+        try {
+            List<Future<SingleCtorBean>> futures = new ArrayList<>();
+            for (int i = 0; i < numThreads; i++) {
+                futures.add(executor.submit(() -> {
+                    startLatch.await();
+                    return recipe.get();
+                }));
+            }
+            startLatch.countDown();
+            
+            SingleCtorBean bean = recipe.get();
+            for (Future<SingleCtorBean> f: futures)
+                Assertions.assertTrue(bean == f.get());
+        } finally {
+            executor.shutdownNow();
+        }
+        Assertions.assertEquals(1, timesCreated.get());
+    }
+    
+    /**
+     * Verify that a bean which requires itself for its creation fails rather than recursing indefinitely
+     */
+    @Test
+    public void testCircularCreation() {
+        SingletonRecipe<SingleCtorBean> circular = new SingletonRecipe<>(mockEngine, SingleCtorBean.class) {
+
+            @Override
+            protected Descriptor<SingleCtorBean> setupDescriptor(Descriptor<SingleCtorBean> descriptor) {
+                return descriptor;
+            }
+
+            @Override
+            protected SingleCtorBean createInstance(Engine engine) {
+                timesCreated.incrementAndGet();
+                get();
+                return new SingleCtorBean();
+            }
+        };
+        
+        Assertions.assertThrows(BeanCreationException.class, () -> circular.get());
+        Assertions.assertEquals(1, timesCreated.get());
+        // The failure must not leave the recipe locked or with a partial bean
+        Assertions.assertThrows(BeanCreationException.class, () -> circular.get());
+        Assertions.assertEquals(2, timesCreated.get());
     }
 }
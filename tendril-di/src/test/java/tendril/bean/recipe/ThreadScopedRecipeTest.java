@@ -0,0 +1,149 @@
+/*
+ * Copyright 2025 Jaroslav Bosak
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/license/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tendril.bean.recipe;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import tendril.context.Engine;
+import tendril.test.AbstractUnitTest;
+import tendril.test.bean.SingleCtorBean;
+
+/**
+ * Test case for the {@link ThreadScopedRecipe}
+ */
+public class ThreadScopedRecipeTest extends AbstractUnitTest {
+    
+    /**
+     * Bean which tracks when it is closed
+     */
+    private static class CloseableBean implements AutoCloseable {
+        /** Latch which is released when the bean is closed */
+        private final CountDownLatch closed = new CountDownLatch(1);
+
+        /**
+         * @see java.lang.AutoCloseable#close()
+         */
+        @Override
+        public void close() {
+            closed.countDown();
+        }
+    }
+    
+    // Mocks to use for testing
+    @Mock
+    private Engine mockEngine;
+    
+    // Instance to test
+    private ThreadScopedRecipe<SingleCtorBean> recipe;
+
+    /**
+     * @see tendril.test.AbstractUnitTest#prepareTest()
+     */
+    @Override
+    protected void prepareTest() {
+        recipe = new ThreadScopedRecipe<>(mockEngine, SingleCtorBean.class) {
+
+            @Override
+            protected Descriptor<SingleCtorBean> setupDescriptor(Descriptor<SingleCtorBean> descriptor) {
+                return descriptor;
+            }
+
+            @Override
+            protected SingleCtorBean createInstance(Engine engine) {
+                return new SingleCtorBean();
+            }
+        };
+    }
+
+    /**
+     * Verify that the same instance is always returned within a thread
+     */
+    @Test
+    public void testSameThreadInstance() {
+        SingleCtorBean bean = recipe.get();
+        Assertions.assertTrue(bean == recipe.get());
+        Assertions.assertTrue(bean == recipe.get());
+        Assertions.assertTrue(bean == recipe.get());
+    }
+
+    /**
+     * Verify that each thread (platform or virtual) receives its own instance
+     * 
+     * @throws InterruptedException not expected
+     */
+    @Test
+    public void testInstancePerThread() throws InterruptedException {
+        SingleCtorBean bean = recipe.get();
+        
+        AtomicReference<SingleCtorBean> platformBean = new AtomicReference<>();
+        Thread platform = Thread.ofPlatform().start(() -> {
+            platformBean.set(recipe.get());
+            Assertions.assertTrue(platformBean.get() == recipe.get());
+        });
+        AtomicReference<SingleCtorBean> virtualBean = new AtomicReference<>();
+        Thread virtual = Thread.ofVirtual().start(() -> {
+            virtualBean.set(recipe.get());
+            Assertions.assertTrue(virtualBean.get() == recipe.get());
+        });
+        platform.join();
+        virtual.join();
+        
+        Assertions.assertNotNull(platformBean.get());
+        Assertions.assertNotNull(virtualBean.get());
+        Assertions.assertTrue(bean != platformBean.get());
+        Assertions.assertTrue(bean != virtualBean.get());
+        Assertions.assertTrue(platformBean.get() != virtualBean.get());
+        Assertions.assertTrue(bean == recipe.get());
+    }
+
+    /**
+     * Verify that closeable instances are closed once their thread has finished
+     * 
+     * @throws InterruptedException not expected
+     */
+    @Test
+    public void testCloseOnThreadFinished() throws InterruptedException {
+        ThreadScopedRecipe<CloseableBean> closeableRecipe = new ThreadScopedRecipe<>(mockEngine, CloseableBean.class) {
+
+            @Override
+            protected Descriptor<CloseableBean> setupDescriptor(Descriptor<CloseableBean> descriptor) {
+                return descriptor;
+            }
+
+            @Override
+            protected CloseableBean createInstance(Engine engine) {
+                return new CloseableBean();
+            }
+        };
+        
+        AtomicReference<CloseableBean> bean = new AtomicReference<>();
+        Thread thread = Thread.ofPlatform().start(() -> bean.set(closeableRecipe.get()));
+        thread.join();
+        Assertions.assertEquals(1, bean.get().closed.getCount());
+        
+        // Closed once the finished thread has been collected
+        thread = null;
+        for (int i = 0; i < 50 && !bean.get().closed.await(100, TimeUnit.MILLISECONDS); i++)
+            System.gc();
+        Assertions.assertEquals(0, bean.get().closed.getCount());
+    }
+}
@@ -17,6 +17,10 @@ package tendril.context;
 
 import static org.mockito.Mockito.verify;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -62,5 +66,48 @@ public class ApplicationContextTest extends AbstractUnitTest {
         
         verify(mockEngine).init();
     }
-
+    
+    /**
+     * Verify that the singletons are eagerly created if requested
+     */
+    @Test
+    public void testStartEager() {
+        try (MockedStatic<RunnerFile> runnerFile = Mockito.mockStatic(RunnerFile.class)) {
+            runnerFile.when(RunnerFile::read).thenReturn(TestTendrilRunnerRecipe.class.getName());
+            ctx.setEagerInit(true).start();
+        }
+        
+        verify(mockEngine).init();
+        verify(mockEngine).initSingletons();
+    }
+    
+    /**
+     * Verify that the startup report is written if requested
+     * 
+     * @throws IOException not expected
+     */
+    @Test
+    public void testStartWithReport() throws IOException {
+        Path report = Files.createTempFile("startup", ".json");
+        
+        try (MockedStatic<RunnerFile> runnerFile = Mockito.mockStatic(RunnerFile.class)) {
+            runnerFile.when(RunnerFile::read).thenReturn(TestTendrilRunnerRecipe.class.getName());
+            ctx.setStartupReport(report).start();
+            Assertions.assertFalse(StartupProfiler.isActive());
+            Assertions.assertTrue(Files.readString(report).contains("\"criticalPath\""));
+        } finally {
+            Files.delete(report);
+        }
+        
+        verify(mockEngine).init();
+    }
+    
+    /**
+     * Verify that the metrics are retrieved from the engine
+     */
+    @Test
+    public void testGetMetrics() {
+        ctx.getMetrics();
+        verify(mockEngine).getMetrics();
+    }
 }
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2025 Jaroslav Bosak
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/license/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tendril.context;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import tendril.bean.recipe.AbstractRecipe;
+import tendril.bean.recipe.Descriptor;
+import tendril.test.AbstractUnitTest;
+
+/**
+ * Test case for the {@link BeanAccessor}
+ */
+public class BeanAccessorTest extends AbstractUnitTest {
+    
+    // Mocks to use for testing
+    @Mock
+    private Engine mockEngine1;
+    @Mock
+    private Engine mockEngine2;
+    @Mock
+    private AbstractRecipe<String> mockRecipe1;
+    @Mock
+    private AbstractRecipe<String> mockRecipe2;
+    
+    // The description of the bean
+    private Descriptor<String> descriptor;
+    
+    // Instance to test
+    private BeanAccessor<String> accessor;
+
+    /**
+     * @see tendril.test.AbstractUnitTest#prepareTest()
+     */
+    @Override
+    protected void prepareTest() {
+        descriptor = new Descriptor<>(String.class).withName("abc123");
+        accessor = new BeanAccessor<>(descriptor);
+    }
+    
+    /**
+     * Verify that accessing the bean before an engine is bound fails, without preventing the bean from being accessed once an engine is bound
+     */
+    @Test
+    public void testAccessBeforeBound() {
+        when(mockEngine1.getRecipe(descriptor)).thenReturn(mockRecipe1);
+        when(mockRecipe1.get()).thenReturn("value1");
+        
+        BeanAccessors.bind(null);
+        Assertions.assertThrows(IllegalStateException.class, accessor::get);
+        
+        BeanAccessors.bind(mockEngine1);
+        try {
+            Assertions.assertEquals("value1", accessor.get());
+            verify(mockEngine1).getRecipe(descriptor);
+            verify(mockRecipe1).get();
+        } finally {
+            BeanAccessors.bind(null);
+        }
+    }
+    
+    /**
+     * Verify that the recipe is only resolved on the first access
+     */
+    @Test
+    public void testRecipeResolvedOnce() {
+        when(mockEngine1.getRecipe(descriptor)).thenReturn(mockRecipe1);
+        when(mockRecipe1.get()).thenReturn("value1");
+        
+        BeanAccessors.bind(mockEngine1);
+        try {
+            Assertions.assertEquals("value1", accessor.get());
+            Assertions.assertEquals("value1", accessor.get());
+            verify(mockEngine1).getRecipe(descriptor);
+            verify(mockRecipe1, times(2)).get();
+        } finally {
+            BeanAccessors.bind(null);
+        }
+    }
+    
+    /**
+     * Verify that the recipe is resolved anew once the accessors are bound to another engine
+     */
+    @Test
+    public void testRecipeResolvedOnRebind() {
+        when(mockEngine1.getRecipe(descriptor)).thenReturn(mockRecipe1);
+        when(mockRecipe1.get()).thenReturn("value1");
+        when(mockEngine2.getRecipe(descriptor)).thenReturn(mockRecipe2);
+        when(mockRecipe2.get()).thenReturn("value2");
+        
+        BeanAccessors.bind(mockEngine1);
+        try {
+            Assertions.assertEquals("value1", accessor.get());
+            BeanAccessors.bind(mockEngine2);
+            Assertions.assertEquals("value2", accessor.get());
+            verify(mockEngine1).getRecipe(descriptor);
+            verify(mockRecipe1).get();
+            verify(mockEngine2).getRecipe(descriptor);
+            verify(mockRecipe2).get();
+        } finally {
+            BeanAccessors.bind(null);
+        }
+    }
+}
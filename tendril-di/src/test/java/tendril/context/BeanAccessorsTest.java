@@ -0,0 +1,89 @@
+/*
+ * Copyright 2025 Jaroslav Bosak
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/license/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tendril.context;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import tendril.bean.recipe.AbstractRecipe;
+import tendril.bean.recipe.Descriptor;
+import tendril.test.AbstractUnitTest;
+
+/**
+ * Test case for the {@link BeanAccessors}
+ */
+public class BeanAccessorsTest extends AbstractUnitTest {
+    
+    // Mocks to use for testing
+    @Mock
+    private Engine mockEngine;
+    @Mock
+    private AbstractRecipe<String> mockRecipe;
+    
+    // The description of the bean
+    private Descriptor<String> descriptor;
+
+    /**
+     * @see tendril.test.AbstractUnitTest#prepareTest()
+     */
+    @Override
+    protected void prepareTest() {
+        descriptor = new Descriptor<>(String.class).withName("abc123");
+    }
+    
+    /**
+     * Verify that the recipes cannot be retrieved until an engine is bound
+     */
+    @Test
+    public void testNotBound() {
+        BeanAccessors.bind(null);
+        Assertions.assertThrows(IllegalStateException.class, () -> BeanAccessors.getRecipe(descriptor));
+        Assertions.assertThrows(IllegalStateException.class, BeanAccessors::getEngine);
+    }
+    
+    /**
+     * Verify that the most recently bound engine is used
+     */
+    @Test
+    public void testGetEngine() {
+        BeanAccessors.bind(mockEngine);
+        try {
+            Assertions.assertSame(mockEngine, BeanAccessors.getEngine());
+        } finally {
+            BeanAccessors.bind(null);
+        }
+    }
+    
+    /**
+     * Verify that the recipes are retrieved via the bound engine
+     */
+    @Test
+    public void testGetRecipe() {
+        when(mockEngine.getRecipe(descriptor)).thenReturn(mockRecipe);
+        
+        BeanAccessors.bind(mockEngine);
+        try {
+            Assertions.assertSame(mockRecipe, BeanAccessors.getRecipe(descriptor));
+            verify(mockEngine).getRecipe(descriptor);
+        } finally {
+            BeanAccessors.bind(null);
+        }
+    }
+}
@@ -17,6 +17,8 @@ package tendril.context;
 
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -24,12 +26,16 @@ import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 
 import tendril.BeanRetrievalException;
+import tendril.bean.Provider;
 import tendril.bean.recipe.Descriptor;
 import tendril.processor.registration.RegistryFile;
+import tendril.processor.registration.RegistryIndex;
 import tendril.test.AbstractUnitTest;
+import tendril.test.bean.TestId;
 import tendril.test.recipe.Double1DuplicateTestRecipe;
 import tendril.test.recipe.Double1TestRecipe;
 import tendril.test.recipe.Double2TestRecipe;
+import tendril.test.recipe.IdTestRecipes;
 import tendril.test.recipe.IntTestRecipe;
 import tendril.test.recipe.StringTestRecipe;
 
@@ -61,7 +67,7 @@ public class EngineIT extends AbstractUnitTest {
         
         Assertions.assertEquals(2, engine.getBeanCount());
         Assertions.assertThrows(BeanRetrievalException.class, () -> engine.getBean(new Descriptor<>(Double.class)));
-        Assertions.assertThrows(BeanRetrievalException.class, () -> engine.getBean(new Descriptor<>(Double.class).setName(Double1TestRecipe.NAME)));
+        Assertions.assertThrows(BeanRetrievalException.class, () -> engine.getBean(new Descriptor<>(Double.class).withName(Double1TestRecipe.NAME)));
     }
 
     /**
@@ -78,6 +84,31 @@ public class EngineIT extends AbstractUnitTest {
         Assertions.assertEquals(4, engine.getBeanCount());
     }
     
+    /**
+     * Verify that the engine can be initialized from the registry index, with the registry file not producing duplicates of indexed recipes
+     */
+    @Test
+    public void testInitFromIndex() {
+        List<String> doubleTypes = Arrays.asList(Double.class.getName(), Number.class.getName(), Object.class.getName());
+        List<String> intTypes = Arrays.asList(Integer.class.getName(), Number.class.getName(), Object.class.getName());
+        
+        try (MockedStatic<RegistryFile> registry = Mockito.mockStatic(RegistryFile.class); MockedStatic<RegistryIndex> index = Mockito.mockStatic(RegistryIndex.class)) {
+            registry.when(RegistryFile::read).thenReturn(new HashSet<>(Arrays.asList(Double1TestRecipe.class.getName(), StringTestRecipe.class.getName())));
+            index.when(RegistryIndex::read).thenReturn(Arrays.asList(
+                    new RegistryIndex.Entry(Double1TestRecipe.class.getName(), Double.class.getName(), "", Double1TestRecipe.NAME, doubleTypes),
+                    new RegistryIndex.Entry(IntTestRecipe.class.getName(), Integer.class.getName(), "", "", intTypes),
+                    new RegistryIndex.Entry("tendril.DoesNotExistRecipe", Integer.class.getName(), "", "missing", intTypes)));
+            engine.init();
+        }
+        
+        Assertions.assertEquals(4, engine.getBeanCount());
+        Assertions.assertEquals(Double1TestRecipe.VALUE, engine.getBean(new Descriptor<>(Number.class).withName(Double1TestRecipe.NAME)));
+        Assertions.assertEquals(IntTestRecipe.VALUE, engine.getBean(new Descriptor<>(Integer.class)));
+        Assertions.assertEquals(StringTestRecipe.VALUE, engine.getBean(new Descriptor<>(String.class)));
+        // Indexed, but the recipe cannot be created
+        Assertions.assertThrows(BeanRetrievalException.class, () -> engine.getBean(new Descriptor<>(Integer.class).withName("missing")));
+    }
+    
     /**
      * Verify that beans can be retrieved
      */
@@ -89,10 +120,136 @@ public class EngineIT extends AbstractUnitTest {
         Assertions.assertThrows(BeanRetrievalException.class, () -> engine.getBean(new Descriptor<>(Long.class)));
         // Too vague
         Assertions.assertThrows(BeanRetrievalException.class, () -> engine.getBean(new Descriptor<>(Double.class)));
-        Assertions.assertEquals(Double1TestRecipe.VALUE, engine.getBean(new Descriptor<>(Double.class).setName(Double1TestRecipe.NAME)));
-        Assertions.assertEquals(Double2TestRecipe.VALUE, engine.getBean(new Descriptor<>(Double.class).setName(Double2TestRecipe.NAME)));
+        Assertions.assertEquals(Double1TestRecipe.VALUE, engine.getBean(new Descriptor<>(Double.class).withName(Double1TestRecipe.NAME)));
+        Assertions.assertEquals(Double2TestRecipe.VALUE, engine.getBean(new Descriptor<>(Double.class).withName(Double2TestRecipe.NAME)));
         Assertions.assertEquals(IntTestRecipe.VALUE, engine.getBean(new Descriptor<>(Integer.class)));
         Assertions.assertEquals(StringTestRecipe.VALUE, engine.getBean(new Descriptor<>(String.class)));
     }
 
+    /**
+     * Verify that a batch of beans can be retrieved
+     */
+    @Test
+    public void testGetBeans() {
+        testInitAllUnique();
+        
+        Assertions.assertEquals(Arrays.asList(IntTestRecipe.VALUE, IntTestRecipe.VALUE), engine.getBeans(new Descriptor<>(Integer.class), 2));
+        Assertions.assertTrue(engine.getBeans(new Descriptor<>(Integer.class), 0).isEmpty());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> engine.getBeans(new Descriptor<>(Integer.class), -1));
+        // Not available
+        Assertions.assertThrows(BeanRetrievalException.class, () -> engine.getBeans(new Descriptor<>(Long.class), 2));
+        // Too vague
+        Assertions.assertThrows(BeanRetrievalException.class, () -> engine.getBeans(new Descriptor<>(Double.class), 2));
+    }
+
+    /**
+     * Verify that beans can be retrieved via any type in their hierarchy, and that repeated lookups produce the same outcome
+     */
+    @Test
+    public void testGetBeanByHierarchy() {
+        testInitAllUnique();
+        
+        for (int i = 0; i < 3; i++) {
+            // Matches more than one bean
+            Assertions.assertThrows(BeanRetrievalException.class, () -> engine.getBean(new Descriptor<>(Number.class)));
+            Assertions.assertThrows(BeanRetrievalException.class, () -> engine.getBean(new Descriptor<>(Object.class)));
+            // Only a single bean in the hierarchy
+            Assertions.assertEquals(StringTestRecipe.VALUE, engine.getBean(new Descriptor<>(CharSequence.class)));
+            Assertions.assertEquals(Double1TestRecipe.VALUE, engine.getBean(new Descriptor<>(Number.class).withName(Double1TestRecipe.NAME)));
+            Assertions.assertEquals(Double2TestRecipe.VALUE, engine.getBean(new Descriptor<>(Object.class).withName(Double2TestRecipe.NAME)));
+            // Name is known, but the type doesn't match
+            Assertions.assertThrows(BeanRetrievalException.class, () -> engine.getBean(new Descriptor<>(Integer.class).withName(Double1TestRecipe.NAME)));
+        }
+    }
+
+    /**
+     * Verify that beans can be retrieved by their enum id, both via the id specific lookup and via the descriptor
+     */
+    @Test
+    public void testGetBeanById() {
+        try (MockedStatic<RegistryFile> registry = Mockito.mockStatic(RegistryFile.class)) {
+            registry.when(RegistryFile::read).thenReturn(new HashSet<>(Arrays.asList(IdTestRecipes.FirstRecipe.class.getName(), IdTestRecipes.SecondRecipe.class.getName(),
+                    IntTestRecipe.class.getName())));
+            engine.init();
+        }
+        
+        Descriptor<Long> desc = new Descriptor<>(Long.class);
+        for (int i = 0; i < 2; i++) {
+            Assertions.assertEquals(IdTestRecipes.FirstRecipe.VALUE, engine.getBean(desc, TestId.FIRST));
+            Assertions.assertEquals(IdTestRecipes.SecondRecipe.VALUE, engine.getBean(desc, TestId.SECOND));
+            Assertions.assertThrows(BeanRetrievalException.class, () -> engine.getBean(desc, TestId.THIRD));
+        }
+        Assertions.assertEquals(IdTestRecipes.SecondRecipe.VALUE, engine.getBean(new Descriptor<>(Number.class), TestId.SECOND));
+        Assertions.assertEquals(IdTestRecipes.FirstRecipe.VALUE, engine.getBean(desc.withId(TestId.FIRST)));
+        // Too vague without the id
+        Assertions.assertThrows(BeanRetrievalException.class, () -> engine.getBean(desc));
+    }
+
+    /**
+     * Verify that releasing a bean requires the descriptor to match exactly one recipe, with beans which are not pooled being unaffected
+     */
+    @Test
+    public void testReleaseBean() {
+        testInitAllUnique();
+        
+        engine.releaseBean(new Descriptor<>(Integer.class), IntTestRecipe.VALUE);
+        Assertions.assertEquals(IntTestRecipe.VALUE, engine.getBean(new Descriptor<>(Integer.class)));
+        // Not available
+        Assertions.assertThrows(BeanRetrievalException.class, () -> engine.releaseBean(new Descriptor<>(Long.class), 1L));
+        // Too vague
+        Assertions.assertThrows(BeanRetrievalException.class, () -> engine.releaseBean(new Descriptor<>(Double.class), Double1TestRecipe.VALUE));
+    }
+
+    /**
+     * Verify that providers only resolve their bean on the first retrieval, and only the once
+     */
+    @Test
+    public void testGetProvider() {
+        testInitAllUnique();
+        
+        // Not resolved until retrieved
+        Provider<Long> missing = engine.getProvider(new Descriptor<>(Long.class));
+        Assertions.assertThrows(BeanRetrievalException.class, () -> missing.get());
+        
+        Provider<Integer> provider = engine.getProvider(new Descriptor<>(Integer.class));
+        Assertions.assertTrue(provider == engine.getProvider(new Descriptor<>(Integer.class)));
+        Assertions.assertFalse(engine.getMetrics().getLookupsPerDescriptor().containsKey(Integer.class.getName()));
+        for (int i = 0; i < 3; i++)
+            Assertions.assertEquals(IntTestRecipe.VALUE, provider.get());
+        Assertions.assertEquals(1, engine.getMetrics().getLookupsPerDescriptor().get(Integer.class.getName()));
+        
+        // Named providers are distinct
+        Provider<Double> named = engine.getProvider(new Descriptor<>(Double.class).withName(Double1TestRecipe.NAME));
+        Assertions.assertTrue(named != engine.getProvider(new Descriptor<>(Double.class).withName(Double2TestRecipe.NAME)));
+        Assertions.assertEquals(Double1TestRecipe.VALUE, named.get());
+    }
+
+    /**
+     * Verify that all matching beans can be retrieved as a collection
+     */
+    @Test
+    public void testGetBeanCollections() {
+        testInitAllUnique();
+        
+        // Nothing matches
+        Assertions.assertTrue(engine.getBeanList(new Descriptor<>(Long.class)).isEmpty());
+        Assertions.assertTrue(engine.getBeanSet(new Descriptor<>(Long.class)).isEmpty());
+        Assertions.assertTrue(engine.getBeanMap(new Descriptor<>(Long.class)).isEmpty());
+        
+        // Multiple match
+        List<Number> list = engine.getBeanList(new Descriptor<>(Number.class));
+        Assertions.assertEquals(3, list.size());
+        Assertions.assertTrue(list.containsAll(Arrays.asList(Double1TestRecipe.VALUE, Double2TestRecipe.VALUE, IntTestRecipe.VALUE)));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> list.add(1));
+        Assertions.assertEquals(new HashSet<>(list), engine.getBeanSet(new Descriptor<>(Number.class)));
+        
+        Map<String, Number> map = engine.getBeanMap(new Descriptor<>(Number.class));
+        Assertions.assertEquals(3, map.size());
+        Assertions.assertEquals(Double1TestRecipe.VALUE, map.get(Double1TestRecipe.NAME));
+        Assertions.assertEquals(Double2TestRecipe.VALUE, map.get(Double2TestRecipe.NAME));
+        Assertions.assertEquals(IntTestRecipe.VALUE, map.get(Integer.class.getName()));
+        
+        // Narrowed by name
+        Assertions.assertEquals(Arrays.asList(Double2TestRecipe.VALUE), engine.getBeanList(new Descriptor<>(Double.class).withName(Double2TestRecipe.NAME)));
+    }
 }
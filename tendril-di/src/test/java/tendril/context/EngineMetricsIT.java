@@ -0,0 +1,106 @@
+/*
+ * Copyright 2025 Jaroslav Bosak
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/license/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tendril.context;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import tendril.BeanRetrievalException;
+import tendril.bean.recipe.Descriptor;
+import tendril.processor.registration.RegistryFile;
+import tendril.test.AbstractUnitTest;
+import tendril.test.recipe.EagerTestRecipes;
+import tendril.test.recipe.EagerTestRecipes.DependentBean;
+import tendril.test.recipe.EagerTestRecipes.FactoryBean;
+import tendril.test.recipe.EagerTestRecipes.FactoryBeanRecipe;
+import tendril.test.recipe.EagerTestRecipes.RootBean;
+
+/**
+ * Test case for the metrics produced by the {@link Engine}
+ */
+public class EngineMetricsIT extends AbstractUnitTest {
+    
+    // Instance to test
+    private Engine engine;
+
+    /**
+     * @see tendril.test.AbstractUnitTest#prepareTest()
+     */
+    @Override
+    protected void prepareTest() {
+        EagerTestRecipes.CREATED.clear();
+        engine = new Engine();
+        try (MockedStatic<RegistryFile> registry = Mockito.mockStatic(RegistryFile.class)) {
+            registry.when(RegistryFile::read).thenReturn(new HashSet<>(EagerTestRecipes.getRecipeNames()));
+            engine.init();
+        }
+    }
+
+    /**
+     * Verify that nothing is reported before any bean is used
+     */
+    @Test
+    public void testNoActivity() {
+        EngineMetrics metrics = engine.getMetrics();
+        
+        Assertions.assertEquals(0, metrics.getLookups());
+        Assertions.assertEquals(0, metrics.getCacheHitRate());
+        Assertions.assertTrue(metrics.getLookupsPerDescriptor().isEmpty());
+        Assertions.assertEquals(0, metrics.getSingletonsCreated());
+        Assertions.assertEquals(0, metrics.getFactoryInstancesCreated());
+        Assertions.assertEquals(0, Arrays.stream(metrics.getBuildLatency()).sum());
+    }
+
+    /**
+     * Verify that the lookups and bean creations are counted
+     */
+    @Test
+    public void testLookupsAndCreations() {
+        EngineMetrics before = engine.getMetrics();
+        
+        // Creates the dependent, one factory bean, and the root
+        engine.getBean(new Descriptor<>(DependentBean.class));
+        engine.getBean(new Descriptor<>(DependentBean.class));
+        // Creates two more factory beans
+        engine.getBean(new Descriptor<>(FactoryBean.class));
+        engine.getBean(new Descriptor<>(FactoryBean.class));
+        Assertions.assertThrows(BeanRetrievalException.class, () -> engine.getBean(new Descriptor<>(Object.class)));
+        Assertions.assertThrows(BeanRetrievalException.class, () -> engine.getBean(new Descriptor<>(String.class)));
+        
+        EngineMetrics metrics = engine.getMetrics();
+        // Each factory bean also looks up the root
+        Assertions.assertEquals(10, metrics.getLookups());
+        Assertions.assertEquals(5, metrics.getCacheMisses());
+        Assertions.assertEquals(5, metrics.getCacheHits());
+        Assertions.assertEquals(0.5, metrics.getCacheHitRate(), 0.0001);
+        Assertions.assertEquals(1, metrics.getAmbiguousLookups());
+        Assertions.assertEquals(1, metrics.getFailedLookups());
+        Assertions.assertEquals(2, metrics.getLookupsPerDescriptor().get(DependentBean.class.getName()));
+        Assertions.assertEquals(3, metrics.getLookupsPerDescriptor().get(FactoryBean.class.getName()));
+        Assertions.assertEquals(3, metrics.getLookupsPerDescriptor().get(RootBean.class.getName()));
+        
+        Assertions.assertEquals(2, metrics.getSingletonsCreated());
+        Assertions.assertEquals(3, metrics.getFactoryInstancesCreated());
+        Assertions.assertEquals(3, metrics.getCreatedPerRecipe().get(FactoryBeanRecipe.class.getName()));
+        Assertions.assertEquals(5, Arrays.stream(metrics.getBuildLatency()).sum());
+        Assertions.assertTrue(metrics.getFactoryInstancesPerSecond(before) > 0);
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2025 Jaroslav Bosak
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/license/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tendril.context;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import tendril.bean.recipe.AbstractRecipe;
+import tendril.bean.recipe.Descriptor;
+import tendril.bean.recipe.PooledRecipe;
+import tendril.test.AbstractUnitTest;
+
+/**
+ * Test case for the {@link RecipeProvider}
+ */
+public class RecipeProviderTest extends AbstractUnitTest {
+    
+    // Mocks to use for testing
+    @Mock
+    private Engine mockEngine;
+    @Mock
+    private Descriptor<String> mockDescriptor;
+    @Mock
+    private AbstractRecipe<String> mockRecipe;
+    @Mock
+    private PooledRecipe<String> mockPooledRecipe;
+    
+    // Instance to test
+    private RecipeProvider<String> provider;
+
+    /**
+     * @see tendril.test.AbstractUnitTest#prepareTest()
+     */
+    @Override
+    protected void prepareTest() {
+        provider = new RecipeProvider<>(mockEngine, mockDescriptor);
+    }
+    
+    /**
+     * Verify that the recipe is only resolved on the first retrieval
+     */
+    @Test
+    public void testGet() {
+        when(mockEngine.getRecipe(mockDescriptor)).thenReturn(mockRecipe);
+        when(mockRecipe.get()).thenReturn("abc123");
+        
+        for (int i = 0; i < 3; i++)
+            Assertions.assertEquals("abc123", provider.get());
+        verify(mockEngine, times(3)).getGeneration();
+        verify(mockEngine).getRecipe(mockDescriptor);
+        verify(mockRecipe, times(3)).get();
+    }
+    
+    /**
+     * Verify that the recipe is resolved anew when the recipes registered with the engine change
+     */
+    @Test
+    public void testRelink() {
+        when(mockEngine.getRecipe(mockDescriptor)).thenReturn(mockRecipe);
+        when(mockRecipe.get()).thenReturn("abc123");
+        
+        when(mockEngine.getGeneration()).thenReturn(1);
+        Assertions.assertEquals("abc123", provider.get());
+        Assertions.assertEquals("abc123", provider.get());
+        verify(mockEngine, times(2)).getGeneration();
+        verify(mockEngine).getRecipe(mockDescriptor);
+        
+        when(mockEngine.getRecipe(mockDescriptor)).thenReturn(mockPooledRecipe);
+        when(mockPooledRecipe.get()).thenReturn("qwerty");
+        when(mockEngine.getGeneration()).thenReturn(2);
+        Assertions.assertEquals("qwerty", provider.get());
+        Assertions.assertEquals("qwerty", provider.get());
+        verify(mockEngine, times(4)).getGeneration();
+        verify(mockEngine, times(2)).getRecipe(mockDescriptor);
+        verify(mockRecipe, times(2)).get();
+        verify(mockPooledRecipe, times(2)).get();
+    }
+    
+    /**
+     * Verify that releasing a bean which is not pooled has no effect
+     */
+    @Test
+    public void testReleaseNotPooled() {
+        when(mockEngine.getRecipe(mockDescriptor)).thenReturn(mockRecipe);
+        
+        provider.release("abc123");
+        provider.release("abc123");
+        verify(mockEngine, times(2)).getGeneration();
+        verify(mockEngine).getRecipe(mockDescriptor);
+    }
+    
+    /**
+     * Verify that releasing a pooled bean returns it to the pool
+     */
+    @Test
+    public void testReleasePooled() {
+        when(mockEngine.getRecipe(mockDescriptor)).thenReturn(mockPooledRecipe);
+        
+        provider.release("abc123");
+        verify(mockEngine).getGeneration();
+        verify(mockEngine).getRecipe(mockDescriptor);
+        verify(mockPooledRecipe).release("abc123");
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2025 Jaroslav Bosak
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/license/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tendril.context;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import tendril.BeanCreationException;
+import tendril.bean.recipe.Descriptor;
+import tendril.processor.registration.RegistryFile;
+import tendril.test.AbstractUnitTest;
+import tendril.test.recipe.CyclicTestRecipes;
+import tendril.test.recipe.ParallelCycleTestRecipes;
+import tendril.test.recipe.EagerTestRecipes;
+import tendril.test.recipe.EagerTestRecipes.DependentBean;
+import tendril.test.recipe.EagerTestRecipes.FactoryBean;
+import tendril.test.recipe.EagerTestRecipes.IndependentBean;
+import tendril.test.recipe.EagerTestRecipes.RootBean;
+
+/**
+ * Test case for the {@link SingletonInitializer}
+ */
+public class SingletonInitializerIT extends AbstractUnitTest {
+    
+    // Instance to test
+    private Engine engine;
+
+    /**
+     * @see tendril.test.AbstractUnitTest#prepareTest()
+     */
+    @Override
+    protected void prepareTest() {
+        EagerTestRecipes.CREATED.clear();
+        EagerTestRecipes.barrier = null;
+        engine = createEngine(EagerTestRecipes.getRecipeNames());
+    }
+    
+    /**
+     * Create an engine which is populated with the indicated recipes
+     * 
+     * @param recipeNames {@link List} of the {@link String} names of the recipe classes to register
+     * @return {@link Engine} containing the recipes
+     */
+    private Engine createEngine(List<String> recipeNames) {
+        Engine created = new Engine();
+        try (MockedStatic<RegistryFile> registry = Mockito.mockStatic(RegistryFile.class)) {
+            registry.when(RegistryFile::read).thenReturn(new HashSet<>(recipeNames));
+            created.init();
+        }
+        return created;
+    }
+
+    /**
+     * Verify that no beans are created until the singletons are initialized
+     */
+    @Test
+    public void testNothingCreatedOnInit() {
+        Assertions.assertEquals(4, engine.getBeanCount());
+        Assertions.assertTrue(EagerTestRecipes.CREATED.isEmpty());
+    }
+
+    /**
+     * Verify that all singletons are created, with their dependencies created before them
+     */
+    @Test
+    public void testAllSingletonsCreated() {
+        engine.initSingletons();
+        
+        // All singletons and the one factory bean required by the dependent singleton are created
+        Assertions.assertEquals(4, EagerTestRecipes.CREATED.size());
+        RootBean root = engine.getBean(new Descriptor<>(RootBean.class));
+        DependentBean dependent = engine.getBean(new Descriptor<>(DependentBean.class));
+        IndependentBean independent = engine.getBean(new Descriptor<>(IndependentBean.class));
+        Assertions.assertTrue(EagerTestRecipes.CREATED.contains(root));
+        Assertions.assertTrue(EagerTestRecipes.CREATED.contains(dependent));
+        Assertions.assertTrue(EagerTestRecipes.CREATED.contains(independent));
+        
+        // The root must have been created before the factory bean, which in turn before the dependent
+        int rootIndex = EagerTestRecipes.CREATED.indexOf(root);
+        int dependentIndex = EagerTestRecipes.CREATED.indexOf(dependent);
+        Assertions.assertTrue(EagerTestRecipes.CREATED.get(dependentIndex - 1) instanceof FactoryBean);
+        Assertions.assertTrue(rootIndex < dependentIndex - 1);
+        
+        // Accessing the singletons does not create them anew
+        Assertions.assertEquals(4, EagerTestRecipes.CREATED.size());
+    }
+    
+    /**
+     * Verify that singletons which do not depend on one another are created in parallel
+     */
+    @Test
+    public void testIndependentSingletonsCreatedInParallel() {
+        // Neither the root nor the independent bean can complete its creation until the other is being created
+        EagerTestRecipes.barrier = new CyclicBarrier(2);
+        engine.initSingletons();
+        
+        Assertions.assertEquals(4, EagerTestRecipes.CREATED.size());
+        Assertions.assertFalse(EagerTestRecipes.barrier.isBroken());
+    }
+    
+    /**
+     * Verify that the singletons in a dependency cycle are reported, distinguishing those in the cycle from those that merely depend on it
+     */
+    @Test
+    public void testDependencyCycle() {
+        Engine cyclic = createEngine(CyclicTestRecipes.getRecipeNames());
+        
+        List<String> warnings = Collections.synchronizedList(new ArrayList<>());
+        Handler handler = new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                warnings.add(record.getMessage());
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        Logger logger = Logger.getLogger(SingletonInitializer.class.getSimpleName());
+        logger.addHandler(handler);
+        try {
+            Assertions.assertThrows(BeanCreationException.class, cyclic::initSingletons);
+        } finally {
+            logger.removeHandler(handler);
+        }
+        
+        Assertions.assertEquals(3, warnings.size());
+        Assertions.assertTrue(warnings.contains(new Descriptor<>(CyclicTestRecipes.FirstBean.class) + " is part of a dependency cycle"));
+        Assertions.assertTrue(warnings.contains(new Descriptor<>(CyclicTestRecipes.SecondBean.class) + " is part of a dependency cycle"));
+        Assertions.assertTrue(warnings.contains(new Descriptor<>(CyclicTestRecipes.CycleDependentBean.class) + " depends on a dependency cycle"));
+    }
+    
+    /**
+     * Verify that singletons which require each other without declaring it (i.e.: via a provider) are reported as a cycle, rather than their parallel creation
+     * deadlocking
+     */
+    @Test
+    public void testUndeclaredCycleCreatedInParallel() {
+        Engine cyclic = createEngine(ParallelCycleTestRecipes.getRecipeNames());
+        Assertions.assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            Assertions.assertThrows(BeanCreationException.class, cyclic::initSingletons);
+        });
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2025 Jaroslav Bosak
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/license/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tendril.context;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import tendril.test.AbstractUnitTest;
+import tendril.test.recipe.Double1TestRecipe;
+import tendril.test.recipe.IntTestRecipe;
+import tendril.test.recipe.StringTestRecipe;
+
+/**
+ * Test case for the {@link StartupProfiler}
+ */
+public class StartupProfilerTest extends AbstractUnitTest {
+    
+    // Instance to test
+    private StartupProfiler profiler;
+    
+    // Recipes to "build"
+    private StringTestRecipe stringRecipe;
+    private IntTestRecipe intRecipe;
+    private Double1TestRecipe doubleRecipe;
+
+    /**
+     * @see tendril.test.AbstractUnitTest#prepareTest()
+     */
+    @Override
+    protected void prepareTest() {
+        Engine engine = new Engine();
+        stringRecipe = new StringTestRecipe(engine);
+        intRecipe = new IntTestRecipe(engine);
+        doubleRecipe = new Double1TestRecipe(engine);
+        profiler = new StartupProfiler();
+    }
+    
+    /**
+     * @see tendril.test.AbstractUnitTest#cleanupTest()
+     */
+    @Override
+    protected void cleanupTest() {
+        profiler.deactivate();
+    }
+    
+    /**
+     * Verify that nothing is recorded where the profiler is not active
+     */
+    @Test
+    public void testInactive() {
+        Assertions.assertFalse(StartupProfiler.isActive());
+        Assertions.assertNull(StartupProfiler.begin(stringRecipe));
+        StartupProfiler.recipeLoaded(StringTestRecipe.class.getName(), 123);
+        
+        Assertions.assertTrue(profiler.generateReport().contains("\"beanCount\": 0"));
+    }
+    
+    /**
+     * Verify that nested builds are recorded with the chain which triggered them, and that the critical path follows the longest builds
+     * 
+     * @throws InterruptedException not expected
+     */
+    @Test
+    public void testNestedBuilds() throws InterruptedException {
+        profiler.activate();
+        Assertions.assertTrue(StartupProfiler.isActive());
+        
+        StartupProfiler.Build root = StartupProfiler.begin(stringRecipe);
+        StartupProfiler.Build quick = StartupProfiler.begin(intRecipe);
+        quick.instanceCreated();
+        quick.injected();
+        quick.end();
+        StartupProfiler.recipeLoaded(Double1TestRecipe.class.getName(), 1_000_000);
+        StartupProfiler.Build slow = StartupProfiler.begin(doubleRecipe);
+        Thread.sleep(20);
+        slow.instanceCreated();
+        slow.injected();
+        slow.end();
+        root.instanceCreated();
+        root.injected();
+        root.end();
+        
+        profiler.deactivate();
+        Assertions.assertFalse(StartupProfiler.isActive());
+        
+        String report = profiler.generateReport();
+        Assertions.assertTrue(report.contains("\"beanCount\": 3"));
+        Assertions.assertTrue(report.contains("\"buildCount\": 3"));
+        Assertions.assertTrue(report.contains("\"loadMillis\": 1.000"));
+        Assertions.assertTrue(report.contains("\"triggeredBy\": [\"Bean type String\"]"));
+        
+        // Slowest is the one which slept, despite the root taking longer overall
+        int slowest = report.indexOf("\"slowest\"");
+        Assertions.assertTrue(report.indexOf(Double1TestRecipe.class.getName(), slowest) < report.indexOf(StringTestRecipe.class.getName(), slowest));
+        
+        // Critical path is from the root to the slow bean
+        int path = report.indexOf("\"criticalPath\"");
+        Assertions.assertTrue(report.indexOf(StringTestRecipe.class.getName(), path) < report.indexOf(Double1TestRecipe.class.getName(), path));
+        Assertions.assertEquals(-1, report.indexOf(IntTestRecipe.class.getName(), path));
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2025 Jaroslav Bosak
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/license/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tendril.context;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import tendril.test.AbstractUnitTest;
+
+/**
+ * Test case for {@link TypeKeys}
+ */
+public class TypeKeysTest extends AbstractUnitTest {
+
+    /** Parameterized interface */
+    private interface Repository<T> {
+    }
+
+    /** Parameterized class which passes its type variable on to its interface */
+    private static abstract class AbstractRepository<T> implements Repository<T> {
+    }
+
+    /** Class which resolves the type variable of its parent */
+    private static class StringRepository extends AbstractRepository<String> {
+    }
+
+    /** Class which implements the interface with nested type arguments */
+    private static class MapRepository implements Repository<Map<String, List<Integer>>> {
+    }
+
+    /** Class which implements the interface with a wildcard */
+    private static class WildcardRepository implements Repository<List<?>> {
+    }
+
+    /**
+     * @see tendril.test.AbstractUnitTest#prepareTest()
+     */
+    @Override
+    protected void prepareTest() {
+        // Not required
+    }
+
+    /**
+     * Collect the keys of the class
+     * 
+     * @param type {@link Class} whose keys are to be collected
+     * @return {@link Set} of {@link String} keys
+     */
+    private Set<String> collect(Class<?> type) {
+        Set<String> types = new HashSet<>();
+        TypeKeys.collect(type, types);
+        return types;
+    }
+
+    /**
+     * Verify that classes without any generics are collected by their names
+     */
+    @Test
+    public void testRaw() {
+        Assertions.assertEquals(new HashSet<>(Arrays.asList(Integer.class.getName(), Number.class.getName(), Object.class.getName(), "java.io.Serializable",
+                "java.lang.constant.Constable", "java.lang.constant.ConstantDesc", "java.lang.Comparable", "java.lang.Comparable<java.lang.Integer>")), collect(Integer.class));
+    }
+
+    /**
+     * Verify that type variables are resolved through the hierarchy
+     */
+    @Test
+    public void testResolvedTypeVariable() {
+        Assertions.assertEquals(new HashSet<>(Arrays.asList(StringRepository.class.getName(), AbstractRepository.class.getName(),
+                AbstractRepository.class.getName() + "<java.lang.String>", Repository.class.getName(), Repository.class.getName() + "<java.lang.String>",
+                Object.class.getName())), collect(StringRepository.class));
+    }
+
+    /**
+     * Verify that nested type arguments are included
+     */
+    @Test
+    public void testNestedArguments() {
+        Assertions.assertEquals(new HashSet<>(Arrays.asList(MapRepository.class.getName(), Repository.class.getName(),
+                Repository.class.getName() + "<java.util.Map<java.lang.String,java.util.List<java.lang.Integer>>>", Object.class.getName())), collect(MapRepository.class));
+    }
+
+    /**
+     * Verify that types whose arguments do not resolve to explicit classes are only included by their names
+     */
+    @Test
+    public void testUnresolved() {
+        Assertions.assertEquals(new HashSet<>(Arrays.asList(WildcardRepository.class.getName(), Repository.class.getName(), Object.class.getName())),
+                collect(WildcardRepository.class));
+        Assertions.assertEquals(new HashSet<>(Arrays.asList(AbstractRepository.class.getName(), Repository.class.getName(), Object.class.getName())),
+                collect(AbstractRepository.class));
+    }
+}
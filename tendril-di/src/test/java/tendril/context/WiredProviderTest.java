@@ -0,0 +1,92 @@
+/*
+ * Copyright 2025 Jaroslav Bosak
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/license/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tendril.context;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import tendril.bean.recipe.AbstractRecipe;
+import tendril.bean.recipe.PooledRecipe;
+import tendril.test.AbstractUnitTest;
+
+/**
+ * Test case for the {@link WiredProvider}
+ */
+public class WiredProviderTest extends AbstractUnitTest {
+    
+    // Mocks to use for testing
+    @Mock
+    private Supplier<AbstractRecipe<String>> mockRecipeSupplier;
+    @Mock
+    private AbstractRecipe<String> mockRecipe;
+    @Mock
+    private PooledRecipe<String> mockPooledRecipe;
+    
+    // Instance to test
+    private WiredProvider<String> provider;
+
+    /**
+     * @see tendril.test.AbstractUnitTest#prepareTest()
+     */
+    @Override
+    protected void prepareTest() {
+        provider = new WiredProvider<>(mockRecipeSupplier);
+    }
+    
+    /**
+     * Verify that the beans are retrieved from the wired recipe
+     */
+    @Test
+    public void testGet() {
+        when(mockRecipeSupplier.get()).thenReturn(mockRecipe);
+        when(mockRecipe.get()).thenReturn("abc123");
+        
+        for (int i = 0; i < 3; i++)
+            Assertions.assertEquals("abc123", provider.get());
+        verify(mockRecipeSupplier, times(3)).get();
+        verify(mockRecipe, times(3)).get();
+    }
+    
+    /**
+     * Verify that releasing a bean which is not pooled has no effect
+     */
+    @Test
+    public void testReleaseNotPooled() {
+        when(mockRecipeSupplier.get()).thenReturn(mockRecipe);
+        
+        provider.release("abc123");
+        verify(mockRecipeSupplier).get();
+    }
+    
+    /**
+     * Verify that releasing a pooled bean returns it to the pool
+     */
+    @Test
+    public void testReleasePooled() {
+        when(mockRecipeSupplier.get()).thenReturn(mockPooledRecipe);
+        
+        provider.release("abc123");
+        verify(mockRecipeSupplier).get();
+        verify(mockPooledRecipe).release("abc123");
+    }
+}
@@ -15,6 +15,20 @@
  */
 package tendril.processor;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -22,13 +36,20 @@ import tendril.annotationprocessor.ProcessingException;
 import tendril.bean.Singleton;
 import tendril.bean.Factory;
 import tendril.bean.Inject;
+import tendril.bean.Pooled;
 import tendril.bean.PostConstruct;
+import tendril.bean.Provider;
+import tendril.bean.Reset;
 import tendril.codegen.VisibilityType;
+import tendril.codegen.annotation.JAnnotation;
 import tendril.codegen.annotation.JAnnotationFactory;
 import tendril.codegen.classes.ClassBuilder;
 import tendril.codegen.classes.JClass;
+import tendril.codegen.classes.method.AnonymousMethod;
 import tendril.codegen.field.type.ClassType;
 import tendril.codegen.field.type.PrimitiveType;
+import tendril.codegen.generics.GenericFactory;
+import tendril.processor.registration.RegistryProcessor;
 
 /**
  * Integration test for verifying that the {@link BeanProcessor} produces the proper results.
@@ -241,4 +262,177 @@ public class BeanProcessorIT {
         builder.buildMethod("method1").setVisibility(VisibilityType.PUBLIC).addAnnotation(JAnnotationFactory.create(PostConstruct.class)).emptyImplementation().finish();
         Assertions.assertFalse(new TestBeanProcessor(type, builder.build()).processType().getCode().isBlank());
     }
+    
+    /**
+     * Failure should be indicated if a Reset method is applied to a bean which is not pooled
+     */
+    @Test
+    public void testResetMustBePooled_Fails() {
+        ClassType type = new ClassType("q.w.e.Rty");
+        ClassBuilder builder = ClassBuilder.forConcreteClass(type).addAnnotation(JAnnotationFactory.create(Factory.class));
+        builder.buildConstructor().setVisibility(VisibilityType.PUBLIC).emptyImplementation().finish();
+        
+        builder.buildMethod("method1").setVisibility(VisibilityType.PUBLIC).addAnnotation(JAnnotationFactory.create(Reset.class)).emptyImplementation().finish();
+        Assertions.assertThrows(ProcessingException.class, () -> new TestBeanProcessor(type, builder.build()).processType());
+    }
+    
+    /**
+     * Failure should be indicated if a pooled bean has a negative maximum idle size
+     */
+    @Test
+    public void testPooledNegativeMaxIdle_Fails() {
+        ClassType type = new ClassType("q.w.e.Rty");
+        JAnnotation pooled = new JAnnotation(new ClassType(Pooled.class));
+        pooled.addAttribute(new AnonymousMethod<>(PrimitiveType.INT, "maxIdle"), PrimitiveType.INT.asValue(-1));
+        ClassBuilder builder = ClassBuilder.forConcreteClass(type).addAnnotation(pooled);
+        builder.buildConstructor().setVisibility(VisibilityType.PUBLIC).emptyImplementation().finish();
+        
+        Assertions.assertThrows(ProcessingException.class, () -> new TestBeanProcessor(type, builder.build()).processType());
+    }
+    
+    /**
+     * Can generate a pooled bean with a valid Reset method
+     */
+    @Test
+    public void testPooledValidReset_Passes() {
+        ClassType type = new ClassType("q.w.e.Rty");
+        JAnnotation pooled = new JAnnotation(new ClassType(Pooled.class));
+        pooled.addAttribute(new AnonymousMethod<>(PrimitiveType.INT, "maxIdle"), PrimitiveType.INT.asValue(3));
+        ClassBuilder builder = ClassBuilder.forConcreteClass(type).addAnnotation(pooled);
+        builder.buildConstructor().setVisibility(VisibilityType.PUBLIC).emptyImplementation().finish();
+        
+        builder.buildMethod("method1").setVisibility(VisibilityType.PUBLIC).addAnnotation(JAnnotationFactory.create(Reset.class)).emptyImplementation().finish();
+        String code = new TestBeanProcessor(type, builder.build()).processType().getCode();
+        Assertions.assertTrue(code.contains("super(engine, Rty.class, 3);"));
+        Assertions.assertTrue(code.contains("bean.method1();"));
+    }
+    
+    /**
+     * Failure should be indicated if a Provider does not indicate the type of bean it provides
+     */
+    @Test
+    public void testProviderMustIndicateType_Fails() {
+        ClassType type = new ClassType("q.w.e.Rty");
+        ClassBuilder builder = ClassBuilder.forConcreteClass(type).addAnnotation(JAnnotationFactory.create(Singleton.class));
+        builder.buildConstructor().setVisibility(VisibilityType.PUBLIC).emptyImplementation().buildParameter(new ClassType(Provider.class), "param").finish().finish();
+        
+        Assertions.assertThrows(ProcessingException.class, () -> new TestBeanProcessor(type, builder.build()).processType());
+    }
+    
+    /**
+     * Providers are retrieved in place of the bean, without declaring the bean as a dependency
+     */
+    @Test
+    public void testProvider_Passes() {
+        ClassType type = new ClassType("q.w.e.Rty");
+        ClassBuilder builder = ClassBuilder.forConcreteClass(type).addAnnotation(JAnnotationFactory.create(Singleton.class));
+        builder.buildConstructor().setVisibility(VisibilityType.PUBLIC).emptyImplementation().buildParameter(new ClassType(Provider.class), "param")
+            .addGeneric(GenericFactory.create(new ClassType("a.s.d.Fgh"))).finish().finish();
+        
+        String code = new TestBeanProcessor(type, builder.build()).processType().getCode();
+        Assertions.assertTrue(code.contains("private static final Descriptor<Fgh> DESCRIPTOR_0 = new Descriptor<>(Fgh.class);"));
+        Assertions.assertTrue(code.contains("Provider<Fgh> param = engine.getProvider(DESCRIPTOR_0);"));
+        Assertions.assertTrue(code.contains("import a.s.d.Fgh;"));
+        Assertions.assertFalse(code.contains("declareDependency"));
+    }
+    
+    /**
+     * Failure should be indicated if a Map of beans is not keyed by String
+     */
+    @Test
+    public void testMapMustBeKeyedByString_Fails() {
+        ClassType type = new ClassType("q.w.e.Rty");
+        ClassBuilder builder = ClassBuilder.forConcreteClass(type).addAnnotation(JAnnotationFactory.create(Singleton.class));
+        builder.buildConstructor().setVisibility(VisibilityType.PUBLIC).emptyImplementation().buildParameter(new ClassType(Map.class), "param")
+            .addGeneric(GenericFactory.create(new ClassType(Integer.class))).addGeneric(GenericFactory.create(new ClassType("a.s.d.Fgh"))).finish().finish();
+        
+        Assertions.assertThrows(ProcessingException.class, () -> new TestBeanProcessor(type, builder.build()).processType());
+    }
+    
+    /**
+     * Collections are retrieved as all matching beans, declaring the contained bean as a dependency
+     */
+    @Test
+    public void testCollections_Passes() {
+        ClassType type = new ClassType("q.w.e.Rty");
+        ClassBuilder builder = ClassBuilder.forConcreteClass(type).addAnnotation(JAnnotationFactory.create(Singleton.class));
+        builder.buildConstructor().setVisibility(VisibilityType.PUBLIC).emptyImplementation()
+            .buildParameter(new ClassType(List.class), "list").addGeneric(GenericFactory.create(new ClassType("a.s.d.Fgh"))).finish()
+            .buildParameter(new ClassType(Set.class), "set").addGeneric(GenericFactory.create(new ClassType("a.s.d.Fgh"))).finish()
+            .buildParameter(new ClassType(Map.class), "map").addGeneric(GenericFactory.create(new ClassType(String.class))).addGeneric(GenericFactory.create(new ClassType("a.s.d.Fgh"))).finish()
+            .finish();
+        
+        String code = new TestBeanProcessor(type, builder.build()).processType().getCode();
+        Assertions.assertTrue(code.contains("private static final Descriptor<Fgh> DESCRIPTOR_0 = new Descriptor<>(Fgh.class);"));
+        Assertions.assertTrue(code.contains("List<Fgh> list = engine.getBeanList(DESCRIPTOR_0);"));
+        Assertions.assertTrue(code.contains("Set<Fgh> set = engine.getBeanSet(DESCRIPTOR_0);"));
+        Assertions.assertTrue(code.contains("Map<String, Fgh> map = engine.getBeanMap(DESCRIPTOR_0);"));
+        Assertions.assertTrue(code.contains("declareDependency(DESCRIPTOR_0);"));
+        Assertions.assertFalse(code.contains("DESCRIPTOR_1"));
+    }
+    
+    /**
+     * Injected fields and methods are injected with straight-line code, retrieving the beans via their links
+     */
+    @Test
+    public void testFieldAndMethodInjection_Passes() {
+        ClassType type = new ClassType("q.w.e.Rty");
+        ClassBuilder builder = ClassBuilder.forConcreteClass(type).addAnnotation(JAnnotationFactory.create(Singleton.class));
+        builder.buildConstructor().setVisibility(VisibilityType.PUBLIC).emptyImplementation().finish();
+        builder.buildField(new ClassType("a.s.d.Fgh"), "field").setVisibility(VisibilityType.PACKAGE_PRIVATE).addAnnotation(JAnnotationFactory.create(Inject.class)).finish();
+        builder.buildMethod("method1").setVisibility(VisibilityType.PUBLIC).addAnnotation(JAnnotationFactory.create(Inject.class))
+            .buildParameter(new ClassType("a.s.d.Fgh"), "param").finish().emptyImplementation().finish();
+        builder.buildMethod("method2").setVisibility(VisibilityType.PUBLIC).addAnnotation(JAnnotationFactory.create(Inject.class))
+            .buildParameter(new ClassType("a.s.d.Fgh"), "param").finish().emptyImplementation().finish();
+        
+        String code = new TestBeanProcessor(type, builder.build()).processType().getCode();
+        Assertions.assertTrue(code.contains("private static final Descriptor<Fgh> DESCRIPTOR_0 = new Descriptor<>(Fgh.class);"));
+        Assertions.assertTrue(code.contains("declareDependency(DESCRIPTOR_0);"));
+        Assertions.assertTrue(code.contains("protected void injectDependencies(Rty consumer, Engine engine) {"));
+        Assertions.assertTrue(code.contains("consumer.field = getDependency(0);"));
+        Assertions.assertTrue(code.contains("Fgh param = getDependency(1);"));
+        Assertions.assertTrue(code.contains("consumer.method1(param);"));
+        Assertions.assertTrue(code.contains("Fgh param = getDependency(2);"));
+        Assertions.assertTrue(code.contains("consumer.method2(param);"));
+        Assertions.assertFalse(code.contains("Applicator"));
+        Assertions.assertFalse(code.contains("Injector"));
+    }
+    
+    /**
+     * The recipe generated for a bean with a parameterized dependency compiles without any warnings. The this-escape lint is excluded, as recipes declare their
+     * dependencies from within their constructors.
+     * 
+     * @throws IOException if the sources cannot be written
+     */
+    @Test
+    public void testParameterizedDependencyCompilesWithoutWarnings_Passes() throws IOException {
+        Path root = Files.createTempDirectory("tendril");
+        Path src = Files.createDirectories(root.resolve("src"));
+        Path pkg = Files.createDirectories(src.resolve("q/w/e"));
+        Files.writeString(pkg.resolve("Repo.java"), "package q.w.e;\npublic interface Repo<T> {}\n");
+        Files.writeString(pkg.resolve("Usr.java"), "package q.w.e;\npublic class Usr {}\n");
+        Files.writeString(pkg.resolve("UsrRepo.java"), "package q.w.e;\n@tendril.bean.Bean @tendril.bean.Singleton public class UsrRepo implements Repo<Usr> {}\n");
+        Files.writeString(pkg.resolve("Rty.java"), "package q.w.e;\n" +
+                "import tendril.bean.*;\n" +
+                "@Bean @Singleton public class Rty {\n" +
+                "    @Inject public Repo<Usr> field;\n" +
+                "    public Rty(Repo<Usr> param) {}\n" +
+                "    @Inject public void method(Repo<Usr> param) {}\n" +
+                "}\n");
+        
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+            List<String> options = List.of("-Xlint:all", "-Xlint:-this-escape", "-Xlint:-processing", "-classpath", System.getProperty("java.class.path"),
+                    "-processor", BeanProcessor.class.getName() + "," + RegistryProcessor.class.getName(),
+                    "-d", Files.createDirectories(root.resolve("classes")).toString(), "-s", Files.createDirectories(root.resolve("generated")).toString());
+            Iterable<? extends JavaFileObject> sources = fileManager.getJavaFileObjects(pkg.resolve("Repo.java"), pkg.resolve("Usr.java"), pkg.resolve("UsrRepo.java"), pkg.resolve("Rty.java"));
+            Assertions.assertTrue(compiler.getTask(null, fileManager, diagnostics, options, null, sources).call(), () -> diagnostics.getDiagnostics().toString());
+        }
+        
+        String code = Files.readString(root.resolve("generated/q/w/e/RtyRecipe.java"));
+        Assertions.assertTrue(code.contains("private static final Descriptor<?> DESCRIPTOR_0 = new Descriptor<>(Repo.class).withTypeArguments(\"q.w.e.Usr\");"));
+        for (Diagnostic<? extends JavaFileObject> d : diagnostics.getDiagnostics())
+            Assertions.assertNotEquals(Diagnostic.Kind.WARNING, d.getKind(), () -> d.toString());
+    }
 }
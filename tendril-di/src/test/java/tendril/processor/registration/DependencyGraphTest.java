@@ -0,0 +1,164 @@
+/*
+ * Copyright 2025 Jaroslav Bosak
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/license/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tendril.processor.registration;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import tendril.processor.registration.DependencyGraph.Issue;
+import tendril.processor.registration.RegistryIndex.Dependency;
+import tendril.processor.registration.RegistryIndex.DependencyKind;
+import tendril.processor.registration.RegistryIndex.Entry;
+import tendril.test.AbstractUnitTest;
+
+/**
+ * Test case for the {@link DependencyGraph}
+ */
+public class DependencyGraphTest extends AbstractUnitTest {
+
+    /**
+     * @see tendril.test.AbstractUnitTest#prepareTest()
+     */
+    @Override
+    protected void prepareTest() {
+        // Not required
+    }
+    
+    /**
+     * Create an entry for a bean
+     * 
+     * @param bean {@link String} name of the bean class
+     * @param name {@link String} name applied to the bean
+     * @param dependencies {@link Dependency}s of the bean
+     * @return {@link Entry} for the bean
+     */
+    private Entry entry(String bean, String name, Dependency... dependencies) {
+        return entry(bean, name, Collections.emptyList(), dependencies);
+    }
+    
+    /**
+     * Create an entry for a qualified bean
+     * 
+     * @param bean {@link String} name of the bean class
+     * @param name {@link String} name applied to the bean
+     * @param qualifiers {@link List} of {@link String} qualifiers applied to the bean
+     * @param dependencies {@link Dependency}s of the bean
+     * @return {@link Entry} for the bean
+     */
+    private Entry entry(String bean, String name, List<String> qualifiers, Dependency... dependencies) {
+        return new Entry(bean + "Recipe", bean, "tendril.bean.recipe.SingletonRecipe", name, qualifiers, Arrays.asList(bean, "a.Iface", "java.lang.Object"), Arrays.asList(dependencies));
+    }
+
+    /**
+     * Verify that dependencies are resolved by type and name
+     */
+    @Test
+    public void testResolve() {
+        Entry a = entry("a.A", "");
+        Entry b = entry("a.B", "b");
+        DependencyGraph graph = new DependencyGraph(Arrays.asList(a, b));
+        
+        Assertions.assertEquals(Arrays.asList(a), graph.resolve(new Dependency("a.A", "", DependencyKind.BEAN)));
+        Assertions.assertEquals(Arrays.asList(a, b), graph.resolve(new Dependency("a.Iface", "", DependencyKind.BEAN)));
+        Assertions.assertEquals(Arrays.asList(b), graph.resolve(new Dependency("a.Iface", "b", DependencyKind.BEAN)));
+        Assertions.assertEquals(Collections.emptyList(), graph.resolve(new Dependency("a.A", "b", DependencyKind.BEAN)));
+        Assertions.assertEquals(Collections.emptyList(), graph.resolve(new Dependency("a.C", "", DependencyKind.BEAN)));
+    }
+
+    /**
+     * Verify that the qualifiers of a dependency must all be present on the bean
+     */
+    @Test
+    public void testResolveQualified() {
+        Entry a = entry("a.A", "", Arrays.asList("a.Id.FIRST"));
+        Entry b = entry("a.B", "", Arrays.asList("a.Id.SECOND", "a.Other.X"));
+        DependencyGraph graph = new DependencyGraph(Arrays.asList(a, b));
+
+        Assertions.assertEquals(Arrays.asList(a, b), graph.resolve(new Dependency("a.Iface", "", DependencyKind.BEAN)));
+        Assertions.assertEquals(Arrays.asList(a), graph.resolve(new Dependency("a.Iface", "", Arrays.asList("a.Id.FIRST"), DependencyKind.BEAN)));
+        Assertions.assertEquals(Arrays.asList(b), graph.resolve(new Dependency("a.Iface", "", Arrays.asList("a.Id.SECOND"), DependencyKind.BEAN)));
+        Assertions.assertEquals(Arrays.asList(b), graph.resolve(new Dependency("a.Iface", "", Arrays.asList("a.Other.X", "a.Id.SECOND"), DependencyKind.BEAN)));
+        Assertions.assertEquals(Collections.emptyList(), graph.resolve(new Dependency("a.Iface", "", Arrays.asList("a.Id.FIRST", "a.Other.X"), DependencyKind.BEAN)));
+    }
+
+    /**
+     * Verify that valid dependencies raise no issues
+     */
+    @Test
+    public void testValid() {
+        Entry a = entry("a.A", "", new Dependency("a.B", "", DependencyKind.BEAN), new Dependency("a.B", "", DependencyKind.COLLECTION));
+        Entry b = entry("a.B", "b", new Dependency("a.A", "", DependencyKind.PROVIDER), new Dependency("a.C", "", DependencyKind.COLLECTION));
+        List<Entry> entries = Arrays.asList(a, b);
+        
+        Assertions.assertEquals(Collections.emptyList(), new DependencyGraph(entries).validate(entries));
+    }
+
+    /**
+     * Verify that missing dependencies are reported as warnings, and ambiguous ones as errors
+     */
+    @Test
+    public void testMissingAndAmbiguous() {
+        Entry a = entry("a.A", "", new Dependency("a.C", "", DependencyKind.BEAN));
+        Entry b = entry("a.B", "", new Dependency("a.Iface", "", DependencyKind.PROVIDER));
+        List<Entry> entries = Arrays.asList(a, b);
+        
+        List<Issue> issues = new DependencyGraph(entries).validate(entries);
+        Assertions.assertEquals(2, issues.size());
+        Assertions.assertEquals(a, issues.get(0).entry());
+        Assertions.assertFalse(issues.get(0).error());
+        Assertions.assertEquals(b, issues.get(1).entry());
+        Assertions.assertTrue(issues.get(1).error());
+    }
+
+    /**
+     * Verify that a cycle is reported against each bean which is being validated that is part of it
+     */
+    @Test
+    public void testCycle() {
+        Entry a = entry("a.A", "", new Dependency("a.B", "", DependencyKind.BEAN));
+        Entry b = entry("a.B", "", new Dependency("a.C", "", DependencyKind.BEAN));
+        Entry c = entry("a.C", "", new Dependency("a.A", "", DependencyKind.BEAN));
+        Entry d = entry("a.D", "", new Dependency("a.A", "", DependencyKind.BEAN));
+        DependencyGraph graph = new DependencyGraph(Arrays.asList(a, b, c, d));
+        
+        Assertions.assertEquals(Arrays.asList(Arrays.asList(a, b, c, a)), graph.findCycles());
+        
+        List<Issue> issues = graph.validate(Arrays.asList(a, b, d));
+        Assertions.assertEquals(2, issues.size());
+        Assertions.assertEquals(a, issues.get(0).entry());
+        Assertions.assertEquals(b, issues.get(1).entry());
+        for (Issue i: issues) {
+            Assertions.assertTrue(i.error());
+            Assertions.assertTrue(i.message().endsWith("a.A -> a.B -> a.C -> a.A"));
+        }
+    }
+
+    /**
+     * Verify that a provider breaks what would otherwise be a cycle
+     */
+    @Test
+    public void testProviderBreaksCycle() {
+        Entry a = entry("a.A", "", new Dependency("a.B", "", DependencyKind.BEAN));
+        Entry b = entry("a.B", "", new Dependency("a.A", "", DependencyKind.PROVIDER));
+        DependencyGraph graph = new DependencyGraph(Arrays.asList(a, b));
+        
+        Assertions.assertEquals(Collections.emptyList(), graph.findCycles());
+    }
+}
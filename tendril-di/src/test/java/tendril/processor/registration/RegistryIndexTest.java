@@ -0,0 +1,118 @@
+/*
+ * Copyright 2025 Jaroslav Bosak
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/license/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tendril.processor.registration;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import tendril.processor.registration.RegistryIndex.Dependency;
+import tendril.processor.registration.RegistryIndex.DependencyKind;
+import tendril.test.AbstractUnitTest;
+
+/**
+ * Test case for the {@link RegistryIndex}
+ */
+public class RegistryIndexTest extends AbstractUnitTest {
+
+    /**
+     * @see tendril.test.AbstractUnitTest#prepareTest()
+     */
+    @Override
+    protected void prepareTest() {
+        // Not required
+    }
+
+    /**
+     * Verify that written entries are read back as they were
+     * 
+     * @throws IOException not expected
+     */
+    @Test
+    public void testWriteAndParse() throws IOException {
+        List<RegistryIndex.Entry> entries = Arrays.asList(
+                new RegistryIndex.Entry("a.BeanRecipe", "a.Bean", "tendril.bean.recipe.SingletonRecipe", "", Arrays.asList("a.Bean", "a.Iface", "java.lang.Object")),
+                new RegistryIndex.Entry("a.OtherRecipe", "a.Other", "tendril.bean.recipe.FactoryRecipe", "name", Arrays.asList("a.Other", "a.Iface", "java.lang.Object")),
+                new RegistryIndex.Entry("a.PrimitiveRecipe", "a.Primitive", "tendril.bean.recipe.FactoryRecipe", "", Collections.emptyList()));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        RegistryIndex.write(entries, out);
+        Assertions.assertEquals(entries, RegistryIndex.parse(out.toByteArray()));
+    }
+
+    /**
+     * Verify that the qualifiers and dependencies are read back as they were written
+     * 
+     * @throws IOException not expected
+     */
+    @Test
+    public void testQualifiersAndDependencies() throws IOException {
+        List<RegistryIndex.Entry> entries = Arrays.asList(
+                new RegistryIndex.Entry("a.BeanRecipe", "a.Bean", "tendril.bean.recipe.SingletonRecipe", "", Arrays.asList("a.Id.FIRST"), Arrays.asList("a.Bean", "java.lang.Object"),
+                        Arrays.asList(new Dependency("a.Other", "name", Arrays.asList("a.Id.SECOND", "a.Kind.X"), DependencyKind.BEAN), new Dependency("a.Iface", "", DependencyKind.COLLECTION))),
+                new RegistryIndex.Entry("a.OtherRecipe", "a.Other", "tendril.bean.recipe.FactoryRecipe", "name", Arrays.asList("a.Id.SECOND", "a.Kind.X"), Arrays.asList("a.Other", "a.Iface", "java.lang.Object"),
+                        Arrays.asList(new Dependency("a.Bean", "", DependencyKind.PROVIDER))));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        RegistryIndex.write(entries, out);
+        Assertions.assertEquals(entries, RegistryIndex.parse(out.toByteArray()));
+    }
+
+    /**
+     * Verify that an index of any other version is rejected
+     * 
+     * @throws IOException not expected
+     */
+    @Test
+    public void testUnsupportedVersion() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(0x5444524C);
+        data.writeShort(2);
+        data.writeInt(0);
+        data.writeInt(0);
+        data.flush();
+        
+        Assertions.assertThrows(IOException.class, () -> RegistryIndex.parse(out.toByteArray()));
+    }
+
+    /**
+     * Verify that an empty index can be written and read
+     * 
+     * @throws IOException not expected
+     */
+    @Test
+    public void testEmpty() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        RegistryIndex.write(Collections.emptyList(), out);
+        Assertions.assertEquals(Collections.emptyList(), RegistryIndex.parse(out.toByteArray()));
+    }
+
+    /**
+     * Verify that data which is not an index is rejected
+     */
+    @Test
+    public void testInvalidData() {
+        Assertions.assertThrows(IOException.class, () -> RegistryIndex.parse(new byte[] { 1, 2, 3, 4, 0, 1 }));
+        Assertions.assertThrows(IOException.class, () -> RegistryIndex.parse(new byte[0]));
+    }
+}
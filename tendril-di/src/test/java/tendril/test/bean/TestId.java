@@ -0,0 +1,30 @@
+/*
+ * Copyright 2025 Jaroslav Bosak
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/license/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tendril.test.bean;
+
+import tendril.bean.qualifier.BeanId;
+
+/**
+ * Bean ID enumeration to use for testing
+ */
+public enum TestId implements BeanId {
+    /** First ID */
+    FIRST,
+    /** Second ID */
+    SECOND,
+    /** Third ID */
+    THIRD
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2025 Jaroslav Bosak
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/license/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tendril.test.recipe;
+
+import java.util.List;
+
+import tendril.bean.recipe.Descriptor;
+import tendril.bean.recipe.SingletonRecipe;
+import tendril.context.Engine;
+
+/**
+ * Recipes to use for testing the eager creation of singletons which are part of a dependency cycle. The dependencies between the beans are:
+ * 
+ * <ul>
+ *      <li>{@link FirstBean} - depends on {@link SecondBean}</li>
+ *      <li>{@link SecondBean} - depends on {@link FirstBean}</li>
+ *      <li>{@link CycleDependentBean} - depends on {@link FirstBean} (but is not itself part of the cycle)</li>
+ * </ul>
+ */
+public class CyclicTestRecipes {
+
+    /** Singleton bean which depends on the {@link SecondBean} */
+    public static class FirstBean {
+    }
+    
+    /** Singleton bean which depends on the {@link FirstBean} */
+    public static class SecondBean {
+    }
+    
+    /** Singleton bean which depends on the {@link FirstBean}, without being part of the cycle */
+    public static class CycleDependentBean {
+    }
+
+    /**
+     * Recipe for the {@link FirstBean}
+     */
+    public static class FirstRecipe extends SingletonRecipe<FirstBean> {
+        public FirstRecipe(Engine engine) {
+            super(engine, new Descriptor<>(FirstBean.class), new Descriptor<>(SecondBean.class));
+        }
+
+        @Override
+        protected Descriptor<FirstBean> setupDescriptor(Descriptor<FirstBean> descriptor) {
+            return descriptor;
+        }
+
+        @Override
+        protected FirstBean createInstance(Engine engine) {
+            engine.getBean(new Descriptor<>(SecondBean.class));
+            return new FirstBean();
+        }
+    }
+
+    /**
+     * Recipe for the {@link SecondBean}
+     */
+    public static class SecondRecipe extends SingletonRecipe<SecondBean> {
+        public SecondRecipe(Engine engine) {
+            super(engine, new Descriptor<>(SecondBean.class), new Descriptor<>(FirstBean.class));
+        }
+
+        @Override
+        protected Descriptor<SecondBean> setupDescriptor(Descriptor<SecondBean> descriptor) {
+            return descriptor;
+        }
+
+        @Override
+        protected SecondBean createInstance(Engine engine) {
+            engine.getBean(new Descriptor<>(FirstBean.class));
+            return new SecondBean();
+        }
+    }
+
+    /**
+     * Recipe for the {@link CycleDependentBean}
+     */
+    public static class CycleDependentRecipe extends SingletonRecipe<CycleDependentBean> {
+        public CycleDependentRecipe(Engine engine) {
+            super(engine, new Descriptor<>(CycleDependentBean.class), new Descriptor<>(FirstBean.class));
+        }
+
+        @Override
+        protected Descriptor<CycleDependentBean> setupDescriptor(Descriptor<CycleDependentBean> descriptor) {
+            return descriptor;
+        }
+
+        @Override
+        protected CycleDependentBean createInstance(Engine engine) {
+            engine.getBean(new Descriptor<>(FirstBean.class));
+            return new CycleDependentBean();
+        }
+    }
+    
+    /**
+     * Get the names of all of the recipes
+     * 
+     * @return {@link List} of {@link String}s containing the names of the recipe classes
+     */
+    public static List<String> getRecipeNames() {
+        return List.of(FirstRecipe.class.getName(), SecondRecipe.class.getName(), CycleDependentRecipe.class.getName());
+    }
+    
+    /**
+     * CTOR - hidden as this is only a holder of the test recipes
+     */
+    private CyclicTestRecipes() {
+    }
+}
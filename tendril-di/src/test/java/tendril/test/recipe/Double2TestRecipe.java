@@ -42,8 +42,8 @@ public class Double2TestRecipe extends AbstractRecipe<Double> {
      * @see tendril.bean.recipe.AbstractRecipe#setupDescriptor(tendril.bean.recipe.Descriptor)
      */
     @Override
-    protected void setupDescriptor(Descriptor<Double> descriptor) {
-        descriptor.setName(NAME);
+    protected Descriptor<Double> setupDescriptor(Descriptor<Double> descriptor) {
+        return descriptor.withName(NAME);
     }
 
     /**
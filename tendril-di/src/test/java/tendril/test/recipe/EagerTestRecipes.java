@@ -0,0 +1,186 @@
+/*
+ * Copyright 2025 Jaroslav Bosak
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/license/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tendril.test.recipe;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import tendril.bean.recipe.Descriptor;
+import tendril.bean.recipe.FactoryRecipe;
+import tendril.bean.recipe.SingletonRecipe;
+import tendril.context.Engine;
+
+/**
+ * Recipes to use for testing the eager creation of singletons. The dependencies between the beans are:
+ * 
+ * <ul>
+ *      <li>{@link RootBean} - no dependencies</li>
+ *      <li>{@link FactoryBean} - depends on {@link RootBean}</li>
+ *      <li>{@link DependentBean} - depends on {@link FactoryBean} (and thus indirectly on {@link RootBean})</li>
+ *      <li>{@link IndependentBean} - no dependencies</li>
+ * </ul>
+ * 
+ * Where a {@link #barrier} is set, the {@link RootBean} and {@link IndependentBean} both wait on it during their creation, such that they can only be created if they
+ * are created in parallel.
+ */
+public class EagerTestRecipes {
+    
+    /** The beans in the order in which they were created */
+    public static final List<Object> CREATED = Collections.synchronizedList(new ArrayList<>());
+    /** Barrier which the beans without dependencies wait on during their creation (null to not wait) */
+    public static volatile CyclicBarrier barrier = null;
+
+    /** Singleton bean without any dependencies */
+    public static class RootBean {
+    }
+    
+    /** Factory bean which depends on the {@link RootBean} */
+    public static class FactoryBean {
+    }
+    
+    /** Singleton bean which depends on the {@link FactoryBean} */
+    public static class DependentBean {
+    }
+    
+    /** Singleton bean without any dependencies */
+    public static class IndependentBean {
+    }
+
+    /**
+     * Recipe for the {@link RootBean}
+     */
+    public static class RootRecipe extends SingletonRecipe<RootBean> {
+        public RootRecipe(Engine engine) {
+            super(engine, RootBean.class);
+        }
+
+        @Override
+        protected Descriptor<RootBean> setupDescriptor(Descriptor<RootBean> descriptor) {
+            return descriptor;
+        }
+
+        @Override
+        protected RootBean createInstance(Engine engine) {
+            awaitBarrier();
+            RootBean bean = new RootBean();
+            CREATED.add(bean);
+            return bean;
+        }
+    }
+
+    /**
+     * Recipe for the {@link FactoryBean}
+     */
+    public static class FactoryBeanRecipe extends FactoryRecipe<FactoryBean> {
+        public FactoryBeanRecipe(Engine engine) {
+            super(engine, FactoryBean.class);
+            declareDependency(new Descriptor<>(RootBean.class));
+        }
+
+        @Override
+        protected Descriptor<FactoryBean> setupDescriptor(Descriptor<FactoryBean> descriptor) {
+            return descriptor;
+        }
+
+        @Override
+        protected FactoryBean createInstance(Engine engine) {
+            engine.getBean(new Descriptor<>(RootBean.class));
+            FactoryBean bean = new FactoryBean();
+            CREATED.add(bean);
+            return bean;
+        }
+    }
+
+    /**
+     * Recipe for the {@link DependentBean}
+     */
+    public static class DependentRecipe extends SingletonRecipe<DependentBean> {
+        public DependentRecipe(Engine engine) {
+            super(engine, DependentBean.class);
+            declareDependency(new Descriptor<>(FactoryBean.class));
+        }
+
+        @Override
+        protected Descriptor<DependentBean> setupDescriptor(Descriptor<DependentBean> descriptor) {
+            return descriptor;
+        }
+
+        @Override
+        protected DependentBean createInstance(Engine engine) {
+            engine.getBean(new Descriptor<>(FactoryBean.class));
+            DependentBean bean = new DependentBean();
+            CREATED.add(bean);
+            return bean;
+        }
+    }
+
+    /**
+     * Recipe for the {@link IndependentBean}
+     */
+    public static class IndependentRecipe extends SingletonRecipe<IndependentBean> {
+        public IndependentRecipe(Engine engine) {
+            super(engine, IndependentBean.class);
+        }
+
+        @Override
+        protected Descriptor<IndependentBean> setupDescriptor(Descriptor<IndependentBean> descriptor) {
+            return descriptor;
+        }
+
+        @Override
+        protected IndependentBean createInstance(Engine engine) {
+            awaitBarrier();
+            IndependentBean bean = new IndependentBean();
+            CREATED.add(bean);
+            return bean;
+        }
+    }
+    
+    /**
+     * Wait on the {@link #barrier} (if any), failing if the other party does not arrive in time
+     */
+    private static void awaitBarrier() {
+        CyclicBarrier current = barrier;
+        if (current == null)
+            return;
+        
+        try {
+            current.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException | BrokenBarrierException | TimeoutException e) {
+            throw new IllegalStateException("Beans were not created in parallel", e);
+        }
+    }
+    
+    /**
+     * Get the names of all of the recipes
+     * 
+     * @return {@link List} of {@link String}s containing the names of the recipe classes
+     */
+    public static List<String> getRecipeNames() {
+        return List.of(RootRecipe.class.getName(), FactoryBeanRecipe.class.getName(), DependentRecipe.class.getName(), IndependentRecipe.class.getName());
+    }
+    
+    /**
+     * CTOR - hidden as this is only a holder of the test recipes
+     */
+    private EagerTestRecipes() {
+    }
+}
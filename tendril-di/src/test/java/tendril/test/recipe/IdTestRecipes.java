@@ -0,0 +1,110 @@
+/*
+ * Copyright 2025 Jaroslav Bosak
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/license/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tendril.test.recipe;
+
+import tendril.bean.recipe.AbstractRecipe;
+import tendril.bean.recipe.Descriptor;
+import tendril.context.Engine;
+import tendril.test.bean.TestId;
+
+/**
+ * Recipes to use for testing the retrieval of beans by their {@link TestId}. {@link Long} beans are produced for {@link TestId#FIRST} and {@link TestId#SECOND},
+ * with no bean for {@link TestId#THIRD}.
+ */
+public class IdTestRecipes {
+
+    /**
+     * Recipe for the {@link TestId#FIRST} bean
+     */
+    public static class FirstRecipe extends AbstractRecipe<Long> {
+        /** The value that the recipe produces */
+        public static final Long VALUE = 1L;
+
+        /**
+         * CTOR
+         * 
+         * @param engine {@link Engine} in which the recipe is to be registered
+         */
+        public FirstRecipe(Engine engine) {
+            super(engine, Long.class);
+        }
+
+        /**
+         * @see tendril.bean.recipe.AbstractRecipe#setupDescriptor(tendril.bean.recipe.Descriptor)
+         */
+        @Override
+        protected Descriptor<Long> setupDescriptor(Descriptor<Long> descriptor) {
+            return descriptor.withId(TestId.FIRST);
+        }
+
+        /**
+         * @see tendril.bean.recipe.AbstractRecipe#get()
+         */
+        @Override
+        public Long get() {
+            return VALUE;
+        }
+
+        /**
+         * @see tendril.bean.recipe.AbstractRecipe#createInstance(tendril.context.Engine)
+         */
+        @Override
+        protected Long createInstance(Engine engine) {
+            return VALUE;
+        }
+    }
+
+    /**
+     * Recipe for the {@link TestId#SECOND} bean
+     */
+    public static class SecondRecipe extends AbstractRecipe<Long> {
+        /** The value that the recipe produces */
+        public static final Long VALUE = 2L;
+
+        /**
+         * CTOR
+         * 
+         * @param engine {@link Engine} in which the recipe is to be registered
+         */
+        public SecondRecipe(Engine engine) {
+            super(engine, Long.class);
+        }
+
+        /**
+         * @see tendril.bean.recipe.AbstractRecipe#setupDescriptor(tendril.bean.recipe.Descriptor)
+         */
+        @Override
+        protected Descriptor<Long> setupDescriptor(Descriptor<Long> descriptor) {
+            return descriptor.withId(TestId.SECOND);
+        }
+
+        /**
+         * @see tendril.bean.recipe.AbstractRecipe#get()
+         */
+        @Override
+        public Long get() {
+            return VALUE;
+        }
+
+        /**
+         * @see tendril.bean.recipe.AbstractRecipe#createInstance(tendril.context.Engine)
+         */
+        @Override
+        protected Long createInstance(Engine engine) {
+            return VALUE;
+        }
+    }
+}
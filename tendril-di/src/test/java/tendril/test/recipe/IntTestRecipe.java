@@ -40,8 +40,8 @@ public class IntTestRecipe extends AbstractRecipe<Integer> {
      * @see tendril.bean.recipe.AbstractRecipe#setupDescriptor(tendril.bean.recipe.Descriptor)
      */
     @Override
-    protected void setupDescriptor(Descriptor<Integer> descriptor) {
-        
+    protected Descriptor<Integer> setupDescriptor(Descriptor<Integer> descriptor) {
+        return descriptor;
     }
 
     /**
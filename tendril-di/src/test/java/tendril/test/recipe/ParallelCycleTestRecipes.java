@@ -0,0 +1,113 @@
+/*
+ * Copyright 2025 Jaroslav Bosak
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://opensource.org/license/MIT
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package tendril.test.recipe;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import tendril.bean.recipe.Descriptor;
+import tendril.bean.recipe.SingletonRecipe;
+import tendril.context.Engine;
+
+/**
+ * Recipes to use for testing the eager creation of singletons which require each other, without declaring it as a dependency (i.e.: as the {@link tendril.bean.PostConstruct}
+ * method of each retrieves the other via a {@link tendril.bean.Provider}). As the singletons appear to be independent they are created in parallel, with the creation
+ * of each only requesting the other once both are being created.
+ */
+public class ParallelCycleTestRecipes {
+    
+    /** Latch which both beans wait on during their creation, such that each requests the other while the other is being created */
+    private static final CountDownLatch LATCH = new CountDownLatch(2);
+
+    /** Singleton bean which requires the {@link SecondBean} for its creation */
+    public static class FirstBean {
+    }
+    
+    /** Singleton bean which requires the {@link FirstBean} for its creation */
+    public static class SecondBean {
+    }
+
+    /**
+     * Recipe for the {@link FirstBean}
+     */
+    public static class FirstRecipe extends SingletonRecipe<FirstBean> {
+        public FirstRecipe(Engine engine) {
+            super(engine, FirstBean.class);
+        }
+
+        @Override
+        protected Descriptor<FirstBean> setupDescriptor(Descriptor<FirstBean> descriptor) {
+            return descriptor;
+        }
+
+        @Override
+        protected FirstBean createInstance(Engine engine) {
+            awaitLatch();
+            engine.getBean(new Descriptor<>(SecondBean.class));
+            return new FirstBean();
+        }
+    }
+
+    /**
+     * Recipe for the {@link SecondBean}
+     */
+    public static class SecondRecipe extends SingletonRecipe<SecondBean> {
+        public SecondRecipe(Engine engine) {
+            super(engine, SecondBean.class);
+        }
+
+        @Override
+        protected Descriptor<SecondBean> setupDescriptor(Descriptor<SecondBean> descriptor) {
+            return descriptor;
+        }
+
+        @Override
+        protected SecondBean createInstance(Engine engine) {
+            awaitLatch();
+            engine.getBean(new Descriptor<>(FirstBean.class));
+            return new SecondBean();
+        }
+    }
+    
+    /**
+     * Count down the {@link #LATCH} and wait on it, failing if the other bean does not arrive in time
+     */
+    private static void awaitLatch() {
+        LATCH.countDown();
+        try {
+            if (!LATCH.await(5, TimeUnit.SECONDS))
+                throw new IllegalStateException("Beans were not created in parallel");
+        } catch (InterruptedException e) {
+            throw new IllegalStateException("Beans were not created in parallel", e);
+        }
+    }
+    
+    /**
+     * Get the names of all of the recipes
+     * 
+     * @return {@link List} of {@link String}s containing the names of the recipe classes
+     */
+    public static List<String> getRecipeNames() {
+        return List.of(FirstRecipe.class.getName(), SecondRecipe.class.getName());
+    }
+    
+    /**
+     * CTOR - hidden as this is only a holder of the test recipes
+     */
+    private ParallelCycleTestRecipes() {
+    }
+}
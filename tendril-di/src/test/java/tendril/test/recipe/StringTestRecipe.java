@@ -40,8 +40,8 @@ public class StringTestRecipe extends AbstractRecipe<String> {
      * @see tendril.bean.recipe.AbstractRecipe#setupDescriptor(tendril.bean.recipe.Descriptor)
      */
     @Override
-    protected void setupDescriptor(Descriptor<String> descriptor) {
-        
+    protected Descriptor<String> setupDescriptor(Descriptor<String> descriptor) {
+        return descriptor;
     }
 
     /**
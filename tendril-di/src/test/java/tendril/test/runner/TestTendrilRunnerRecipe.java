@@ -37,8 +37,8 @@ public class TestTendrilRunnerRecipe extends AbstractRecipe<TestTendrilRunner> {
      * @see tendril.bean.recipe.AbstractRecipe#setupDescriptor(tendril.bean.recipe.Descriptor)
      */
     @Override
-    protected void setupDescriptor(Descriptor<TestTendrilRunner> descriptor) {
-        
+    protected Descriptor<TestTendrilRunner> setupDescriptor(Descriptor<TestTendrilRunner> descriptor) {
+        return descriptor;
     }
 
     /**